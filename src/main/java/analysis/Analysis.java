@@ -14,6 +14,7 @@ public class Analysis extends NQJElement.DefaultVisitor {
     private final List<TypeError> typeErrors = new ArrayList<>();
     private NameTable nameTable;
     private final LinkedList<TypeContext> ctxt = new LinkedList<>();
+    private final Set<NQJTypeClass> undefinedClassTypes = new HashSet<>();
 
     public void addError(NQJElement element, String message) {
         typeErrors.add(new TypeError(element, message));
@@ -35,11 +36,124 @@ public class Analysis extends NQJElement.DefaultVisitor {
         prog.accept(this);
     }
 
+    /**
+     * Checks the global declarations: classes, their members and the signatures of all
+     * functions and methods. The bodies can then be checked one at a time
+     * with {@link #checkFunction(NQJFunctionDecl)}.
+     */
+    public void checkDeclarations() {
+        checkGlobalDeclarations();
+
+        for (NQJClassDecl classDecl : prog.getClassDecls()) {
+            // only classes, which aren't affected by cyclic inheritance, are checked
+            if (nameTable.getClassType(classDecl.getName()) instanceof ClassType) {
+                for (var m : classDecl.getMethods()) {
+                    typeSignature(m);
+                }
+            }
+        }
+        for (NQJFunctionDecl f : prog.getFunctionDecls()) {
+            typeSignature(f);
+        }
+        // resolve the remaining type annotations in bodies,
+        // so that the translator can declare all array types up front
+        typeAnnotations(prog);
+    }
+
+    /*
+     * builds the name table and checks the signature of main and the fields of the classes.
+     */
+    void checkGlobalDeclarations() {
+        nameTable = new NameTable(this, prog);
+
+        // the body of main is checked with the other bodies
+        verifyMainSignature();
+
+        for (NQJClassDecl classDecl : prog.getClassDecls()) {
+            var classType = nameTable.getClassType(classDecl.getName());
+            // only classes, which aren't affected by cyclic inheritance, are checked
+            if (classType instanceof ClassType) {
+                for (NQJVarDecl v : ((ClassType) classType).getFields()) {
+                    type(v.getType());
+                }
+            }
+        }
+    }
+
+    /*
+     * resolves all type annotations in an element, like the signature and the body of
+     * a function. Undefined classes are reported once per annotation.
+     */
+    void typeAnnotations(NQJElement element) {
+        element.accept(new NQJElement.DefaultVisitor() {
+            @Override
+            public void visit(NQJTypeArray typeArray) {
+                type(typeArray);
+            }
+
+            @Override
+            public void visit(NQJTypeClass typeClass) {
+                type(typeClass);
+            }
+
+            @Override
+            public void visit(NQJTypeInt typeInt) {
+                type(typeInt);
+            }
+
+            @Override
+            public void visit(NQJTypeBool typeBool) {
+                type(typeBool);
+            }
+        });
+    }
+
+    private void typeSignature(NQJFunctionDecl f) {
+        type(f.getReturnType());
+        for (NQJVarDecl v : f.getFormalParameters()) {
+            type(v.getType());
+        }
+    }
+
+    /**
+     * Checks the body of a single function or method.
+     * The declarations must have been checked before.
+     */
+    public void checkFunction(NQJFunctionDecl f) {
+        NQJElement owner = f.getParent() == null ? null : f.getParent().getParent();
+        if (!(owner instanceof NQJClassDecl)) {
+            f.accept(this);
+            if (f == nameTable.lookupFunction("main")) {
+                verifyMainReturn(f);
+            }
+            return;
+        }
+        var classType = nameTable.getClassType(((NQJClassDecl) owner).getName());
+        if (classType instanceof ClassType) {
+            // enter class context
+            ctxt.push(classContext(classType));
+            f.accept(this);
+            // exit class context
+            ctxt.pop();
+        }
+    }
+
+    public boolean hasTypeErrors() {
+        return !typeErrors.isEmpty();
+    }
+
     private void verifyMainMethod() {
+        var main = verifyMainSignature();
+        if (main != null) {
+            verifyMainReturn(main);
+        }
+    }
+
+    private NQJFunctionDecl verifyMainSignature() {
         var main = nameTable.lookupFunction("main");
         if (main == null) {
             typeErrors.add(new TypeError(prog, "Method int main() must be present"));
-            return;
+            return null;
         }
         if (!(main.getReturnType() instanceof NQJTypeInt)) {
             typeErrors.add(new TypeError(main.getReturnType(),
@@ -49,6 +163,10 @@ public class Analysis extends NQJElement.DefaultVisitor {
             typeErrors.add(new TypeError(main.getFormalParameters(),
                     "Main method does not take parameters"));
         }
+        return main;
+    }
+
+    private void verifyMainReturn(NQJFunctionDecl main) {
         // Check if return statement is there as the last statement
         NQJStatement last = null;
         for (NQJStatement nqjStatement : main.getMethodBody()) {
@@ -71,7 +189,7 @@ public class Analysis extends NQJElement.DefaultVisitor {
         // parameter names are unique, build context
         TypeContext mctxt = this.ctxt.isEmpty()
                 ? new TypeContextImpl(null, Type.INVALID)
-                : this.ctxt.peek().copy();
+                : this.ctxt.peek().functionScope();
         Set<String> paramNames = new HashSet<>();
         for (NQJVarDecl v : m.getFormalParameters()) {
             if (!paramNames.add(v.getName())) {
@@ -168,16 +286,12 @@ public class Analysis extends NQJElement.DefaultVisitor {
         var classType = nameTable.getClassType(classDecl.getName());
         // only classes, which aren't affected by cyclic inheritance, are visited
         if (classType instanceof ClassType) {
-            TypeContext mctxt = this.ctxt.isEmpty()
-                    ? new TypeContextImpl(Type.INVALID, null)
-                    : this.ctxt.peek().copy();
             // set matched type to NQJ node type
             for (NQJVarDecl v : ((ClassType) classType).getFields()) {
                 type(v.getType());
             }
-            mctxt.setThisType(classType);
             // enter class context
-            ctxt.push(mctxt);
+            ctxt.push(classContext(classType));
             for (var m : classDecl.getMethods()) {
                 m.accept(this);
             }
@@ -186,6 +300,14 @@ public class Analysis extends NQJElement.DefaultVisitor {
         }
     }
 
+    private TypeContext classContext(Type classType) {
+        TypeContext mctxt = this.ctxt.isEmpty()
+                ? new TypeContextImpl(Type.INVALID, null)
+                : this.ctxt.peek().copy();
+        mctxt.setThisType(classType);
+        return mctxt;
+    }
+
     public Type checkExpr(TypeContext ctxt, NQJExpr e) {
         return e.match(new ExprChecker(this, ctxt));
     }
@@ -208,7 +330,15 @@ public class Analysis extends NQJElement.DefaultVisitor {
 
             @Override
             public Type case_TypeClass(NQJTypeClass typeClass) {
-                return nameTable.getClassType(typeClass.getName());
+                var classType = nameTable.getClassType(typeClass.getName());
+                if (classType == null) {
+                    // annotations can be resolved more than once, report each only once
+                    if (undefinedClassTypes.add(typeClass)) {
+                        addError(typeClass, "Class " + typeClass.getName() + " is not defined.");
+                    }
+                    return Type.ANY;
+                }
+                return classType;
             }
 
             @Override
@@ -223,7 +353,10 @@ public class Analysis extends NQJElement.DefaultVisitor {
 
         });
 
-        type.setType(result);
+        // only write on change, shared declarations like builtins are already typed
+        if (type.getType() != result) {
+            type.setType(result);
+        }
         return result;
     }
 
@@ -234,4 +367,14 @@ public class Analysis extends NQJElement.DefaultVisitor {
     public List<TypeError> getTypeErrors() {
         return new ArrayList<>(typeErrors);
     }
+
+    /*
+     * returns the errors found so far and forgets them, for analyses checking parts
+     * of a program again.
+     */
+    List<TypeError> takeTypeErrors() {
+        List<TypeError> result = new ArrayList<>(typeErrors);
+        typeErrors.clear();
+        return result;
+    }
 }
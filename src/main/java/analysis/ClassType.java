@@ -2,8 +2,10 @@ package analysis;
 
 import notquitejava.ast.*;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 /**
@@ -14,8 +16,15 @@ public class ClassType extends Type {
     private Analysis analysis;
     private String extendedName;
     private NQJClassDecl classDecl;
-    private Map<String, NQJVarDecl> fields = new HashMap<String, NQJVarDecl>();
-    private Map<String, NQJFunctionDecl> methods = new HashMap<String, NQJFunctionDecl>();
+    // members declared in this class only, inherited members are looked up in the superclass.
+    // The tables are keyed by the interned names, see IdentifierTable
+    private Map<String, NQJVarDecl> fields = new IdentityHashMap<>();
+    private Map<String, NQJFunctionDecl> methods = new IdentityHashMap<>();
+    private ClassType superClassType;
+    // position in the class hierarchy, see NameTable
+    private int preOrder = -1;
+    private int postOrder = -1;
+    private boolean extendsCycle;
 
     /**
      * Class constructor specifying class declaration to translate.
@@ -33,13 +42,23 @@ public class ClassType extends Type {
     boolean isSubtypeOf(Type other) {
         if (other instanceof ClassType) {
             ClassType ct = (ClassType) other;
-            /* true if they are of same type or if "ct" is a subtype of superclass  */
-            return getName().equals(ct.getName())
-                    || (getExtendedType() != null && getExtendedType().isSubtypeOf(ct));
+            /* true if they are of same type or if "ct" is a superclass (intervals of NameTable) */
+            return this == ct
+                    || extendsCycle
+                    || (ct.preOrder <= preOrder && postOrder <= ct.postOrder && preOrder >= 0);
         }
         return other == ANY;
     }
 
+    void setPreOrder(int preOrder, boolean extendsCycle) {
+        this.preOrder = preOrder;
+        this.extendsCycle = extendsCycle;
+    }
+
+    void setPostOrder(int postOrder) {
+        this.postOrder = postOrder;
+    }
+
     @Override
     public String toString() {
         return name;
@@ -49,79 +68,131 @@ public class ClassType extends Type {
         return name;
     }
 
+    String getExtendedName() {
+        return extendedName;
+    }
+
     public Type getExtendedType() {
         return extendedName == null ? null : analysis.getNameTable().getClassType(extendedName);
     }
 
+    /**
+     * Looks up a field declared in this class or inherited from a superclass.
+     */
     public NQJVarDecl getField(String name) {
         this.load();
-        return fields.get(name);
+        for (ClassType t = this; t != null; t = t.superClassType) {
+            NQJVarDecl field = t.fields.get(name);
+            if (field != null) {
+                return field;
+            }
+        }
+        return null;
     }
 
+    /**
+     * All fields of this class, including inherited fields which are not shadowed.
+     */
     public Collection<NQJVarDecl> getFields() {
         this.load();
-        return fields.values();
+        Map<String, NQJVarDecl> result = new HashMap<>();
+        for (ClassType t = this; t != null; t = t.superClassType) {
+            for (var field : t.classDecl.getFields()) {
+                if (t.fields.get(field.getName()) == field) {
+                    result.putIfAbsent(field.getName(), field);
+                }
+            }
+        }
+        return result.values();
     }
 
+    /**
+     * Looks up a method declared in this class or inherited from a superclass.
+     */
     public NQJFunctionDecl getMethod(String name) {
         this.load();
-        return methods.get(name);
+        for (ClassType t = this; t != null; t = t.superClassType) {
+            NQJFunctionDecl method = t.methods.get(name);
+            if (method != null) {
+                return method;
+            }
+        }
+        return null;
     }
 
+    /**
+     * All methods of this class, including inherited methods which are not overridden.
+     */
     public Collection<NQJFunctionDecl> getMethods() {
         this.load();
-        return methods.values();
+        Map<String, NQJFunctionDecl> result = new HashMap<>();
+        for (ClassType t = this; t != null; t = t.superClassType) {
+            for (var method : t.classDecl.getMethods()) {
+                if (t.methods.get(method.getName()) == method) {
+                    result.putIfAbsent(method.getName(), method);
+                }
+            }
+        }
+        return result.values();
     }
 
     private boolean loaded = false;
 
+    /*
+     * builds the member tables of this class and its superclasses, starting at the root.
+     * Each table only contains the members declared in its class and points to the table
+     * of the superclass, so every class is processed exactly once.
+     */
     private void load() {
-        if (loaded) {
-            return;
+        var unloaded = new ArrayDeque<ClassType>();
+        for (ClassType t = this; t != null && !t.loaded; t = t.validSuperClassType()) {
+            unloaded.push(t);
         }
+        while (!unloaded.isEmpty()) {
+            unloaded.pop().loadOwnMembers();
+        }
+    }
+
+    // the superclass, unless it is undefined or invalid because of cyclic inheritance
+    private ClassType validSuperClassType() {
+        Type extended = getExtendedType();
+        return extended instanceof ClassType ? (ClassType) extended : null;
+    }
+
+    private void loadOwnMembers() {
         this.loaded = true;
-        var current = this.classDecl;
-        boolean isNotSuperClass = true; // true if current is this.classDecl
-        while (current != null) {
-            if (!(analysis.getNameTable().getClassType(current.getName()) instanceof ClassType)) {
-                break; // The class declaration is invalid, because of cyclic inheritance
+        this.superClassType = validSuperClassType();
+        for (int i = classDecl.getFields().size() - 1; i >= 0; i--) {
+            NQJVarDecl v = classDecl.getFields().get(i);
+            // check if the current class already contains a field with the same name
+            if (fields.containsKey(v.getName())) {
+                analysis.addError(v,
+                        "Attribute with name " + v.getName() + " already exists.");
             }
-            for (int i = current.getFields().size() - 1; i >= 0; i--) {
-                NQJVarDecl v = current.getFields().get(i);
-                // check if the current class already contains a field with the same name
-                if (isNotSuperClass && fields.containsKey(v.getName())) {
-                    analysis.addError(v,
-                            "Attribute with name " + v.getName() + " already exists.");
-                }
-                /*
-                * override the attributes of superclass,
-                * because they aren't important for type analysis
-                */
-                if (!(!isNotSuperClass && fields.containsKey(v.getName()))) {
-                    fields.put(v.getName(), v);
-                }
+            // fields of superclasses are shadowed, because they aren't important for type analysis
+            fields.put(v.getName(), v);
+        }
+        for (int i = classDecl.getMethods().size() - 1; i >= 0; i--) {
+            NQJFunctionDecl v = classDecl.getMethods().get(i);
+            // check if the current class already contains a method with the same name
+            if (methods.containsKey(v.getName())) {
+                analysis.addError(v, "Method with name " + v.getName() + " already exists.");
             }
-            for (int i = current.getMethods().size() - 1; i >= 0; i--) {
-                NQJFunctionDecl v = current.getMethods().get(i);
-                // check if the current class already contains a method with the same name
-                if (isNotSuperClass && methods.containsKey(v.getName())) {
-                    analysis.addError(v, "Method with name " + v.getName() + " already exists.");
-                }
-                // check if a method with same name already exists in a subclass
-                if (!isNotSuperClass && methods.containsKey(v.getName())) {
-                    // check if the signatures match
-                    if (!overridable(methods.get(v.getName()), v)) {
-                        analysis.addError(methods.get(v.getName()),
-                                "Signature is not compatible with "
-                                        + "methods in superclasses with the same name");
-                    }
-                }
-                if (!(!isNotSuperClass && methods.containsKey(v.getName()))) {
-                    methods.put(v.getName(), v);
-                }
+            methods.put(v.getName(), v);
+        }
+        if (superClassType == null) {
+            return;
+        }
+        // check once for each overriding method that the signatures match
+        for (NQJFunctionDecl v : classDecl.getMethods()) {
+            if (methods.get(v.getName()) != v) {
+                continue;
+            }
+            NQJFunctionDecl overridden = superClassType.getMethod(v.getName());
+            if (overridden != null && !overridable(v, overridden)) {
+                analysis.addError(v, "Signature is not compatible with "
+                        + "methods in superclasses with the same name");
             }
-            isNotSuperClass = false;
-            current = current.getDirectSuperClass();
         }
     }
 
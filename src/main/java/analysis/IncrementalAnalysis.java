@@ -0,0 +1,278 @@
+package analysis;
+
+import frontend.AstPrinter;
+import frontend.SourcePosition;
+import java.util.*;
+import notquitejava.ast.*;
+
+/**
+ * Analysis of a program which is edited repeatedly, for example in an editor.
+ *
+ * <p>The analysis keeps the name table and class types of the first version of the program.
+ * When an edited version is given to {@link #update(NQJProgram)}, the changed function bodies
+ * are moved into the analyzed program and only they are checked again, together with the
+ * functions calling a global function whose signature changed. Undefined classes in the
+ * signature or body of a changed function are reported again. If the classes, the set of
+ * functions or the signature of main change, the edited program is analyzed from scratch.
+ */
+public class IncrementalAnalysis {
+    private NQJProgram prog;
+    private Analysis analysis;
+    private String shape;
+    private List<TypeError> declarationErrors;
+    // errors of the type annotations in the signature and body, errors of the body and
+    // called global functions by qualified function name, in program order
+    private final Map<String, List<TypeError>> annotationErrors = new LinkedHashMap<>();
+    private final Map<String, List<TypeError>> functionErrors = new LinkedHashMap<>();
+    private final Map<String, Set<String>> calledFunctions = new HashMap<>();
+    private final Map<String, String> printedFunctions = new HashMap<>();
+
+    public IncrementalAnalysis(NQJProgram prog) {
+        analyzeAll(prog);
+    }
+
+    /**
+     * The analyzed program. After an incremental update, this is still the first version
+     * of the program, with the changed parts of the edited program moved into it.
+     */
+    public NQJProgram getProgram() {
+        return prog;
+    }
+
+    /**
+     * All type errors of the current version of the program.
+     */
+    public List<TypeError> getTypeErrors() {
+        List<TypeError> result = new ArrayList<>(declarationErrors);
+        annotationErrors.values().forEach(result::addAll);
+        functionErrors.values().forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Analyzes the edited program and returns the changes in the type errors.
+     * The edited program must not be used afterwards, parts of it may have been moved.
+     */
+    public Delta update(NQJProgram edited) {
+        List<TypeError> before = getTypeErrors();
+        List<NQJFunctionDecl> oldFunctions = functions(prog);
+        List<NQJFunctionDecl> newFunctions = functions(edited);
+        if (shape == null || !shape.equals(shape(edited, !declarationErrors.isEmpty()))) {
+            analyzeAll(edited);
+            return Delta.between(before, getTypeErrors());
+        }
+
+        Set<String> changedSignatures = new HashSet<>();
+        Set<String> changed = new LinkedHashSet<>();
+        for (int i = 0; i < oldFunctions.size(); i++) {
+            NQJFunctionDecl oldF = oldFunctions.get(i);
+            NQJFunctionDecl newF = newFunctions.get(i);
+            String name = qualifiedName(oldF);
+            boolean signatureChanged = !signature(oldF).equals(signature(newF));
+            if (signatureChanged || !printedFunctions.get(name).equals(AstPrinter.print(newF))
+                    || !samePosition(oldF.getSourcePosition(), newF.getSourcePosition())) {
+                moveFunction(newF, oldF);
+                // all annotations of the function are new, the old errors are replaced
+                typeAnnotations(oldF);
+                changed.add(name);
+            }
+            if (signatureChanged) {
+                // only global functions, method signatures are part of the shape
+                changedSignatures.add(oldF.getName());
+            }
+        }
+        for (NQJFunctionDecl f : oldFunctions) {
+            if (!Collections.disjoint(calledFunctions.get(qualifiedName(f)), changedSignatures)) {
+                changed.add(qualifiedName(f));
+            }
+        }
+        for (NQJFunctionDecl f : oldFunctions) {
+            if (changed.contains(qualifiedName(f))) {
+                checkFunction(f);
+            }
+        }
+        return Delta.between(before, getTypeErrors());
+    }
+
+    private void analyzeAll(NQJProgram program) {
+        prog = program;
+        analysis = new Analysis(program);
+        analysis.checkGlobalDeclarations();
+        declarationErrors = analysis.takeTypeErrors();
+        annotationErrors.clear();
+        functionErrors.clear();
+        calledFunctions.clear();
+        printedFunctions.clear();
+        List<NQJFunctionDecl> functions = functions(program);
+        for (NQJFunctionDecl f : functions) {
+            typeAnnotations(f);
+        }
+        // the remaining annotations, like the fields of classes with cyclic inheritance
+        analysis.typeAnnotations(program);
+        declarationErrors.addAll(analysis.takeTypeErrors());
+        for (NQJFunctionDecl f : functions) {
+            checkFunction(f);
+        }
+        // with duplicate names, functions can not be matched between versions
+        shape = functionErrors.size() == functions.size()
+                ? shape(program, !declarationErrors.isEmpty()) : null;
+    }
+
+    private void typeAnnotations(NQJFunctionDecl f) {
+        analysis.typeAnnotations(f);
+        annotationErrors.put(qualifiedName(f), analysis.takeTypeErrors());
+    }
+
+    private void checkFunction(NQJFunctionDecl f) {
+        analysis.checkFunction(f);
+        functionErrors.put(qualifiedName(f), analysis.takeTypeErrors());
+
+        Set<String> called = new HashSet<>();
+        f.getMethodBody().accept(new NQJElement.DefaultVisitor() {
+            @Override
+            public void visit(NQJFunctionCall call) {
+                super.visit(call);
+                called.add(call.getMethodName());
+            }
+        });
+        calledFunctions.put(qualifiedName(f), called);
+        printedFunctions.put(qualifiedName(f), AstPrinter.print(f));
+    }
+
+    /*
+     * replaces the signature and body of target with the ones of source.
+     */
+    private static void moveFunction(NQJFunctionDecl source, NQJFunctionDecl target) {
+        NQJType returnType = source.getReturnType();
+        NQJVarDeclList parameters = source.getFormalParameters();
+        NQJBlock body = source.getMethodBody();
+        returnType.setParent(null);
+        parameters.setParent(null);
+        body.setParent(null);
+        target.setReturnType(returnType);
+        target.setFormalParameters(parameters);
+        target.setMethodBody(body);
+        target.setSourcePosition(source.getSourcePosition());
+    }
+
+    /*
+     * everything the checks of other functions depend on, except for the signatures of
+     * global functions: the classes with their members, the names of all functions
+     * and the signature of main. With declaration errors, also the positions of the
+     * declarations, so that the errors are reported at the right place.
+     */
+    private static String shape(NQJProgram program, boolean withPositions) {
+        StringBuilder sb = new StringBuilder();
+        for (NQJClassDecl c : program.getClassDecls()) {
+            sb.append("class ").append(c.getName());
+            if (withPositions) {
+                sb.append(position(c));
+            }
+            if (c.getExtended() instanceof NQJExtendsClass) {
+                sb.append(" extends ").append(((NQJExtendsClass) c.getExtended()).getName());
+            }
+            sb.append('\n');
+            for (NQJVarDecl field : c.getFields()) {
+                sb.append(AstPrinter.print(field));
+                if (withPositions) {
+                    sb.append(position(field));
+                }
+                sb.append('\n');
+            }
+            for (NQJFunctionDecl m : c.getMethods()) {
+                sb.append(signature(m));
+                if (withPositions) {
+                    sb.append(position(m));
+                }
+                sb.append('\n');
+            }
+        }
+        for (NQJFunctionDecl f : program.getFunctionDecls()) {
+            String entry = f.getName().equals("main") ? signature(f) : f.getName();
+            sb.append(entry).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static String signature(NQJFunctionDecl f) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(AstPrinter.print(f.getReturnType())).append(' ').append(f.getName());
+        for (NQJVarDecl p : f.getFormalParameters()) {
+            sb.append(' ').append(AstPrinter.print(p.getType()));
+        }
+        return sb.toString();
+    }
+
+    private static String position(NQJElement e) {
+        SourcePosition p = e.getSourcePosition();
+        return p == null ? "" : " @" + p.getLine() + ":" + p.getColumn();
+    }
+
+    private static boolean samePosition(SourcePosition a, SourcePosition b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.getLine() == b.getLine() && a.getColumn() == b.getColumn()
+                && a.getEndLine() == b.getEndLine() && a.getEndColumn() == b.getEndColumn();
+    }
+
+    private static List<NQJFunctionDecl> functions(NQJProgram program) {
+        List<NQJFunctionDecl> functions = new ArrayList<>(program.getFunctionDecls());
+        for (NQJClassDecl c : program.getClassDecls()) {
+            functions.addAll(c.getMethods());
+        }
+        return functions;
+    }
+
+    private static String qualifiedName(NQJFunctionDecl f) {
+        NQJElement owner = f.getParent() == null ? null : f.getParent().getParent();
+        if (owner instanceof NQJClassDecl) {
+            return ((NQJClassDecl) owner).getName() + "." + f.getName();
+        }
+        return f.getName();
+    }
+
+    /**
+     * Changes in the type errors between two versions of a program.
+     * Errors are compared by message and position.
+     */
+    public static final class Delta {
+        private final List<TypeError> added;
+        private final List<TypeError> removed;
+
+        private Delta(List<TypeError> added, List<TypeError> removed) {
+            this.added = added;
+            this.removed = removed;
+        }
+
+        static Delta between(List<TypeError> before, List<TypeError> after) {
+            return new Delta(minus(after, before), minus(before, after));
+        }
+
+        private static List<TypeError> minus(List<TypeError> errors, List<TypeError> other) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (TypeError e : other) {
+                counts.merge(e.toString(), 1, Integer::sum);
+            }
+            List<TypeError> result = new ArrayList<>();
+            for (TypeError e : errors) {
+                if (counts.merge(e.toString(), -1, Integer::sum) < 0) {
+                    result.add(e);
+                }
+            }
+            return result;
+        }
+
+        public List<TypeError> getAdded() {
+            return Collections.unmodifiableList(added);
+        }
+
+        public List<TypeError> getRemoved() {
+            return Collections.unmodifiableList(removed);
+        }
+
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty();
+        }
+    }
+}
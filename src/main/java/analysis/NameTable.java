@@ -10,15 +10,21 @@ import notquitejava.ast.*;
 public class NameTable {
     private final Map<Type, ArrayType> arrayTypes = new HashMap<>();
 
-    private final Map<String, Type> classTypes = new HashMap<>();
-    private final Map<String, NQJClassDecl> globalClasses = new HashMap<>();
+    // keyed by the interned names, see IdentifierTable
+    private final Map<String, Type> classTypes = new IdentityHashMap<>();
+    private final Map<String, NQJClassDecl> globalClasses = new IdentityHashMap<>();
 
-    private final Map<String, NQJFunctionDecl> globalFunctions = new HashMap<>();
+    private final Map<String, NQJFunctionDecl> globalFunctions = new IdentityHashMap<>();
+
+    /*
+     * the builtin printInt, shared by all name tables. Its types are resolved here,
+     * so that the analysis of a program never writes to it.
+     */
+    private static final NQJFunctionDecl PRINT_INT = printIntDeclaration();
 
 
     NameTable(Analysis analysis, NQJProgram prog) {
-        globalFunctions.put("printInt", NQJ.FunctionDecl(NQJ.TypeInt(), "main",
-                NQJ.VarDeclList(NQJ.VarDecl(NQJ.TypeInt(), "elem")), NQJ.Block()));
+        globalFunctions.put("printInt", PRINT_INT);
         for (NQJFunctionDecl f : prog.getFunctionDecls()) {
             var old = globalFunctions.put(f.getName(), f);
             if (old != null) {
@@ -46,10 +52,11 @@ public class NameTable {
             }
         }
         //  create "ClassType" instances for classes with superclasses
+        var cyclic = findCycles(graph);
         for (var node : graph.keySet()) {
             var current = globalClasses.get(node);
             /* true if a cyclic inheritance is found */
-            if (isInvolvedInCycle(node, graph)) {
+            if (cyclic.contains(node)) {
                 // "ANY" because we want to ignore all the statements, which use this class
                 classTypes.put(node, Type.ANY);
                 analysis.addError(current, "Cyclic inheritance involving " + node + ".");
@@ -63,24 +70,88 @@ public class NameTable {
                 classTypes.put(node, new ClassType(analysis, globalClasses.get(node)));
             }
         }
+        indexClassHierarchy();
+    }
+
+    /*
+     * find all classes involved in a cyclic inheritance.
+     * Every class has at most one superclass, so each class is visited only once.
+     */
+    private Set<String> findCycles(Map<String, String> graph) {
+        var cyclic = new HashSet<String>();
+        var visited = new HashSet<String>();
+        for (var start : graph.keySet()) {
+            // classes on the current path, in order
+            var path = new LinkedHashSet<String>();
+            var current = start;
+            while (current != null && !visited.contains(current)) {
+                visited.add(current);
+                path.add(current);
+                current = graph.get(current);
+            }
+            if (current != null && path.contains(current)) {
+                // the path ends in a new cycle starting at current
+                boolean inCycle = false;
+                for (var node : path) {
+                    inCycle = inCycle || node.equals(current);
+                    if (inCycle) {
+                        cyclic.add(node);
+                    }
+                }
+            }
+        }
+        return cyclic;
     }
 
-    private boolean isInvolvedInCycle(String start, HashMap<String, String> graph) {
-        var current = start;
-        var path = new ArrayList<String>();
-        while (current != null) {
-            current = graph.get(current);
-            if (current == null) {
-                return false; // no superclass, hence no cycle detected
-            } else if (current.equals(start)) {
-                return true; // cycle detected which involves the "start" class
-            } else if (path.contains(current)) {
-                return false; // cycle detected but doesn't involves the "start" class
+    /*
+     * number the inheritance forest in pre- and post-order:
+     * a class is a subclass of another class iff its interval lies within the other's interval.
+     * This runs while the name table is constructed, so superclasses are looked up in classTypes
+     * and not via ClassType.getExtendedType, which needs the finished name table.
+     */
+    private void indexClassHierarchy() {
+        var children = new HashMap<ClassType, List<ClassType>>();
+        var roots = new ArrayList<ClassType>();
+        for (var type : classTypes.values()) {
+            if (type instanceof ClassType) {
+                var classType = (ClassType) type;
+                var superType = superTypeOf(classType);
+                if (superType instanceof ClassType) {
+                    children.computeIfAbsent((ClassType) superType, k -> new ArrayList<>())
+                            .add(classType);
+                } else {
+                    roots.add(classType);
+                }
             }
-            path.add(current);
+        }
 
+        int counter = 0;
+        var path = new ArrayDeque<ClassType>();
+        var pending = new ArrayDeque<Iterator<ClassType>>();
+        for (var root : roots) {
+            // extending a class with cyclic inheritance makes the class a subtype of all classes
+            boolean extendsCycle = superTypeOf(root) == Type.ANY;
+            root.setPreOrder(counter++, extendsCycle);
+            path.push(root);
+            pending.push(children.getOrDefault(root, List.of()).iterator());
+            while (!path.isEmpty()) {
+                var next = pending.peek();
+                if (next.hasNext()) {
+                    var child = next.next();
+                    child.setPreOrder(counter++, extendsCycle);
+                    path.push(child);
+                    pending.push(children.getOrDefault(child, List.of()).iterator());
+                } else {
+                    path.pop().setPostOrder(counter++);
+                    pending.pop();
+                }
+            }
         }
-        return false;
+    }
+
+    private Type superTypeOf(ClassType classType) {
+        var extendedName = classType.getExtendedName();
+        return extendedName == null ? null : classTypes.get(extendedName);
     }
 
     public NQJFunctionDecl lookupFunction(String functionName) {
@@ -104,5 +175,11 @@ public class NameTable {
         return classTypes.get(name);
     }
 
-
+    private static NQJFunctionDecl printIntDeclaration() {
+        NQJFunctionDecl printInt = NQJ.FunctionDecl(NQJ.TypeInt(), "main",
+                NQJ.VarDeclList(NQJ.VarDecl(NQJ.TypeInt(), "elem")), NQJ.Block());
+        printInt.getReturnType().setType(Type.INT);
+        printInt.getFormalParameters().get(0).getType().setType(Type.INT);
+        return printInt;
+    }
 }
@@ -20,16 +20,35 @@ public interface TypeContext {
 
     TypeContext copy();
 
+    /**
+     * Creates a child scope for the parameters and local variables of a function,
+     * which are numbered with slots starting at 0.
+     */
+    TypeContext functionScope();
+
     /**
      * Variable declaration and type wrapper class.
      */
     class VarRef {
         final NQJVarDecl decl;
         final Type type;
+        final int slot;
 
         public VarRef(Type type, NQJVarDecl decl) {
+            this(type, decl, 0);
+        }
+
+        /**
+         * Creates a reference to a variable stored in the given local slot.
+         */
+        public VarRef(Type type, NQJVarDecl decl, int slot) {
             this.decl = decl;
             this.type = type;
+            this.slot = slot;
+        }
+
+        public int getSlot() {
+            return slot;
         }
     }
 }
@@ -1,15 +1,26 @@
 package analysis;
 
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import notquitejava.ast.NQJVarDecl;
 
 /**
  * Implementation of a variable type context.
  * Manages VariableReferences, return types, this types.
+ *
+ * <p>Contexts form a chain of scopes: {@link #copy()} creates an empty child scope in constant
+ * time instead of copying all visible variables. A child sees variables added to its parents
+ * later on, so contexts must be used in stack order, as done by {@link Analysis}.
+ * Variables are numbered with slot indices, which are unique among the variables of a
+ * function and start at 0 for each {@link #functionScope()}. The slot is also stored in the
+ * declaration, so the translator can keep the locations of the variables in a list.
  */
 public class TypeContextImpl implements TypeContext {
-    private final Map<String, VarRef> env;
+    private final TypeContextImpl parent;
+    // variables declared in this scope by their interned names, created on first use
+    private Map<String, VarRef> env;
+    // shared by the scopes of a function
+    private final Slots slots;
     private Type returnType;
     private Type thisType;
 
@@ -17,16 +28,24 @@ public class TypeContextImpl implements TypeContext {
      * Saves reference to the env map constructor.
      */
     public TypeContextImpl(Map<String, VarRef> env, Type returnType, Type thisType) {
+        this(null, new Slots(), returnType, thisType);
         this.env = env;
-        this.returnType = returnType;
-        this.thisType = thisType;
+        for (VarRef ref : env.values()) {
+            slots.next = Math.max(slots.next, ref.slot + 1);
+        }
     }
 
     /**
      * Creates a new empty context with given return and this type.
      */
     public TypeContextImpl(Type returnType, Type thisType) {
-        this.env = new HashMap<>();
+        this(null, new Slots(), returnType, thisType);
+    }
+
+    private TypeContextImpl(TypeContextImpl parent, Slots slots, Type returnType,
+            Type thisType) {
+        this.parent = parent;
+        this.slots = slots;
         this.returnType = returnType;
         this.thisType = thisType;
     }
@@ -43,17 +62,44 @@ public class TypeContextImpl implements TypeContext {
 
     @Override
     public VarRef lookupVar(String varUse) {
-        return env.get(varUse);
+        for (TypeContextImpl scope = this; scope != null; scope = scope.parent) {
+            if (scope.env != null) {
+                VarRef ref = scope.env.get(varUse);
+                if (ref != null) {
+                    return ref;
+                }
+            }
+        }
+        return null;
     }
 
     @Override
     public void putVar(String varName, Type type, NQJVarDecl var) {
-        this.env.put(varName, new VarRef(type, var));
+        if (env == null) {
+            env = new IdentityHashMap<>();
+        }
+        VarRef old = env.get(varName);
+        // redeclaring a variable in the same scope reuses its slot
+        int slot = old != null ? old.slot : slots.next++;
+        env.put(varName, new VarRef(type, var, slot));
+        var.setSlot(slot);
     }
 
     @Override
     public TypeContext copy() {
-        return new TypeContextImpl(new HashMap<>(this.env), this.returnType, this.thisType);
+        return new TypeContextImpl(this, slots, this.returnType, this.thisType);
+    }
+
+    @Override
+    public TypeContext functionScope() {
+        return new TypeContextImpl(this, new Slots(), this.returnType, this.thisType);
+    }
+
+    /**
+     * Counter of the slots of a function.
+     */
+    private static final class Slots {
+        private int next;
     }
 
     @Override
@@ -13,7 +13,7 @@ public class TypeError extends RuntimeException {
 
     public TypeError(String message, int line, int column) {
         super(message);
-        this.source = new SourcePosition("", line, column, line, column);
+        this.source = SourcePosition.of("", line, column, line, column);
     }
 
     /**
@@ -0,0 +1,318 @@
+package frontend;
+
+import static notquitejava.syntax.NotQuiteJavaParserSym.*;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java_cup.runtime.ComplexSymbolFactory;
+import java_cup.runtime.ComplexSymbolFactory.Location;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+import notquitejava.syntax.NotQuiteJavaParserSym;
+
+/**
+ * Lexer working directly on the bytes of an ASCII input, usually a memory-mapped file.
+ *
+ * <p>Produces the same tokens with the same positions as the generated lexer from
+ * notquitejava.flex, but does not decode characters and interns identifiers and numbers
+ * through an {@link IdentifierTable}. Like the generated lexer, it counts line feeds,
+ * carriage returns, form feeds and vertical tabs as line terminators.
+ * Inputs containing non-ASCII bytes must be read with the generated lexer.
+ */
+final class AsciiLexer implements Scanner, TokenSource {
+    private static final Map<String, Integer> KEYWORDS = new HashMap<>();
+
+    static {
+        String[] keywords = {"abstract", "continue", "for", "new", "switch", "assert",
+            "default", "if", "package", "synchronized", "boolean", "do", "goto", "private",
+            "this", "break", "double", "implements", "protected", "throw", "byte", "else",
+            "import", "public", "throws", "case", "enum", "instanceof", "return", "transient",
+            "catch", "extends", "int", "short", "try", "char", "final", "interface", "static",
+            "void", "class", "finally", "long", "strictfp", "volatile", "const", "float",
+            "native", "super", "while", "length", "true", "false", "null"};
+        for (String keyword : keywords) {
+            KEYWORDS.put(keyword, terminalCode(keyword.toUpperCase()));
+        }
+    }
+
+    private final ComplexSymbolFactory symbolFactory;
+    private final ByteBuffer input;
+    private final int limit;
+    private final IdentifierTable identifiers = new IdentifierTable();
+    private int pos;
+    // zero based line and offset of its first character, like yyline in the generated lexer
+    private int line;
+    private int lineStart;
+    // the current token
+    private int tokenLine;
+    private int tokenColumn;
+    private int tokenLength;
+    private String tokenValue;
+
+    AsciiLexer(ComplexSymbolFactory symbolFactory, ByteBuffer input) {
+        this.symbolFactory = symbolFactory;
+        this.input = input;
+        this.limit = input.limit();
+    }
+
+    /**
+     * Checks whether all bytes of the input are ASCII characters.
+     */
+    static boolean isAscii(ByteBuffer input) {
+        int limit = input.limit();
+        int i = 0;
+        // eight bytes at a time, the byte order does not matter for the test
+        for (; i + 8 <= limit; i += 8) {
+            if ((input.getLong(i) & 0x8080808080808080L) != 0) {
+                return false;
+            }
+        }
+        for (; i < limit; i++) {
+            if (input.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Symbol next_token() {
+        int code = next();
+        String name = NotQuiteJavaParserSym.terminalNames[code];
+        Location left = new Location(tokenLine, tokenColumn);
+        Location right = new Location(tokenLine, tokenColumn + tokenLength);
+        if (tokenValue == null) {
+            return symbolFactory.newSymbol(name, code, left, right);
+        }
+        return symbolFactory.newSymbol(name, code, left, right, tokenValue);
+    }
+
+    @Override
+    public int next() {
+        while (pos < limit) {
+            int start = pos;
+            int c = input.get(pos);
+            switch (c) {
+                case ' ':
+                case '\t':
+                case '\f':
+                case '\n':
+                    pos++;
+                    countLines(start, pos);
+                    continue;
+                case '\r':
+                    pos += pos + 1 < limit && input.get(pos + 1) == '\n' ? 2 : 1;
+                    countLines(start, pos);
+                    continue;
+                case '/':
+                    int commentEnd = skipComment(pos);
+                    if (commentEnd > pos) {
+                        pos = commentEnd;
+                        countLines(start, pos);
+                        continue;
+                    }
+                    return token(DIV, 1);
+                case '[':
+                    int end = skipWhitespaceAndComments(pos + 1);
+                    if (end < limit && input.get(end) == ']') {
+                        return token(LRBRACKET, end + 1 - start);
+                    }
+                    return token(LBRACKET, 1);
+                case ']':
+                    return token(RBRACKET, 1);
+                case '{':
+                    return token(LBRACE, 1);
+                case '}':
+                    return token(RBRACE, 1);
+                case '(':
+                    return token(LPAREN, 1);
+                case ')':
+                    return token(RPAREN, 1);
+                case '.':
+                    return token(DOT, 1);
+                case ';':
+                    return token(SEMI, 1);
+                case ',':
+                    return token(COMMA, 1);
+                case '!':
+                    return token(NEG, 1);
+                case '+':
+                    return token(PLUS, 1);
+                case '-':
+                    return token(MINUS, 1);
+                case '*':
+                    return token(TIMES, 1);
+                case '<':
+                    return token(LESS, 1);
+                case '=':
+                    return lookingAt(pos + 1, '=') ? token(EQUALS, 2) : token(EQ, 1);
+                case '&':
+                    if (lookingAt(pos + 1, '&')) {
+                        return token(AND, 2);
+                    }
+                    return token(INVALID_TOKEN, 1, "&");
+                default:
+                    if (c >= '0' && c <= '9') {
+                        return number();
+                    } else if (isLetter(c)) {
+                        return identifier();
+                    }
+                    return token(INVALID_TOKEN, 1, String.valueOf((char) c));
+            }
+        }
+        return token(EOF, 0, null);
+    }
+
+    @Override
+    public int line() {
+        return tokenLine;
+    }
+
+    @Override
+    public int column() {
+        return tokenColumn;
+    }
+
+    @Override
+    public int length() {
+        return tokenLength;
+    }
+
+    @Override
+    public String value() {
+        return tokenValue;
+    }
+
+    @Override
+    public String unit() {
+        // like locations created by the generated lexer
+        return "unknown";
+    }
+
+    private int number() {
+        int start = pos;
+        int end = pos + 1;
+        if (input.get(start) != '0') {
+            while (end < limit && isDigit(input.get(end))) {
+                end++;
+            }
+        }
+        return token(NUMBER, end - start, identifiers.intern(input, start, end - start));
+    }
+
+    private int identifier() {
+        int start = pos;
+        int end = pos + 1;
+        while (end < limit && isIdentifierPart(input.get(end))) {
+            end++;
+        }
+        String name = identifiers.intern(input, start, end - start);
+        Integer keyword = KEYWORDS.get(name);
+        if (keyword != null) {
+            return token(keyword, end - start);
+        }
+        return token(ID, end - start, name);
+    }
+
+    /*
+     * returns the end of the comment starting at the given offset,
+     * or the offset itself if no complete comment starts there.
+     */
+    private int skipComment(int from) {
+        if (lookingAt(from + 1, '/')) {
+            int end = from + 2;
+            while (end < limit && input.get(end) != '\r' && input.get(end) != '\n') {
+                end++;
+            }
+            if (end < limit && input.get(end) == '\r') {
+                end++;
+            }
+            if (end < limit && input.get(end) == '\n') {
+                end++;
+            }
+            return end;
+        }
+        if (lookingAt(from + 1, '*')) {
+            for (int i = from + 2; i + 1 < limit; i++) {
+                if (input.get(i) == '*' && input.get(i + 1) == '/') {
+                    return i + 2;
+                }
+            }
+        }
+        return from;
+    }
+
+    private int skipWhitespaceAndComments(int from) {
+        int i = from;
+        while (i < limit) {
+            byte c = input.get(i);
+            if (c == ' ' || c == '\t' || c == '\f' || c == '\r' || c == '\n') {
+                i++;
+            } else if (c == '/' && skipComment(i) > i) {
+                i = skipComment(i);
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private int token(int code, int length) {
+        return token(code, length, null);
+    }
+
+    private int token(int code, int length, String lexeme) {
+        tokenLine = line + 1;
+        tokenColumn = pos - lineStart + 1;
+        tokenLength = length;
+        tokenValue = lexeme;
+        int start = pos;
+        pos += length;
+        countLines(start, pos);
+        return code;
+    }
+
+    /*
+     * advances the line counter over the given range of consumed input.
+     */
+    private void countLines(int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte c = input.get(i);
+            if (c == '\r' && i + 1 < limit && input.get(i + 1) == '\n') {
+                // \r\n is a single line terminator
+                continue;
+            }
+            if (c == '\n' || c == '\r' || c == '\f' || c == 0x0B) {
+                line++;
+                lineStart = i + 1;
+            }
+        }
+    }
+
+    private boolean lookingAt(int offset, char c) {
+        return offset < limit && input.get(offset) == c;
+    }
+
+    private static boolean isLetter(int c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierPart(int c) {
+        return isLetter(c) || isDigit(c) || c == '_';
+    }
+
+    private static int terminalCode(String name) {
+        String[] names = NotQuiteJavaParserSym.terminalNames;
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Unknown terminal " + name);
+    }
+}
@@ -10,6 +10,7 @@ import notquitejava.ast.*;
 public class AstHelper {
     /**
      * Parsing members of classes into a class declaration.
+     * The members are moved out of the given list, not copied.
      */
     public static NQJClassDecl classDecl(String name, String ext, List<NQJMemberDecl> members) {
         NQJFunctionDeclList methods = NQJ.FunctionDeclList();
@@ -26,12 +27,12 @@ public class AstHelper {
 
                 @Override
                 public void case_FunctionDecl(NQJFunctionDecl methodDecl) {
-                    methods.add(methodDecl.copy());
+                    methods.add(detach(methodDecl));
                 }
 
                 @Override
                 public void case_VarDecl(NQJVarDecl varDecl) {
-                    fields.add(varDecl.copy());
+                    fields.add(detach(varDecl));
                 }
             });
         }
@@ -39,7 +40,7 @@ public class AstHelper {
         return NQJ.ClassDecl(name, extended, fields, methods);
     }
 
-    /** Parsing top level delcaration into a program. */
+    /** Parsing top level delcaration into a program, moving the declarations. */
     public static NQJProgram program(List<NQJTopLevelDecl> decls) {
         NQJFunctionDeclList functions = NQJ.FunctionDeclList();
         NQJClassDeclList classDecls = NQJ.ClassDeclList();
@@ -48,12 +49,12 @@ public class AstHelper {
             decl.match(new NQJTopLevelDecl.MatcherVoid() {
                 @Override
                 public void case_FunctionDecl(NQJFunctionDecl functionDecl) {
-                    functions.add(functionDecl.copy());
+                    functions.add(detach(functionDecl));
                 }
 
                 @Override
                 public void case_ClassDecl(NQJClassDecl classDecl) {
-                    classDecls.add(classDecl.copy());
+                    classDecls.add(detach(classDecl));
                 }
             });
         }
@@ -61,6 +62,15 @@ public class AstHelper {
         return NQJ.Program(classDecls, functions);
     }
 
+    /*
+     * removes an element from the temporary list built by the parser, so that it can be
+     * added to its final list without copying the whole subtree.
+     */
+    private static <T extends NQJElement> T detach(T e) {
+        e.setParent(null);
+        return e;
+    }
+
     /**
      * Create an array type out of a type and dimensions.
      */
@@ -0,0 +1,593 @@
+package frontend;
+
+import static notquitejava.syntax.NotQuiteJavaParserSym.*;
+
+import java.io.StringReader;
+import java_cup.runtime.ComplexSymbolFactory;
+import java_cup.runtime.ComplexSymbolFactory.ComplexSymbol;
+import java_cup.runtime.ComplexSymbolFactory.Location;
+import java_cup.runtime.Scanner;
+import notquitejava.ast.*;
+import notquitejava.syntax.Lexer;
+
+/**
+ * Hand-written recursive descent parser for NotQuiteJava, an alternative to the CUP parser.
+ *
+ * <p>Builds the same AST with the same source positions as the grammar in notquitejava.cup,
+ * binary operators are parsed by precedence climbing. The parser does not report or recover
+ * from syntax errors: on the first error it gives up and returns null, and the input has to
+ * be parsed again with the CUP parser to get its error messages, see {@link NQJFrontend}.
+ */
+public final class DescentParser {
+    private static final Failure FAILURE = new Failure();
+
+    private final TokenSource tokens;
+    // the current token
+    private int token;
+    private int line;
+    private int column;
+    private int length;
+    private String value;
+    // end of the last consumed token
+    private int lastEndLine;
+    private int lastEndColumn;
+    // the position created last, shared with the next element if it has the same span
+    private SourcePosition lastPosition;
+
+    private DescentParser(TokenSource tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses a program, returns null if it has a syntax error.
+     */
+    public static NQJProgram parse(String input) throws Exception {
+        return parse(tokens(new Lexer(new ComplexSymbolFactory(), new StringReader(input))));
+    }
+
+    /**
+     * Parses the program read from the given tokens, returns null on a syntax error.
+     */
+    static NQJProgram parse(TokenSource tokens) throws Exception {
+        DescentParser parser = new DescentParser(tokens);
+        try {
+            parser.advance();
+            return parser.program();
+        } catch (Failure | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adapts a scanner producing complex symbols.
+     */
+    static TokenSource tokens(Scanner scanner) {
+        return new TokenSource() {
+            private ComplexSymbol current;
+
+            @Override
+            public int next() throws Exception {
+                current = (ComplexSymbol) scanner.next_token();
+                return current.sym;
+            }
+
+            @Override
+            public int line() {
+                return current.getLeft().getLine();
+            }
+
+            @Override
+            public int column() {
+                return current.getLeft().getColumn();
+            }
+
+            @Override
+            public int length() {
+                return current.getRight().getColumn() - current.getLeft().getColumn();
+            }
+
+            @Override
+            public String value() {
+                return current.value instanceof String ? (String) current.value : null;
+            }
+
+            @Override
+            public String unit() {
+                Location left = current.getLeft();
+                return left.getUnit();
+            }
+        };
+    }
+
+    /*
+     * program ::= (classDecl | functionDecl)*
+     * An empty program is left to the CUP parser.
+     */
+    private NQJProgram program() throws Exception {
+        NQJTopLevelDeclList decls = NQJ.TopLevelDeclList();
+        while (token != EOF) {
+            decls.add(token == CLASS ? classDecl() : functionDecl(type(), identifier()));
+        }
+        if (decls.isEmpty()) {
+            throw FAILURE;
+        }
+        // like the start production of the CUP grammar, the program extends to the end of file
+        SourcePosition start = decls.get(0).getSourcePosition();
+        NQJProgram prog = AstHelper.program(decls);
+        prog.setSourcePosition(position(start.getUnit(), start.getLine(), start.getColumn(),
+                line, column + length));
+        return prog;
+    }
+
+    private NQJClassDecl classDecl() throws Exception {
+        SourcePosition start = expect(CLASS);
+        String name = identifier();
+        String ext = null;
+        if (token == EXTENDS) {
+            advance();
+            ext = identifier();
+        }
+        NQJMemberDeclList members = memberDecls();
+        return span(AstHelper.classDecl(name, ext, members), start);
+    }
+
+    private NQJMemberDeclList memberDecls() throws Exception {
+        expect(LBRACE);
+        NQJMemberDeclList members = NQJ.MemberDeclList();
+        while (token != RBRACE) {
+            NQJType type = type();
+            String memberName = identifier();
+            if (token == LPAREN) {
+                members.add(functionDecl(type, memberName));
+            } else {
+                members.add(span(NQJ.VarDecl(type, memberName), type));
+                expect(SEMI);
+            }
+        }
+        advance();
+        return members;
+    }
+
+    private NQJFunctionDecl functionDecl(NQJType returnType, String name) throws Exception {
+        NQJVarDeclList params = parameters();
+        NQJBlock body = block();
+        return span(NQJ.FunctionDecl(returnType, name, params, body), returnType);
+    }
+
+    private NQJVarDeclList parameters() throws Exception {
+        SourcePosition open = expect(LPAREN);
+        NQJVarDeclList params = NQJ.VarDeclList();
+        if (token == RPAREN) {
+            // like an empty production, positioned at the preceding symbol
+            params.setSourcePosition(open);
+        } else {
+            NQJVarDecl first = varDecl(type());
+            params.add(first);
+            NQJVarDecl last = first;
+            while (token == COMMA) {
+                advance();
+                last = varDecl(type());
+                params.add(last);
+            }
+            span(params, first, last);
+        }
+        expect(RPAREN);
+        return params;
+    }
+
+    private NQJVarDecl varDecl(NQJType type) throws Exception {
+        String name = identifier();
+        return span(NQJ.VarDecl(type, name), type);
+    }
+
+    /*
+     * type ::= (INT | BOOLEAN | exprL) LRBRACKET*
+     */
+    private NQJType type() throws Exception {
+        if (token == INT || token == BOOLEAN) {
+            NQJType base = baseType();
+            int dimensions = brackets();
+            return span(AstHelper.buildArrayType(base, dimensions), base);
+        }
+        NQJElement e = postfix(false);
+        if (!(e instanceof NQJExprL)) {
+            throw FAILURE;
+        }
+        return classType((NQJExprL) e);
+    }
+
+    private NQJType classType(NQJExprL name) throws Exception {
+        int dimensions = brackets();
+        return span(AstHelper.buildArrayType(name, dimensions), name);
+    }
+
+    private NQJType baseType() throws Exception {
+        NQJType t = token == INT ? NQJ.TypeInt() : NQJ.TypeBool();
+        t.setSourcePosition(here());
+        advance();
+        return t;
+    }
+
+    private int brackets() throws Exception {
+        int dimensions = 0;
+        while (token == LRBRACKET) {
+            advance();
+            dimensions++;
+        }
+        return dimensions;
+    }
+
+    private NQJBlock block() throws Exception {
+        SourcePosition start = expect(LBRACE);
+        NQJBlock block = NQJ.Block();
+        while (token != RBRACE) {
+            block.add(blockStatement());
+        }
+        advance();
+        return span(block, start);
+    }
+
+    private NQJStatement blockStatement() throws Exception {
+        switch (token) {
+            case INT:
+            case BOOLEAN:
+                return localVarDecl(type());
+            case LBRACE:
+            case IF:
+            case WHILE:
+            case RETURN:
+            case NEG:
+            case MINUS:
+                return statement();
+            default:
+                // a declaration, if the expression is followed by a variable name or []
+                NQJElement e = postfix(true);
+                if (e instanceof NQJExprL && (token == ID || token == LRBRACKET)) {
+                    return localVarDecl(classType((NQJExprL) e));
+                }
+                return expressionStatement(e);
+        }
+    }
+
+    private NQJVarDecl localVarDecl(NQJType type) throws Exception {
+        NQJVarDecl v = varDecl(type);
+        expect(SEMI);
+        return span(v, type);
+    }
+
+    private NQJStatement statement() throws Exception {
+        SourcePosition start = here();
+        switch (token) {
+            case LBRACE:
+                return block();
+            case IF: {
+                advance();
+                NQJExpr condition = condition();
+                NQJStatement ifTrue = statement();
+                expect(ELSE);
+                NQJStatement ifFalse = statement();
+                return span(NQJ.StmtIf(condition, ifTrue, ifFalse), start);
+            }
+            case WHILE: {
+                advance();
+                NQJExpr condition = condition();
+                NQJStatement body = statement();
+                return span(NQJ.StmtWhile(condition, body), start);
+            }
+            case RETURN: {
+                advance();
+                NQJExpr result = expr();
+                expect(SEMI);
+                return span(NQJ.StmtReturn(result), start);
+            }
+            case NEG:
+            case MINUS:
+                return expressionStatement(null);
+            default:
+                return expressionStatement(postfix(true));
+        }
+    }
+
+    private NQJExpr condition() throws Exception {
+        expect(LPAREN);
+        NQJExpr condition = expr();
+        expect(RPAREN);
+        return condition;
+    }
+
+    /*
+     * an assignment or expression statement starting with the already parsed
+     * postfix expression, or null if the statement starts with a unary operator.
+     */
+    private NQJStatement expressionStatement(NQJElement start) throws Exception {
+        if (start instanceof NQJExprL && token == EQ) {
+            NQJExprL address = (NQJExprL) start;
+            advance();
+            NQJExpr value = expr();
+            expect(SEMI);
+            return span(NQJ.StmtAssign(address, value), address);
+        }
+        NQJExpr e = start == null ? expr() : binary(asExpr(start), 1);
+        expect(SEMI);
+        return span(NQJ.StmtExpr(e), e);
+    }
+
+    private NQJExpr expr() throws Exception {
+        return binary(unary(), 1);
+    }
+
+    /*
+     * precedence climbing, all binary operators are left associative.
+     */
+    private NQJExpr binary(NQJExpr left, int minPrecedence) throws Exception {
+        for (int p = precedence(token); p >= minPrecedence; p = precedence(token)) {
+            NQJOperator op = operator(token);
+            advance();
+            NQJExpr right = binary(unary(), p + 1);
+            left = span(NQJ.ExprBinary(left, op, right), left);
+        }
+        return left;
+    }
+
+    private static int precedence(int token) {
+        switch (token) {
+            case AND:
+                return 1;
+            case EQUALS:
+                return 2;
+            case LESS:
+                return 3;
+            case PLUS:
+            case MINUS:
+                return 4;
+            case TIMES:
+            case DIV:
+                return 5;
+            default:
+                return 0;
+        }
+    }
+
+    private static NQJOperator operator(int token) {
+        switch (token) {
+            case AND:
+                return NQJ.And();
+            case EQUALS:
+                return NQJ.Equals();
+            case LESS:
+                return NQJ.Less();
+            case PLUS:
+                return NQJ.Plus();
+            case MINUS:
+                return NQJ.Minus();
+            case TIMES:
+                return NQJ.Times();
+            default:
+                return NQJ.Div();
+        }
+    }
+
+    /*
+     * unary operators bind stronger than all binary operators.
+     */
+    private NQJExpr unary() throws Exception {
+        if (token == NEG || token == MINUS) {
+            SourcePosition start = here();
+            NQJUnaryOperator op = token == NEG ? NQJ.Negate() : NQJ.UnaryMinus();
+            advance();
+            NQJExpr e = unary();
+            return span(NQJ.ExprUnary(op, e), start);
+        }
+        return asExpr(postfix(true));
+    }
+
+    /*
+     * a primary expression followed by field accesses, method calls and array lookups.
+     * Returns an NQJExprL if the result can be assigned to, and an NQJExpr otherwise.
+     * Function calls cannot be followed by anything, and created arrays not by a lookup.
+     */
+    private NQJElement postfix(boolean allowCall) throws Exception {
+        SourcePosition start = here();
+        NQJElement e;
+        boolean newArray = false;
+        switch (token) {
+            case ID: {
+                String name = value;
+                advance();
+                if (allowCall && token == LPAREN) {
+                    NQJExprList args = arguments();
+                    return span(NQJ.FunctionCall(name, args), start);
+                }
+                e = span(NQJ.VarUse(name), start);
+                break;
+            }
+            case NEW: {
+                advance();
+                NQJType base;
+                if (token == INT || token == BOOLEAN) {
+                    base = baseType();
+                } else {
+                    String className = identifier();
+                    if (token == LPAREN) {
+                        advance();
+                        expect(RPAREN);
+                        e = span(NQJ.NewObject(className), start);
+                        break;
+                    }
+                    base = NQJ.TypeClass(className);
+                }
+                expect(LBRACKET);
+                NQJExpr size = expr();
+                expect(RBRACKET);
+                int dimensions = brackets();
+                e = span(AstHelper.newArray(base, size, dimensions), start);
+                newArray = true;
+                break;
+            }
+            case TRUE:
+            case FALSE:
+                e = NQJ.BoolConst(token == TRUE);
+                e.setSourcePosition(start);
+                advance();
+                break;
+            case NUMBER:
+                e = NQJ.Number(Integer.parseInt(value));
+                e.setSourcePosition(start);
+                advance();
+                break;
+            case THIS:
+                e = NQJ.ExprThis();
+                e.setSourcePosition(start);
+                advance();
+                break;
+            case NULL:
+                e = NQJ.ExprNull();
+                e.setSourcePosition(start);
+                advance();
+                break;
+            case LPAREN: {
+                advance();
+                NQJExpr inner = expr();
+                expect(RPAREN);
+                e = span(inner, start);
+                break;
+            }
+            default:
+                throw FAILURE;
+        }
+
+        while (true) {
+            if (token == DOT) {
+                NQJExpr receiver = asExpr(e);
+                advance();
+                if (token == LENGTH) {
+                    advance();
+                    e = span(NQJ.ArrayLength(receiver), start);
+                } else {
+                    String name = identifier();
+                    if (token == LPAREN) {
+                        NQJExprList args = arguments();
+                        e = span(NQJ.MethodCall(receiver, name, args), start);
+                    } else {
+                        e = span(NQJ.FieldAccess(receiver, name), start);
+                    }
+                }
+                newArray = false;
+            } else if (token == LBRACKET && !newArray) {
+                NQJExpr array = asExpr(e);
+                advance();
+                NQJExpr index = expr();
+                expect(RBRACKET);
+                e = span(NQJ.ArrayLookup(array, index), start);
+            } else {
+                return e;
+            }
+        }
+    }
+
+    private NQJExprList arguments() throws Exception {
+        SourcePosition open = expect(LPAREN);
+        NQJExprList args = NQJ.ExprList();
+        if (token == RPAREN) {
+            // like an empty production, positioned at the preceding symbol
+            args.setSourcePosition(open);
+        } else {
+            NQJExpr first = expr();
+            args.add(first);
+            NQJExpr last = first;
+            while (token == COMMA) {
+                advance();
+                last = expr();
+                args.add(last);
+            }
+            span(args, first, last);
+        }
+        expect(RPAREN);
+        return args;
+    }
+
+    private static NQJExpr asExpr(NQJElement e) {
+        if (e instanceof NQJExprL) {
+            NQJExprL address = (NQJExprL) e;
+            NQJExpr read = NQJ.Read(address);
+            read.setSourcePosition(address.getSourcePosition());
+            return read;
+        }
+        return (NQJExpr) e;
+    }
+
+    private String identifier() throws Exception {
+        if (token != ID) {
+            throw FAILURE;
+        }
+        String name = value;
+        advance();
+        return name;
+    }
+
+    /*
+     * consumes a token of the given kind and returns its position.
+     */
+    private SourcePosition expect(int kind) throws Exception {
+        if (token != kind) {
+            throw FAILURE;
+        }
+        SourcePosition position = here();
+        advance();
+        return position;
+    }
+
+    private void advance() throws Exception {
+        lastEndLine = line;
+        lastEndColumn = column + length;
+        token = tokens.next();
+        line = tokens.line();
+        column = tokens.column();
+        length = tokens.length();
+        value = tokens.value();
+    }
+
+    private SourcePosition here() {
+        return position(tokens.unit(), line, column, line, column + length);
+    }
+
+    /*
+     * sets the position of e from the start of the given element or position
+     * to the end of the last consumed token.
+     */
+    private <T extends NQJElement> T span(T e, NQJElement from) {
+        return span(e, from.getSourcePosition());
+    }
+
+    private <T extends NQJElement> T span(T e, SourcePosition from) {
+        e.setSourcePosition(position(from.getUnit(), from.getLine(), from.getColumn(),
+                lastEndLine, lastEndColumn));
+        return e;
+    }
+
+    private <T extends NQJElement> T span(T e, NQJElement from, NQJElement to) {
+        SourcePosition start = from.getSourcePosition();
+        SourcePosition end = to.getSourcePosition();
+        e.setSourcePosition(position(start.getUnit(), start.getLine(), start.getColumn(),
+                end.getEndLine(), end.getEndColumn()));
+        return e;
+    }
+
+    private SourcePosition position(String unit, int line, int column,
+            int endLine, int endColumn) {
+        lastPosition = SourcePosition.reuse(lastPosition, unit, line, column,
+                endLine, endColumn);
+        return lastPosition;
+    }
+
+    /**
+     * Thrown on the first syntax error, without a stack trace.
+     */
+    private static final class Failure extends RuntimeException {
+        private static final long serialVersionUID = -2818563425934765105L;
+
+        Failure() {
+            super(null, null, false, false);
+        }
+    }
+}
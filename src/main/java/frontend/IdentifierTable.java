@@ -0,0 +1,118 @@
+package frontend;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Interning table for identifiers and number literals read by the lexers.
+ *
+ * <p>Lexemes are looked up directly in the input buffer, so a string is only allocated
+ * the first time a lexeme is seen, and equal lexemes share one string.
+ * A table belongs to a single parse and is not thread-safe.
+ *
+ * <p>The strings are also interned in the JVM's string pool, so a name is the same instance
+ * in all parses and in all phases, including the name literals of the compiler itself.
+ * The interned string is the symbol of a name: the name table, the class types, the type
+ * contexts and the translator key their tables by identity. Names which are not read by
+ * a lexer must therefore be string literals or interned as well.
+ */
+public final class IdentifierTable {
+    private String[] entries = new String[256];
+    private int size;
+
+    /**
+     * Returns the string of the ASCII bytes buffer[start..start+length).
+     */
+    public String intern(ByteBuffer buffer, int start, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + (buffer.get(start + i) & 0xff);
+        }
+        int mask = entries.length - 1;
+        for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+            String s = entries[slot];
+            if (s == null) {
+                char[] chars = new char[length];
+                for (int i = 0; i < length; i++) {
+                    chars[i] = (char) (buffer.get(start + i) & 0xff);
+                }
+                return add(slot, new String(chars));
+            }
+            if (s.hashCode() == hash && matches(s, buffer, start, length)) {
+                return s;
+            }
+        }
+    }
+
+    /**
+     * Returns the string of the characters buffer[start..start+length).
+     */
+    public String intern(char[] buffer, int start, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer[start + i];
+        }
+        int mask = entries.length - 1;
+        for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+            String s = entries[slot];
+            if (s == null) {
+                return add(slot, new String(buffer, start, length));
+            }
+            if (s.hashCode() == hash && matches(s, buffer, start, length)) {
+                return s;
+            }
+        }
+    }
+
+    private static boolean matches(String s, ByteBuffer buffer, int start, int length) {
+        if (s.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (s.charAt(i) != (buffer.get(start + i) & 0xff)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String s, char[] buffer, int start, int length) {
+        if (s.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (s.charAt(i) != buffer[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String add(int slot, String lexeme) {
+        String s = lexeme.intern();
+        entries[slot] = s;
+        size++;
+        if (2 * size > entries.length) {
+            rehash();
+        }
+        return s;
+    }
+
+    private void rehash() {
+        String[] old = entries;
+        entries = new String[2 * old.length];
+        int mask = entries.length - 1;
+        for (String s : old) {
+            if (s != null) {
+                int slot = mix(s.hashCode()) & mask;
+                while (entries[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                entries[slot] = s;
+            }
+        }
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
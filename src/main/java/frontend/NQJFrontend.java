@@ -2,11 +2,16 @@ package frontend;
 
 import java.io.File;
 import java.io.FileReader;
+import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java_cup.runtime.ComplexSymbolFactory;
+import java_cup.runtime.Scanner;
 import java_cup.runtime.Symbol;
 import notquitejava.ast.NQJElement;
 import notquitejava.ast.NQJProgram;
@@ -19,17 +24,57 @@ import notquitejava.syntax.NotQuiteJavaParser;
  */
 public class NQJFrontend {
 
+    /**
+     * The parsers of the frontend. Both build the same AST and report the same errors.
+     */
+    public enum ParserKind {
+        /** The LALR parser generated by CUP from notquitejava.cup. */
+        CUP,
+        /**
+         * The hand-written {@link DescentParser}. Inputs with syntax errors are parsed again
+         * by the CUP parser, which reports the errors.
+         */
+        DESCENT
+    }
+
     /**
      * A list of syntax errors collected while parsing.
      */
     private final List<SyntaxError> syntaxErrors = new ArrayList<>();
 
+    private final ParserKind parserKind;
+
+    /**
+     * Creates a frontend using the parser given by the system property nqj.parser
+     * ("cup" or "descent"), by default the CUP parser.
+     */
+    public NQJFrontend() {
+        this(ParserKind.valueOf(System.getProperty("nqj.parser", "cup").toUpperCase()));
+    }
+
+    public NQJFrontend(ParserKind parserKind) {
+        this.parserKind = parserKind;
+    }
+
     /**
      * Parses a NotQuiteJava program from a Reader.
      */
     public NQJProgram parse(Reader in) throws Exception {
         ComplexSymbolFactory sf = new NQJSymbolFactory();
-        Lexer lexer = new Lexer(sf, in);
+        if (parserKind == ParserKind.DESCENT) {
+            // keep the input, in case it has to be parsed again
+            String input = readAll(in);
+            NQJProgram prog = DescentParser.parse(
+                    DescentParser.tokens(new Lexer(sf, new StringReader(input))));
+            if (prog != null) {
+                return prog;
+            }
+            return parse(new Lexer(sf, new StringReader(input)), sf);
+        }
+        return parse(new Lexer(sf, in), sf);
+    }
+
+    private NQJProgram parse(Scanner lexer, ComplexSymbolFactory sf) throws Exception {
         NotQuiteJavaParser parser = new NotQuiteJavaParser(lexer, sf);
 
         parser.onError(syntaxErrors::add);
@@ -41,10 +86,36 @@ public class NQJFrontend {
         return null;
     }
 
+    private static String readAll(Reader in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] buffer = new char[8192];
+        for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+            sb.append(buffer, 0, n);
+        }
+        return sb.toString();
+    }
+
     /**
      * Parses a NotQuiteJava program from a file.
+     * ASCII files are memory-mapped and lexed without decoding them.
      */
     public NQJProgram parseFile(File file) throws Exception {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() <= Integer.MAX_VALUE) {
+                MappedByteBuffer input = channel.map(FileChannel.MapMode.READ_ONLY,
+                        0, channel.size());
+                if (AsciiLexer.isAscii(input)) {
+                    ComplexSymbolFactory sf = new NQJSymbolFactory();
+                    if (parserKind == ParserKind.DESCENT) {
+                        NQJProgram prog = DescentParser.parse(new AsciiLexer(sf, input));
+                        if (prog != null) {
+                            return prog;
+                        }
+                    }
+                    return parse(new AsciiLexer(sf, input), sf);
+                }
+            }
+        }
         try (FileReader reader = new FileReader(file)) {
             return parse(reader);
         }
@@ -69,14 +140,13 @@ public class NQJFrontend {
      * A symbol factory, which sets the source position of NQJElements created by the parser.
      */
     static class NQJSymbolFactory extends ComplexSymbolFactory {
+        // the position set last, shared with the next element if it has the same span
+        private SourcePosition last;
 
         @Override
         public Symbol newSymbol(String name, int id, Location left, Location right, Object value) {
             if (value instanceof NQJElement) {
-                NQJElement e = (NQJElement) value;
-                e.setSourcePosition(new SourcePosition(left.getUnit(),
-                        left.getLine(), left.getColumn(),
-                        right.getLine(), right.getColumn()));
+                setPosition((NQJElement) value, left, right);
             }
             return super.newSymbol(name, id, left, right, value);
         }
@@ -84,14 +154,9 @@ public class NQJFrontend {
         @Override
         public Symbol newSymbol(String name, int id, Symbol l, Symbol r, Object value) {
             if (value instanceof NQJElement) {
-                NQJElement e = (NQJElement) value;
                 ComplexSymbol leftS = (ComplexSymbol) l;
                 ComplexSymbol rightS = (ComplexSymbol) r;
-                Location left = leftS.getLeft();
-                Location right = rightS.getRight();
-                e.setSourcePosition(new SourcePosition(left.getUnit(),
-                        left.getLine(), left.getColumn(),
-                        right.getLine(), right.getColumn()));
+                setPosition((NQJElement) value, leftS.getLeft(), rightS.getRight());
             }
             return super.newSymbol(name, id, l, r, value);
         }
@@ -99,16 +164,17 @@ public class NQJFrontend {
         @Override
         public Symbol newSymbol(String name, int id, Symbol l, Object value) {
             if (value instanceof NQJElement) {
-                NQJElement e = (NQJElement) value;
                 ComplexSymbol leftS = (ComplexSymbol) l;
-                Location left = leftS.getLeft();
-                Location right = leftS.getRight();
-                e.setSourcePosition(new SourcePosition(left.getUnit(),
-                        left.getLine(), left.getColumn(),
-                        right.getLine(), right.getColumn()));
+                setPosition((NQJElement) value, leftS.getLeft(), leftS.getRight());
             }
             return super.newSymbol(name, id, l, value);
         }
 
+        private void setPosition(NQJElement e, Location left, Location right) {
+            last = SourcePosition.reuse(last, left.getUnit(), left.getLine(), left.getColumn(),
+                    right.getLine(), right.getColumn());
+            e.setSourcePosition(last);
+        }
+
     }
 }
@@ -2,42 +2,160 @@ package frontend;
 
 /**
  * Pojo for source positions.
+ *
+ * <p>Positions are immutable, so elements with the same span can share one position.
+ * The parsers use {@link #reuse} for that, which saves a position for every expression
+ * wrapped in a read and the short-lived positions of chain reductions.
+ *
+ * <p>Every element of the AST has a position, so for big inputs they make up a large part
+ * of the heap. In compact mode, which is the default, a position packs its coordinates into
+ * a single long, which takes 24 instead of 32 bytes per position. Coordinates too large to
+ * be packed, like lines beyond 2^24 or columns beyond 2^14, are kept in full. Compact mode
+ * is disabled with the system property nqj.compactPositions=false or
+ * {@link #setCompact(boolean)}.
  */
-public class SourcePosition {
-    private final String unit;
-    private final int line;
-    private final int column;
-    private final int endLine;
-    private final int endColumn;
+public abstract class SourcePosition {
+    private static volatile boolean compact =
+            Boolean.parseBoolean(System.getProperty("nqj.compactPositions", "true"));
+
+    // bits of the packed coordinates, the end line is stored relative to the line
+    private static final int LINE_BITS = 24;
+    private static final int COLUMN_BITS = 14;
+    private static final int LINE_DELTA_BITS = 12;
+
+    private SourcePosition() {
+    }
 
     /**
-     * Constructor for converting line and column.
+     * Returns the position with the given coordinates.
      */
-    public SourcePosition(String unit, int line, int column, int endLine, int endColumn) {
-        this.unit = unit;
-        this.line = line;
-        this.column = column;
-        this.endLine = endLine;
-        this.endColumn = endColumn;
+    public static SourcePosition of(String unit, int line, int column, int endLine,
+            int endColumn) {
+        if (compact && fits(line, LINE_BITS) && fits(column, COLUMN_BITS)
+                && fits(endLine - line, LINE_DELTA_BITS) && fits(endColumn, COLUMN_BITS)) {
+            long packed = (long) line;
+            packed = packed << COLUMN_BITS | column;
+            packed = packed << LINE_DELTA_BITS | (endLine - line);
+            packed = packed << COLUMN_BITS | endColumn;
+            return new Packed(unit, packed);
+        }
+        return new Full(unit, line, column, endLine, endColumn);
     }
 
-    public String getUnit() {
-        return unit;
+    private static boolean fits(int value, int bits) {
+        return value >= 0 && value < 1 << bits;
     }
 
-    public int getLine() {
-        return line;
+    /**
+     * Enables or disables packing the coordinates of positions created afterwards.
+     */
+    public static void setCompact(boolean compact) {
+        SourcePosition.compact = compact;
     }
 
-    public int getColumn() {
-        return column;
+    /**
+     * Returns the given position if it has the given coordinates, otherwise a new one.
+     */
+    static SourcePosition reuse(SourcePosition p, String unit, int line, int column,
+            int endLine, int endColumn) {
+        if (p != null && p.getLine() == line && p.getColumn() == column
+                && p.getEndLine() == endLine && p.getEndColumn() == endColumn
+                && p.getUnit().equals(unit)) {
+            return p;
+        }
+        return of(unit, line, column, endLine, endColumn);
     }
 
-    public int getEndLine() {
-        return endLine;
+    public abstract String getUnit();
+
+    public abstract int getLine();
+
+    public abstract int getColumn();
+
+    public abstract int getEndLine();
+
+    public abstract int getEndColumn();
+
+    /**
+     * A position with packed coordinates: line, column, end line - line and end column.
+     */
+    private static final class Packed extends SourcePosition {
+        private final String unit;
+        private final long packed;
+
+        private Packed(String unit, long packed) {
+            this.unit = unit;
+            this.packed = packed;
+        }
+
+        @Override
+        public String getUnit() {
+            return unit;
+        }
+
+        @Override
+        public int getLine() {
+            return (int) (packed >>> (2 * COLUMN_BITS + LINE_DELTA_BITS));
+        }
+
+        @Override
+        public int getColumn() {
+            return (int) (packed >>> (COLUMN_BITS + LINE_DELTA_BITS)) & ((1 << COLUMN_BITS) - 1);
+        }
+
+        @Override
+        public int getEndLine() {
+            int lineDelta = (int) (packed >>> COLUMN_BITS) & ((1 << LINE_DELTA_BITS) - 1);
+            return getLine() + lineDelta;
+        }
+
+        @Override
+        public int getEndColumn() {
+            return (int) packed & ((1 << COLUMN_BITS) - 1);
+        }
     }
 
-    public int getEndColumn() {
-        return endColumn;
+    /**
+     * A position with coordinates, which cannot be packed.
+     */
+    private static final class Full extends SourcePosition {
+        private final String unit;
+        private final int line;
+        private final int column;
+        private final int endLine;
+        private final int endColumn;
+
+        private Full(String unit, int line, int column, int endLine, int endColumn) {
+            this.unit = unit;
+            this.line = line;
+            this.column = column;
+            this.endLine = endLine;
+            this.endColumn = endColumn;
+        }
+
+        @Override
+        public String getUnit() {
+            return unit;
+        }
+
+        @Override
+        public int getLine() {
+            return line;
+        }
+
+        @Override
+        public int getColumn() {
+            return column;
+        }
+
+        @Override
+        public int getEndLine() {
+            return endLine;
+        }
+
+        @Override
+        public int getEndColumn() {
+            return endColumn;
+        }
     }
 }
@@ -12,7 +12,7 @@ public class SyntaxError extends RuntimeException {
 
     public SyntaxError(String message, int line, int column) {
         super(message);
-        this.source = new SourcePosition("", line, column, line, column);
+        this.source = SourcePosition.of("", line, column, line, column);
     }
 
     /**
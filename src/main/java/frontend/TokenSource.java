@@ -0,0 +1,30 @@
+package frontend;
+
+/**
+ * Stream of terminals for the {@link DescentParser}, without a symbol object per token.
+ * Codes are the ones of {@link notquitejava.syntax.NotQuiteJavaParserSym}.
+ * Lines and columns start at 1, a token ends in its first line at column + length.
+ */
+interface TokenSource {
+
+    /**
+     * Advances to the next token and returns its code.
+     */
+    int next() throws Exception;
+
+    int line();
+
+    int column();
+
+    int length();
+
+    /**
+     * The text of identifiers and numbers, null for other tokens.
+     */
+    String value();
+
+    /**
+     * The unit reported in source positions.
+     */
+    String unit();
+}
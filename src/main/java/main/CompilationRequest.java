@@ -0,0 +1,33 @@
+package main;
+
+import java.util.Objects;
+
+/**
+ * Immutable request to compile one NQJ program, see {@link EmbeddedCompiler}.
+ */
+public final class CompilationRequest {
+    private final String sourceName;
+    private final String source;
+
+    /**
+     * A request to compile the given source text.
+     * The source name is only used in messages.
+     */
+    public CompilationRequest(String sourceName, String source) {
+        this.sourceName = Objects.requireNonNull(sourceName);
+        this.source = Objects.requireNonNull(source);
+    }
+
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return "CompilationRequest(" + sourceName + ")";
+    }
+}
@@ -0,0 +1,39 @@
+package main;
+
+import java.util.List;
+
+/**
+ * Immutable result of a {@link CompilationRequest}.
+ *
+ * <p>Errors are kept as messages, so that a result does not keep the syntax tree alive.
+ */
+public final class CompilationResult {
+    private final List<String> syntaxErrors;
+    private final List<String> typeErrors;
+    private final String llvmCode;
+
+    CompilationResult(List<String> syntaxErrors, List<String> typeErrors, String llvmCode) {
+        this.syntaxErrors = List.copyOf(syntaxErrors);
+        this.typeErrors = List.copyOf(typeErrors);
+        this.llvmCode = llvmCode;
+    }
+
+    public boolean isSuccess() {
+        return llvmCode != null;
+    }
+
+    public List<String> getSyntaxErrors() {
+        return syntaxErrors;
+    }
+
+    public List<String> getTypeErrors() {
+        return typeErrors;
+    }
+
+    /**
+     * The printed LLVM program, or null if there were errors.
+     */
+    public String getLlvmCode() {
+        return llvmCode;
+    }
+}
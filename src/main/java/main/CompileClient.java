@@ -0,0 +1,86 @@
+package main;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Thin client for the {@link CompileServer}, authenticated by the token the server wrote
+ * for its port.
+ */
+public class CompileClient {
+
+    /**
+     * Compiles files on a running server, options: [--port n] [--shutdown] files...
+     * With --shutdown, the server stops after answering the files.
+     * Exits with 7 if a file could not be compiled or was not answered and with 2 if the
+     * server is not reachable.
+     */
+    public static void main(String[] args) {
+        int port = CompileServer.DEFAULT_PORT;
+        boolean shutdown = false;
+        List<String> requests = new ArrayList<>();
+        int compiles = 0;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--port") && i + 1 < args.length) {
+                port = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--shutdown")) {
+                shutdown = true;
+            } else {
+                // the server may run in a different working directory
+                requests.add("compile " + new File(args[i]).getAbsolutePath());
+                compiles++;
+            }
+        }
+        requests.add(shutdown ? "shutdown" : "end");
+
+        String token;
+        try {
+            token = new String(Files.readAllBytes(CompileServer.tokenFile(port)),
+                    StandardCharsets.US_ASCII).trim();
+        } catch (IOException e) {
+            System.err.println("No compile server token for port " + port + ": " + e);
+            System.exit(2);
+            return;
+        }
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             Writer out = new BufferedWriter(new OutputStreamWriter(
+                     socket.getOutputStream(), StandardCharsets.UTF_8));
+             BufferedReader in = new BufferedReader(new InputStreamReader(
+                     socket.getInputStream(), StandardCharsets.UTF_8))) {
+            out.write("token " + token + "\n");
+            for (String request : requests) {
+                out.write(request + "\n");
+            }
+            out.flush();
+
+            // every compile request is answered with one result line, a connection closed
+            // early or a rejected token is a failure
+            boolean success = true;
+            int results = 0;
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.equals("error") || line.startsWith("error ")) {
+                    success = false;
+                    results++;
+                } else if (line.startsWith("ok ")) {
+                    results++;
+                }
+                System.out.println(line);
+            }
+            if (results != compiles) {
+                System.err.println("Compile server answered " + results + " of " + compiles
+                        + " requests");
+                success = false;
+            }
+            System.exit(success ? 0 : 7);
+        } catch (IOException e) {
+            System.err.println("Compile server not reachable on port " + port + ": " + e);
+            System.exit(2);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package main;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Long-running compile server, which keeps the JVM warm between builds.
+ *
+ * <p>The server only listens on the loopback interface. At startup it generates a random
+ * token and writes it to {@link #tokenFile}, which only the owner may read. A client first
+ * sends a line {@code token <token>}, without a valid token the server answers
+ * {@code error invalid token} and closes the connection. Then the client sends one request
+ * per line:
+ * <ul>
+ *     <li>{@code compile <path>} compiles the file like {@link NotQuiteJavaCompiler},
+ *     the outputs are written next to it,</li>
+ *     <li>{@code end} finishes the request list of this connection,</li>
+ *     <li>{@code shutdown} finishes the request list like {@code end} and stops the server
+ *     once the requests are answered.</li>
+ * </ul>
+ * The files of all connections are compiled on a shared thread pool. After the request
+ * list, the server answers with one line {@code ok <path>} or {@code error <path>} per
+ * request in request order, each followed by its error messages prefixed with {@code "| "},
+ * and closes the connection. Compilations still running when the server is stopped by
+ * another connection are answered with the error {@code cancelled}.
+ */
+public class CompileServer {
+    public static final int DEFAULT_PORT = 7391;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService pool;
+    private final byte[] token;
+    private final Path tokenFile;
+
+    /**
+     * Binds the server to the given port on the loopback interface (0 for any free port)
+     * and writes the token file for it.
+     */
+    public CompileServer(int port, int threads) throws IOException {
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        StringBuilder hex = new StringBuilder();
+        for (byte b : random) {
+            hex.append(String.format("%02x", b));
+        }
+        this.token = hex.toString().getBytes(StandardCharsets.US_ASCII);
+        this.tokenFile = tokenFile(getPort());
+        try {
+            writeTokenFile();
+        } catch (IOException e) {
+            serverSocket.close();
+            throw e;
+        }
+        this.pool = Executors.newFixedThreadPool(threads);
+    }
+
+    /**
+     * The file holding the token of the server on the given port.
+     */
+    public static Path tokenFile(int port) {
+        return Paths.get(System.getProperty("user.home"), ".nqj", "compile-server-" + port);
+    }
+
+    /*
+     * creates the token file readable only by the owner, replacing one left by a server
+     * that did not shut down.
+     */
+    private void writeTokenFile() throws IOException {
+        Path dir = tokenFile.getParent();
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Set<PosixFilePermission> ownerOnlyDir = PosixFilePermissions.fromString("rwx------");
+            Set<PosixFilePermission> ownerOnlyFile = PosixFilePermissions.fromString("rw-------");
+            Files.createDirectories(dir, PosixFilePermissions.asFileAttribute(ownerOnlyDir));
+            Files.setPosixFilePermissions(dir, ownerOnlyDir);
+            Files.deleteIfExists(tokenFile);
+            Files.createFile(tokenFile, PosixFilePermissions.asFileAttribute(ownerOnlyFile));
+        } else {
+            Files.createDirectories(dir);
+            Files.deleteIfExists(tokenFile);
+            File file = Files.createFile(tokenFile).toFile();
+            file.setReadable(false, false);
+            file.setWritable(false, false);
+            file.setReadable(true, true);
+            file.setWritable(true, true);
+        }
+        Files.write(tokenFile, token);
+    }
+
+    /**
+     * Starts a server, options: [--port n] [--threads n].
+     */
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--port")) {
+                port = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--threads")) {
+                threads = Integer.parseInt(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        CompileServer server = new CompileServer(port, threads);
+        System.out.println("Compile server listening on port " + server.getPort()
+                + ", token in " + server.tokenFile);
+        server.serve();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts connections until the server is shut down.
+     */
+    public void serve() throws IOException {
+        try {
+            while (!serverSocket.isClosed()) {
+                Socket socket;
+                try {
+                    socket = serverSocket.accept();
+                } catch (SocketException e) {
+                    // closed by shutdown
+                    break;
+                }
+                Thread handler = new Thread(() -> handle(socket), "nqj-compile-connection");
+                handler.setDaemon(true);
+                handler.start();
+            }
+        } finally {
+            pool.shutdownNow();
+            Files.deleteIfExists(tokenFile);
+        }
+    }
+
+    /**
+     * Stops accepting connections, compilations in progress are cancelled.
+     */
+    public void shutdown() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // already closed
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(
+                     socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(new OutputStreamWriter(
+                     socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            if (!isValidToken(in.readLine())) {
+                out.write("error invalid token\n");
+                return;
+            }
+            // unknown requests are answered in request order like the files
+            List<String> paths = new ArrayList<>();
+            List<Future<List<String>>> results = new ArrayList<>();
+            boolean stopServer = false;
+            String line;
+            while ((line = in.readLine()) != null && !line.equals("end")) {
+                if (line.equals("shutdown")) {
+                    stopServer = true;
+                    break;
+                }
+                if (!line.startsWith("compile ")) {
+                    paths.add(line);
+                    results.add(CompletableFuture.completedFuture(List.of("unknown request")));
+                    continue;
+                }
+                String path = line.substring("compile ".length());
+                File file = new File(path);
+                paths.add(path);
+                results.add(pool.submit(
+                        () -> NotQuiteJavaCompiler.compileToExecutable(file, file.getPath())));
+            }
+            try {
+                writeResults(out, paths, results);
+                // the server thread may end the process once the server socket is closed
+                out.flush();
+            } finally {
+                if (stopServer) {
+                    shutdown();
+                }
+            }
+        } catch (IOException e) {
+            // the client went away, nothing to report to
+        }
+    }
+
+    private void writeResults(Writer out, List<String> paths,
+            List<Future<List<String>>> results) throws IOException {
+        for (int i = 0; i < paths.size(); i++) {
+            List<String> errors = getErrors(results.get(i));
+            out.write((errors.isEmpty() ? "ok " : "error ") + paths.get(i) + "\n");
+            for (String error : errors) {
+                out.write("| " + error.replace("\n", "\n| ") + "\n");
+            }
+        }
+    }
+
+    private boolean isValidToken(String line) {
+        if (line == null || !line.startsWith("token ")) {
+            return false;
+        }
+        byte[] presented = line.substring("token ".length()).getBytes(StandardCharsets.US_ASCII);
+        // compares in constant time, so the token cannot be guessed byte by byte
+        return MessageDigest.isEqual(token, presented);
+    }
+
+    private List<String> getErrors(Future<List<String>> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of("interrupted");
+        } catch (ExecutionException e) {
+            return List.of(String.valueOf(e.getCause()));
+        } catch (CancellationException e) {
+            // the server was stopped by another connection
+            return List.of("cancelled");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package main;
+
+import analysis.Analysis;
+import frontend.NQJFrontend;
+import minillvm.printer.PrettyPrinter;
+import notquitejava.ast.NQJProgram;
+import translation.Translator;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Compiler entry point for embedding NQJ in a service.
+ *
+ * <p>Each compilation creates its own frontend, analysis and translator and shares only
+ * immutable state with other compilations: the parser and scanner tables, the builtin
+ * declarations and the primitive types. So any number of threads may compile concurrently.
+ * A compilation runs entirely on the calling thread and holds no locks while doing so,
+ * which makes it suitable for running on many lightweight threads.
+ */
+public final class EmbeddedCompiler {
+
+    private EmbeddedCompiler() {
+    }
+
+    /**
+     * Parses, checks and translates the program of the request.
+     */
+    public static CompilationResult compile(CompilationRequest request) {
+        List<String> syntaxErrors = new ArrayList<>();
+        List<String> typeErrors = new ArrayList<>();
+        try {
+            NQJFrontend frontend = new NQJFrontend();
+            NQJProgram program = frontend.parse(new StringReader(request.getSource()));
+            frontend.getSyntaxErrors().forEach(e -> syntaxErrors.add(e.toString()));
+            if (program == null || !syntaxErrors.isEmpty()) {
+                return new CompilationResult(syntaxErrors, typeErrors, null);
+            }
+
+            Analysis analysis = new Analysis(program);
+            analysis.check();
+            analysis.getTypeErrors().forEach(e -> typeErrors.add(e.toString()));
+            if (!typeErrors.isEmpty()) {
+                return new CompilationResult(syntaxErrors, typeErrors, null);
+            }
+
+            StringWriter out = new StringWriter();
+            // requests are already compiled in parallel, so print on the calling thread
+            PrettyPrinter.printProgram(new Translator(program).translate(), out, 1);
+            return new CompilationResult(syntaxErrors, typeErrors, out.toString());
+        } catch (Exception e) {
+            throw new IllegalStateException("Compilation of " + request.getSourceName()
+                    + " failed", e);
+        }
+    }
+
+    /**
+     * Compiles the request on the given executor.
+     */
+    public static CompletableFuture<CompilationResult> compileAsync(CompilationRequest request,
+                                                                    Executor executor) {
+        return CompletableFuture.supplyAsync(() -> compile(request), executor);
+    }
+
+    /**
+     * Compiles all requests on the given executor and waits for the results,
+     * which are returned in request order. Failures are rethrown as CompletionException.
+     */
+    public static List<CompilationResult> compileAll(List<CompilationRequest> requests,
+                                                     Executor executor) {
+        List<CompletableFuture<CompilationResult>> futures = new ArrayList<>();
+        for (CompilationRequest request : requests) {
+            futures.add(compileAsync(request, executor));
+        }
+        List<CompilationResult> results = new ArrayList<>();
+        for (CompletableFuture<CompilationResult> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+}
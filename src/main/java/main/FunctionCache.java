@@ -0,0 +1,403 @@
+package main;
+
+import frontend.AstPrinter;
+import minillvm.ast.Element;
+import minillvm.ast.Global;
+import minillvm.ast.HaltWithError;
+import minillvm.ast.Parameter;
+import minillvm.ast.Proc;
+import minillvm.ast.Prog;
+import minillvm.ast.StructField;
+import minillvm.ast.TypeStruct;
+import minillvm.printer.PrettyPrinter;
+import notquitejava.ast.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed on-disk cache of translated functions.
+ *
+ * <p>An entry holds the printed LLVM code of one procedure. Its key is a hash of the function's
+ * source text and source lines together with a digest of the declarations of the translated
+ * program (class layouts, virtual method tables, procedure signatures and array types),
+ * so an entry is only reused if the function would be translated to the same code.
+ *
+ * <p>Entries are written to a temporary file and moved into place atomically, so several
+ * compilers may share a cache directory. When the cache grows beyond its size bound,
+ * the least recently used entries are deleted.
+ */
+public class FunctionCache {
+    // bump when the translation or the entry format changes
+    private static final String FORMAT = "nqj-function-cache-1";
+    public static final long DEFAULT_MAX_BYTES = 256L << 20;
+
+    private final Path directory;
+    private final long maxBytes;
+    // size of the cache, -1 until the directory was scanned
+    private final AtomicLong size = new AtomicLong(-1);
+
+    public FunctionCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * A cached procedure: its printed code and the error messages it refers to.
+     */
+    public static final class Entry {
+        private final String text;
+        private final List<String> messages;
+
+        public Entry(String text, List<String> messages) {
+            this.text = text;
+            this.messages = List.copyOf(messages);
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public List<String> getMessages() {
+            return messages;
+        }
+    }
+
+    /**
+     * Digest of the declarations of a translated program, which all function bodies depend on.
+     * The names must be final, i.e. the program must have been given to
+     * {@link PrettyPrinter#startProgram}.
+     */
+    public static String declarationsDigest(Prog prog) {
+        StringBuilder sb = new StringBuilder();
+        for (TypeStruct s : prog.getStructTypes()) {
+            sb.append("struct ").append(s.getName());
+            for (StructField field : s.getFields()) {
+                sb.append(' ').append(field.getType()).append(' ').append(field.getName());
+            }
+            sb.append('\n');
+        }
+        for (Global g : prog.getGlobals()) {
+            sb.append(PrettyPrinter.elementToString(g)).append('\n');
+        }
+        for (Proc proc : prog.getProcedures()) {
+            sb.append("proc ").append(proc.getReturnType()).append(' ').append(proc.getName());
+            for (Parameter p : proc.getParameters()) {
+                sb.append(' ').append(p.getType()).append(' ').append(p.getName());
+            }
+            sb.append('\n');
+        }
+        return hash(FORMAT, sb.toString());
+    }
+
+    /**
+     * The key of a function translated to the given procedure.
+     */
+    public static String key(String declarationsDigest, Proc proc, NQJFunctionDecl f) {
+        return hash(declarationsDigest, proc.getName(), AstPrinter.print(f), sourceLines(f));
+    }
+
+    /*
+     * the lines of the statements and expressions, which the translation refers to
+     * in comments and error messages.
+     */
+    private static String sourceLines(NQJFunctionDecl f) {
+        StringBuilder lines = new StringBuilder();
+        f.accept(new NQJElement.DefaultVisitor() {
+            private void line(NQJElement e) {
+                while (e != null && e.getSourcePosition() == null) {
+                    e = e.getParent();
+                }
+                lines.append(e == null ? 0 : e.getSourcePosition().getLine()).append(',');
+            }
+
+            @Override
+            public void visit(NQJBlock block) {
+                super.visit(block);
+                block.forEach(this::line);
+            }
+
+            @Override
+            public void visit(NQJStmtIf stmt) {
+                super.visit(stmt);
+                line(stmt.getIfTrue());
+                line(stmt.getIfFalse());
+            }
+
+            @Override
+            public void visit(NQJStmtWhile stmt) {
+                super.visit(stmt);
+                line(stmt.getLoopBody());
+            }
+
+            @Override
+            public void visit(NQJExprBinary e) {
+                super.visit(e);
+                line(e);
+            }
+
+            @Override
+            public void visit(NQJArrayLength e) {
+                super.visit(e);
+                line(e);
+            }
+
+            @Override
+            public void visit(NQJArrayLookup e) {
+                super.visit(e);
+                line(e);
+            }
+
+            @Override
+            public void visit(NQJFieldAccess e) {
+                super.visit(e);
+                line(e);
+            }
+
+            @Override
+            public void visit(NQJMethodCall e) {
+                super.visit(e);
+                line(e);
+            }
+        });
+        return lines.toString();
+    }
+
+    /**
+     * The error messages of a translated procedure, in the order of first use.
+     */
+    public static List<String> messages(Proc proc) {
+        Set<String> messages = new LinkedHashSet<>();
+        proc.accept(new Element.DefaultVisitor() {
+            @Override
+            public void visit(HaltWithError e) {
+                super.visit(e);
+                messages.add(e.getMsg());
+            }
+        });
+        return new ArrayList<>(messages);
+    }
+
+    /**
+     * Returns the entry with the given key, or null if it is not cached.
+     */
+    public Entry load(String key) {
+        Path file = entryFile(key);
+        String content;
+        try {
+            content = Files.readString(file, StandardCharsets.UTF_8);
+            // mark as recently used
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // missing, or deleted concurrently
+            return null;
+        }
+        // header lines: format, number of messages, messages
+        List<String> header = new ArrayList<>();
+        int pos = 0;
+        int messageCount = 0;
+        while (header.size() - 2 < messageCount) {
+            int end = content.indexOf('\n', pos);
+            if (end < 0) {
+                return corrupt(file);
+            }
+            header.add(content.substring(pos, end));
+            pos = end + 1;
+            if (header.size() == 1 && !header.get(0).equals(FORMAT)) {
+                // written by another version of the compiler sharing the directory
+                return null;
+            } else if (header.size() == 2) {
+                try {
+                    messageCount = Integer.parseInt(header.get(1));
+                } catch (NumberFormatException e) {
+                    return corrupt(file);
+                }
+                if (messageCount < 0) {
+                    return corrupt(file);
+                }
+            }
+        }
+        List<String> messages = new ArrayList<>();
+        for (String msg : header.subList(2, header.size())) {
+            messages.add(unescape(msg));
+        }
+        return new Entry(content.substring(pos), messages);
+    }
+
+    /*
+     * deletes an entry that cannot be read, so it is translated and stored again, and
+     * reports it as not cached.
+     */
+    private Entry corrupt(Path file) {
+        long fileSize = fileSize(file);
+        try {
+            if (Files.deleteIfExists(file) && size.get() >= 0) {
+                size.addAndGet(-fileSize);
+            }
+        } catch (IOException e) {
+            // in use or deleted by another compiler
+        }
+        return null;
+    }
+
+    /**
+     * Stores an entry, replacing an existing entry with the same key.
+     * Failures are ignored, the cache is only an optimization.
+     */
+    public void store(String key, Entry entry) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(FORMAT).append('\n');
+        sb.append(entry.getMessages().size()).append('\n');
+        for (String msg : entry.getMessages()) {
+            sb.append(escape(msg)).append('\n');
+        }
+        sb.append(entry.getText());
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        Path file = entryFile(key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+            try {
+                Files.write(temp, bytes);
+                moveAtomically(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            return;
+        }
+        if (size.get() < 0) {
+            size.compareAndSet(-1, scanSize());
+        }
+        if (size.addAndGet(bytes.length) > maxBytes) {
+            evict();
+        }
+    }
+
+    private static void moveAtomically(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /*
+     * deletes the least recently used entries until the cache is at 3/4 of its size bound.
+     */
+    private synchronized void evict() {
+        List<Path> files = entryFiles();
+        files.sort(Comparator.comparing(FunctionCache::lastModified));
+        long total = 0;
+        for (Path file : files) {
+            total += fileSize(file);
+        }
+        for (Path file : files) {
+            if (total <= maxBytes / 4 * 3) {
+                break;
+            }
+            long fileSize = fileSize(file);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // in use or deleted by another compiler
+                continue;
+            }
+            total -= fileSize;
+        }
+        size.set(total);
+    }
+
+    private long scanSize() {
+        return entryFiles().stream().mapToLong(FunctionCache::fileSize).sum();
+    }
+
+    private List<Path> entryFiles() {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            return files.filter(f -> Files.isRegularFile(f) && !f.toString().endsWith(".tmp"))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        } catch (IOException | UncheckedIOException e) {
+            return new ArrayList<>();
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static long fileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            // deleted concurrently
+            return 0;
+        }
+    }
+
+    private Path entryFile(String key) {
+        // fan out, so that directories stay small
+        return directory.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private static String escape(String msg) {
+        return msg.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String line) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\\' && i + 1 < line.length()) {
+                char next = line.charAt(++i);
+                sb.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    static String hash(String... parts) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String part : parts) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            // separator, so that the parts cannot be shifted against each other
+            digest.update((byte) 0);
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,279 @@
+package main;
+
+import minillvm.printer.RuntimeLibrary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Builds native code from llvm code with one clang invocation per step.
+ *
+ * <p>clang optimizes and compiles llvm code in one process at the selected optimization level.
+ * Code produced in memory is piped into clang instead of being read back from a file.
+ * The output streams of the processes are drained while they run, so a process writing a
+ * lot of output cannot block. The duration of every step is recorded, see {@link #getTimings()}.
+ * A driver can be used from several threads.
+ */
+public class NativeBuildDriver {
+
+    /**
+     * The default optimization level.
+     */
+    public static final int DEFAULT_OPTIMIZATION_LEVEL = 2;
+
+    private final int optimizationLevel;
+    private final List<Timing> timings = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Code which is written to a process.
+     */
+    public interface LlvmSource {
+        void writeTo(Writer out) throws IOException;
+    }
+
+    /**
+     * The duration of a build step.
+     */
+    public static final class Timing {
+        private final String step;
+        private final long nanos;
+
+        Timing(String step, long nanos) {
+            this.step = step;
+            this.nanos = nanos;
+        }
+
+        public String getStep() {
+            return step;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-40s %10.2f ms", step, nanos / 1e6);
+        }
+    }
+
+    /**
+     * Creates a driver optimizing at the given level, from 0 to 3.
+     */
+    public NativeBuildDriver(int optimizationLevel) {
+        if (optimizationLevel < 0 || optimizationLevel > 3) {
+            throw new IllegalArgumentException("optimization level must be 0 to 3, but was "
+                    + optimizationLevel);
+        }
+        this.optimizationLevel = optimizationLevel;
+    }
+
+    /**
+     * Compiles the code written by source and links it with the given object files
+     * to the executable.
+     */
+    public void buildExecutable(LlvmSource source, List<File> objects, File executable)
+            throws IOException, InterruptedException {
+        run("build " + executable.getName(), buildCommand("-", objects, executable), source);
+    }
+
+    /**
+     * Compiles a file with llvm code or bitcode and links it with the given object files
+     * to the executable.
+     */
+    public void buildExecutable(File llvmFile, List<File> objects, File executable)
+            throws IOException, InterruptedException {
+        run("build " + executable.getName(),
+                buildCommand(llvmFile.getPath(), objects, executable), null);
+    }
+
+    private List<String> buildCommand(String input, List<File> objects, File executable) {
+        List<String> command = new ArrayList<>(List.of("clang", "-O" + optimizationLevel,
+                "-x", "ir", input));
+        if (!objects.isEmpty()) {
+            // the object files are not llvm code
+            command.addAll(List.of("-x", "none"));
+            for (File object : objects) {
+                command.add(object.getPath());
+            }
+        }
+        command.addAll(List.of("-o", executable.getPath()));
+        return command;
+    }
+
+    /**
+     * Compiles a file with llvm code to an object file.
+     */
+    public void compileObject(File llvmFile, File object) throws IOException, InterruptedException {
+        run("compile " + llvmFile.getName(), List.of("clang", "-O" + optimizationLevel,
+                "-x", "ir", "-c", llvmFile.getPath(), "-o", object.getPath()), null);
+    }
+
+    /**
+     * Compiles files with llvm code to the given object files, using all available processors.
+     * Object files newer than their llvm code are not compiled again.
+     */
+    public void compileObjects(List<File> llvmFiles, List<File> objects)
+            throws IOException, InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int i = 0; i < llvmFiles.size(); i++) {
+                File llvmFile = llvmFiles.get(i);
+                File object = objects.get(i);
+                if (object.lastModified() > llvmFile.lastModified()) {
+                    continue;
+                }
+                results.add(pool.submit(() -> {
+                    compileObject(llvmFile, object);
+                    return null;
+                }));
+            }
+            for (Future<Void> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IOException) {
+                        throw (IOException) e.getCause();
+                    } else if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new RuntimeException(e.getCause());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Links object files to an executable.
+     */
+    public void link(List<File> objects, File executable) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of("clang"));
+        for (File object : objects) {
+            command.add(object.getPath());
+        }
+        command.addAll(List.of("-o", executable.getPath()));
+        run("link " + executable.getName(), command, null);
+    }
+
+    /**
+     * Returns the object file of the runtime library in the given directory.
+     * It is compiled with full optimization when it is missing or the library changed,
+     * otherwise the existing object file is shared by all programs.
+     */
+    public File runtimeObject(File dir) throws IOException, InterruptedException {
+        synchronized (NativeBuildDriver.class) {
+            File source = new File(dir, "nqj_runtime.ll");
+            File object = new File(dir, "nqj_runtime.o");
+            String code = RuntimeLibrary.source();
+            boolean changed = !source.exists()
+                    || !code.equals(new String(Files.readAllBytes(source.toPath()),
+                            StandardCharsets.UTF_8));
+            if (changed) {
+                Files.write(source.toPath(), code.getBytes(StandardCharsets.UTF_8));
+            }
+            if (changed || !object.exists()) {
+                run("compile runtime library", List.of("clang", "-O3", "-x", "ir", "-c",
+                        source.getPath(), "-o", object.getPath()), null);
+            }
+            return object;
+        }
+    }
+
+    /**
+     * The recorded steps in the order they finished.
+     */
+    public List<Timing> getTimings() {
+        synchronized (timings) {
+            return new ArrayList<>(timings);
+        }
+    }
+
+    private void run(String step, List<String> command, LlvmSource input)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        try {
+            execute(command, input);
+        } finally {
+            timings.add(new Timing(step, System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Runs a command and waits for it. The given input is written to the standard input
+     * of the process, the output of the process is printed after it finished.
+     * Throws a RuntimeException if the command fails.
+     */
+    static void execute(List<String> command, LlvmSource input)
+            throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).start();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        Thread outDrain = drain(process.getInputStream(), out);
+        Thread errDrain = drain(process.getErrorStream(), err);
+        IOException writeError = null;
+        try (Writer stdin = new OutputStreamWriter(process.getOutputStream(),
+                StandardCharsets.UTF_8)) {
+            if (input != null) {
+                input.writeTo(stdin);
+            }
+        } catch (IOException e) {
+            // the process stopped reading, its exit code tells why
+            writeError = e;
+        }
+        final int exitCode = process.waitFor();
+        outDrain.join();
+        errDrain.join();
+
+        if (out.size() > 0) {
+            System.out.print(out.toString(StandardCharsets.UTF_8));
+        }
+        if (err.size() > 0) {
+            System.err.print(err.toString(StandardCharsets.UTF_8));
+        }
+        if (exitCode != 0) {
+            throw new RuntimeException("Command " + command
+                    + " failed with error code " + exitCode);
+        }
+        if (writeError != null) {
+            throw writeError;
+        }
+    }
+
+    /**
+     * Runs a command without input, see {@link #execute(List, LlvmSource)}.
+     */
+    static void execute(String... command) throws IOException, InterruptedException {
+        execute(Arrays.asList(command), null);
+    }
+
+    private static Thread drain(InputStream in, ByteArrayOutputStream to) {
+        Thread t = new Thread(() -> {
+            try (in) {
+                in.transferTo(to);
+            } catch (IOException e) {
+                // the stream is closed when the process ends
+            }
+        }, "nqj-process-output");
+        t.setDaemon(true);
+        t.start();
+        return t;
+    }
+}
@@ -4,16 +4,27 @@ import analysis.Analysis;
 import analysis.TypeError;
 import frontend.NQJFrontend;
 import frontend.SyntaxError;
+import minillvm.ast.Proc;
 import minillvm.ast.Prog;
+import minillvm.printer.BitcodeWriter;
+import minillvm.printer.DuplicateNames;
+import minillvm.printer.PrettyPrinter;
+import notquitejava.ast.NQJClassDecl;
+import notquitejava.ast.NQJFunctionDecl;
 import notquitejava.ast.NQJProgram;
 import translation.Translator;
 
 import java.io.*;
 import java.nio.file.Files;
-import java.util.Arrays;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Entry-point for parsing and compiling NQJ files.
@@ -24,21 +35,128 @@ public class NotQuiteJavaCompiler {
     private Prog llvmProg;
     private Analysis analysis;
     private NQJFrontend frontend;
+    private FunctionCache functionCache;
+    private boolean numericNames;
+    private boolean runtimeLibrary;
+    private boolean bitcode;
 
     /**
-     * Entry main function.
+     * Entry main function, options may be given in any order:
+     * <ul>
+     *     <li>{@code -O0} to {@code -O3} select the optimization level of the native build,</li>
+     *     <li>{@code --timings} prints the durations of the build steps,</li>
+     *     <li>{@code --batch} compiles all given files in this process using all processors,</li>
+     *     <li>{@code --link out} compiles the given files, which form one program, separately
+     *     to modules and links them to out.exe,</li>
+     *     <li>{@code --numeric-names} prints local values as %0, %1, ... to shrink the output,
+     *     </li>
+     *     <li>{@code --runtime} links the program with the precompiled runtime library,</li>
+     *     <li>{@code --bitcode} writes the program as bitcode instead of llvm code,</li>
+     *     <li>{@code --pipeline} compiles functions one at a time to bound memory usage,</li>
+     *     <li>{@code --cache dir} additionally takes unchanged functions from the cache.</li>
+     * </ul>
+     * Combinations that would silently ignore an option are rejected.
      */
     public static void main(String[] args) throws Exception {
+        int optimizationLevel = NativeBuildDriver.DEFAULT_OPTIMIZATION_LEVEL;
+        boolean timings = false;
+        boolean batch = false;
+        String linkOutput = null;
+        boolean numericNames = false;
+        boolean runtimeLibrary = false;
+        boolean bitcode = false;
+        boolean pipeline = false;
+        String cacheDirectory = null;
+        List<String> fileNames = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.matches("-O[0-3]")) {
+                optimizationLevel = arg.charAt(2) - '0';
+            } else if (arg.equals("--timings")) {
+                timings = true;
+            } else if (arg.equals("--batch")) {
+                batch = true;
+            } else if (arg.equals("--link")) {
+                linkOutput = optionValue(args, ++i, arg);
+            } else if (arg.equals("--numeric-names")) {
+                numericNames = true;
+            } else if (arg.equals("--runtime")) {
+                runtimeLibrary = true;
+            } else if (arg.equals("--bitcode")) {
+                bitcode = true;
+            } else if (arg.equals("--pipeline")) {
+                pipeline = true;
+            } else if (arg.equals("--cache")) {
+                cacheDirectory = optionValue(args, ++i, arg);
+                pipeline = true;
+            } else if (arg.startsWith("-")) {
+                throw new IllegalArgumentException("Unknown option " + arg);
+            } else {
+                fileNames.add(arg);
+            }
+        }
+        boolean multipleFiles = batch || linkOutput != null;
+        if (batch && linkOutput != null) {
+            throw new IllegalArgumentException("--batch cannot be combined with --link");
+        }
+        if (multipleFiles && (numericNames || runtimeLibrary || bitcode || pipeline)) {
+            throw new IllegalArgumentException("--numeric-names, --runtime, --bitcode, "
+                    + "--pipeline and --cache are not supported with --batch or --link");
+        }
+        if (pipeline && (runtimeLibrary || bitcode)) {
+            throw new IllegalArgumentException(
+                    "--runtime and --bitcode are not supported with --pipeline or --cache");
+        }
+        if (!multipleFiles && fileNames.size() > 1) {
+            throw new IllegalArgumentException(
+                    "Only one file can be compiled without --batch or --link");
+        }
+
+        NativeBuildDriver driver = new NativeBuildDriver(optimizationLevel);
+        if (timings) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() ->
+                    driver.getTimings().forEach(System.out::println)));
+        }
+        List<File> files = new ArrayList<>();
+        for (String name : fileNames) {
+            files.add(new File(name));
+        }
+        if (batch) {
+            System.exit(compileBatch(files, driver) ? 0 : 7);
+        }
+        if (linkOutput != null) {
+            SeparateCompiler compiler = new SeparateCompiler(files);
+            if (!compiler.compile()) {
+                compiler.getErrors().forEach(System.out::println);
+                System.exit(7);
+            }
+            compiler.link(linkOutput, driver);
+            System.exit(0);
+        }
+        FunctionCache cache = cacheDirectory == null ? null
+                : new FunctionCache(Paths.get(cacheDirectory), FunctionCache.DEFAULT_MAX_BYTES);
         String fileName;
-        if (args.length > 0) {
-            fileName = args[0];
+        if (!fileNames.isEmpty()) {
+            fileName = fileNames.get(0);
         } else {
             System.out.println("Enter a filename: ");
             fileName = new Scanner(System.in).nextLine();
         }
         NotQuiteJavaCompiler compiler = new NotQuiteJavaCompiler();
+        compiler.setFunctionCache(cache);
+        compiler.setNumericNames(numericNames);
+        compiler.setRuntimeLibrary(runtimeLibrary);
+        compiler.setBitcode(bitcode);
         File inputFile = new File(fileName);
-        compiler.compileFile(inputFile);
+        File llvmOutFile = new File(inputFile.getName() + ".ll");
+        if (pipeline) {
+            try (Reader r = new FileReader(inputFile);
+                 Writer out = Files.newBufferedWriter(llvmOutFile.toPath())) {
+                compiler.compilePipelined(inputFile.getPath(), r, out);
+            }
+        } else {
+            compiler.compileFile(inputFile);
+        }
 
         if (!compiler.getSyntaxErrors().isEmpty() || !compiler.getTypeErrors().isEmpty()) {
             compiler.getSyntaxErrors().forEach(System.out::println);
@@ -46,17 +164,105 @@ public class NotQuiteJavaCompiler {
             System.exit(7);
         }
 
-        compiler.compileLlvmCode(inputFile.getName());
+        if (pipeline) {
+            driver.buildExecutable(llvmOutFile, List.of(),
+                    new File(inputFile.getName() + ".exe"));
+        } else {
+            compiler.buildExecutable(inputFile.getName(), driver);
+        }
+    }
+
+    private static String optionValue(String[] args, int i, String option) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException(option + " needs a value");
+        }
+        return args[i];
     }
 
     /**
-     * Compiles a file.
+     * Compiles the given files on a shared thread pool and prints their errors.
+     * The outputs of each file are written next to it.
+     * Returns true if all files were compiled successfully.
      */
-    public void compileFile(File file) throws Exception {
-        try (FileReader r = new FileReader(file)) {
-            compile(file.getPath(), r);
+    public static boolean compileBatch(List<File> files) throws InterruptedException {
+        return compileBatch(files,
+                new NativeBuildDriver(NativeBuildDriver.DEFAULT_OPTIMIZATION_LEVEL));
+    }
+
+    /**
+     * Compiles the given files like {@link #compileBatch(List)}, building the executables
+     * with the given driver.
+     */
+    public static boolean compileBatch(List<File> files, NativeBuildDriver driver)
+            throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (File file : files) {
+                results.add(pool.submit(() -> compileToExecutable(file, file.getPath(), driver)));
+            }
+            boolean success = true;
+            for (int i = 0; i < files.size(); i++) {
+                List<String> errors;
+                try {
+                    errors = results.get(i).get();
+                } catch (ExecutionException e) {
+                    errors = List.of(String.valueOf(e.getCause()));
+                }
+                if (!errors.isEmpty()) {
+                    success = false;
+                    System.out.println(files.get(i) + ":");
+                    errors.forEach(System.out::println);
+                }
+            }
+            return success;
+        } finally {
+            pool.shutdownNow();
         }
+    }
 
+    /**
+     * Compiles a file to outputBase.ll and builds the executable outputBase.exe from it.
+     * Returns the syntax and type errors, nothing is written if there are any.
+     * Safe to call from several threads for different files.
+     */
+    public static List<String> compileToExecutable(File inputFile, String outputBase)
+            throws Exception {
+        return compileToExecutable(inputFile, outputBase,
+                new NativeBuildDriver(NativeBuildDriver.DEFAULT_OPTIMIZATION_LEVEL));
+    }
+
+    /**
+     * Compiles a file like {@link #compileToExecutable(File, String)},
+     * building the executable with the given driver.
+     */
+    public static List<String> compileToExecutable(File inputFile, String outputBase,
+                                                   NativeBuildDriver driver) throws Exception {
+        NotQuiteJavaCompiler compiler = new NotQuiteJavaCompiler();
+        compiler.compileFile(inputFile);
+        List<String> errors = new ArrayList<>();
+        compiler.getSyntaxErrors().forEach(e -> errors.add(e.toString()));
+        compiler.getTypeErrors().forEach(e -> errors.add(e.toString()));
+        if (!errors.isEmpty()) {
+            return errors;
+        }
+        File llvmFile = new File(outputBase + ".ll");
+        try (Writer out = Files.newBufferedWriter(llvmFile.toPath())) {
+            // callers already compile several files in parallel
+            PrettyPrinter.printProgram(compiler.getLlvmProg(), out, 1);
+        }
+        driver.buildExecutable(llvmFile, List.of(), new File(outputBase + ".exe"));
+        return errors;
+    }
+
+    /**
+     * Compiles a file.
+     */
+    public void compileFile(File file) throws Exception {
+        frontend = new NQJFrontend();
+        javaProgram = frontend.parseFile(file);
+        checkAndTranslate();
     }
 
     /**
@@ -72,6 +278,10 @@ public class NotQuiteJavaCompiler {
     public void compile(String inputName, Reader input) throws Exception {
         frontend = new NQJFrontend();
         javaProgram = frontend.parse(input);
+        checkAndTranslate();
+    }
+
+    private void checkAndTranslate() {
         if (!frontend.getSyntaxErrors().isEmpty()) {
             return;
         }
@@ -86,9 +296,118 @@ public class NotQuiteJavaCompiler {
         // translate
         // TODO you can pass analysis results to your translator here:
         Translator translator = new Translator(javaProgram);
+        translator.setRuntimeLibrary(runtimeLibrary);
         llvmProg = translator.translate();
     }
 
+    /**
+     * Read, typecheck, translate and print one function at a time.
+     *
+     * <p>After the global declarations are processed, each function body is checked,
+     * translated, printed to out and released, so apart from the syntax tree only the
+     * declarations and the function currently compiled are kept in memory.
+     * No optimizations are applied. Compilation stops at the first function with type errors,
+     * in which case the output is incomplete.
+     *
+     * <p>If a function cache is set, functions found in it are printed from the cache
+     * without checking and translating them again.
+     */
+    public void compilePipelined(String inputName, Reader input, Writer out) throws Exception {
+        frontend = new NQJFrontend();
+        javaProgram = frontend.parse(input);
+        if (!frontend.getSyntaxErrors().isEmpty()) {
+            return;
+        }
+
+        analysis = new Analysis(javaProgram);
+        analysis.checkDeclarations();
+        if (analysis.hasTypeErrors()) {
+            return;
+        }
+
+        Translator translator = new Translator(javaProgram);
+        translator.translateDeclarations();
+        PrettyPrinter printer = PrettyPrinter.startProgram(translator.getProg(), out);
+        String declarations = functionCache == null
+                ? null : FunctionCache.declarationsDigest(translator.getProg());
+        if (declarations != null && numericNames) {
+            // entries printed with numbered names are not interchangeable with named ones
+            declarations += "-numeric";
+        }
+
+        List<NQJFunctionDecl> functions = new ArrayList<>(javaProgram.getFunctionDecls());
+        for (NQJClassDecl classDecl : javaProgram.getClassDecls()) {
+            functions.addAll(classDecl.getMethods());
+        }
+        for (NQJFunctionDecl f : functions) {
+            String key = null;
+            if (functionCache != null) {
+                key = FunctionCache.key(declarations, translator.loadFunctionProc(f), f);
+                FunctionCache.Entry cached = functionCache.load(key);
+                if (cached != null) {
+                    // the function was checked and translated before
+                    printer.printRenderedProcedure(translator.loadFunctionProc(f),
+                            cached.getText(), cached.getMessages());
+                    f.getMethodBody().clear();
+                    continue;
+                }
+            }
+            analysis.checkFunction(f);
+            if (analysis.hasTypeErrors()) {
+                return;
+            }
+            Proc proc = translator.translateBody(f);
+            if (numericNames) {
+                DuplicateNames.numberLocalNames(proc);
+            }
+            if (functionCache == null) {
+                printer.printProcedure(proc);
+            } else {
+                String text = printer.renderStreamedProcedure(proc);
+                List<String> messages = FunctionCache.messages(proc);
+                printer.printRenderedProcedure(proc, text, messages);
+                functionCache.store(key, new FunctionCache.Entry(text, messages));
+            }
+            // release the body, only the declaration is referenced by other functions
+            proc.getBasicBlocks().clear();
+            f.getMethodBody().clear();
+        }
+
+        llvmProg = translator.finishTranslation();
+        printer.finishProgram();
+    }
+
+    /**
+     * Sets whether local values are printed as numbers instead of their names.
+     */
+    public void setNumericNames(boolean numericNames) {
+        this.numericNames = numericNames;
+    }
+
+    /**
+     * Sets whether programs compiled with {@link #compile} or {@link #compileFile}
+     * are linked with the runtime library instead of containing the builtins and
+     * array allocation themselves.
+     */
+    public void setRuntimeLibrary(boolean runtimeLibrary) {
+        this.runtimeLibrary = runtimeLibrary;
+    }
+
+    /**
+     * Sets whether {@link #buildExecutable} writes the program as bitcode name.bc
+     * instead of llvm code name.ll.
+     */
+    public void setBitcode(boolean bitcode) {
+        this.bitcode = bitcode;
+    }
+
+    /**
+     * Sets the cache used by {@link #compilePipelined}, or null for no cache.
+     */
+    public void setFunctionCache(FunctionCache functionCache) {
+        this.functionCache = functionCache;
+    }
+
     public NQJProgram getJavaProgram() {
         return javaProgram;
     }
@@ -112,43 +431,83 @@ public class NotQuiteJavaCompiler {
     }
 
     /**
-     * Compile to mini llvm code.
+     * Prints the translated llvm program to the given writer.
      */
-    private void compileLlvmCode(String name) throws IOException, InterruptedException {
-        File llvmOutFile = new File(name + ".ll");
-        Files.writeString(llvmOutFile.toPath(), llvmProg.toString());
+    public void printLlvmCode(Writer out) throws IOException {
+        numberLocalNames();
+        PrettyPrinter.printProgram(llvmProg, out, Runtime.getRuntime().availableProcessors(),
+                runtimeLibrary);
+    }
 
-        // llvm -> bitcode
-        executeCommand("llvm-as", llvmOutFile.getAbsolutePath());
+    /**
+     * Writes the translated llvm program as bitcode to the given stream.
+     */
+    public void writeBitcode(OutputStream out) throws IOException {
+        numberLocalNames();
+        BitcodeWriter.writeProgram(llvmProg, out, runtimeLibrary);
+    }
 
-        //  bitcode -> object file
-        File llvmBc = new File(name + ".bc");
-        executeCommand("llc", "-filetype=obj", llvmBc.getAbsolutePath());
+    private void numberLocalNames() {
+        if (numericNames) {
+            for (Proc proc : llvmProg.getProcedures()) {
+                DuplicateNames.numberLocalNames(proc);
+            }
+        }
+    }
 
-        // link object file
-        File objFile = new File(name + ".o");
-        executeCommand("clang", "-o", name + ".exe", objFile.getAbsolutePath());
+    /**
+     * Builds the executable name.exe from the translated program and saves its llvm code
+     * in name.ll. The code is piped into the build while it is printed.
+     * With {@link #setBitcode}, the bitcode is saved in name.bc and built from there.
+     */
+    public void buildExecutable(String name, NativeBuildDriver driver)
+            throws IOException, InterruptedException {
+        File executable = new File(name + ".exe");
+        List<File> objects = runtimeLibrary
+                ? List.of(driver.runtimeObject(executable.getAbsoluteFile().getParentFile()))
+                : List.of();
+        if (bitcode) {
+            File bitcodeFile = new File(name + ".bc");
+            try (OutputStream out = new BufferedOutputStream(
+                    Files.newOutputStream(bitcodeFile.toPath()))) {
+                writeBitcode(out);
+            }
+            driver.buildExecutable(bitcodeFile, objects, executable);
+            return;
+        }
+        try (Writer file = Files.newBufferedWriter(Paths.get(name + ".ll"))) {
+            driver.buildExecutable(out -> printLlvmCode(new TeeWriter(file, out)),
+                    objects, executable);
+        }
     }
 
-    private void executeCommand(String... args) throws IOException, InterruptedException {
-        ProcessBuilder builder = new ProcessBuilder();
-        builder.command(args);
-        Process process = builder.start();
-        int exitCode = process.waitFor();
+    /*
+     * writes to two writers, which are closed by their owners.
+     */
+    private static final class TeeWriter extends Writer {
+        private final Writer first;
+        private final Writer second;
 
-        String out = readStream(process.getInputStream());
-        System.out.println(out);
-        String err = readStream(process.getErrorStream());
-        System.err.println(err);
+        private TeeWriter(Writer first, Writer second) {
+            this.first = first;
+            this.second = second;
+        }
 
-        if (exitCode != 0) {
-            throw new RuntimeException("Command " + Arrays.toString(args)
-                    + " failed with error code " + exitCode);
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            first.write(cbuf, off, len);
+            second.write(cbuf, off, len);
         }
-    }
 
-    private String readStream(InputStream inputStream) {
-        Scanner s = new Scanner(inputStream).useDelimiter("\\A");
-        return s.hasNext() ? s.next() : "";
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+            second.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 }
@@ -0,0 +1,363 @@
+package main;
+
+import analysis.Analysis;
+import analysis.TypeError;
+import frontend.AstPrinter;
+import frontend.NQJFrontend;
+import frontend.SourcePosition;
+import minillvm.ast.Prog;
+import minillvm.printer.PrettyPrinter;
+import notquitejava.ast.*;
+import translation.Translator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static notquitejava.ast.NQJ.*;
+
+/**
+ * Separate compilation of a program consisting of several files.
+ *
+ * <p>Every file is compiled to its own module file.ll and an interface summary file.summary,
+ * which lists the class layouts, virtual method table slots and signatures defined by the
+ * module. A file is checked and translated against the declarations of all files,
+ * but only the bodies of its own classes and functions are translated. The modules are
+ * compiled and combined with the runtime library by {@link #link}.
+ *
+ * <p>Files are parsed, checked and translated in parallel. A module is only compiled again
+ * if its file or the declarations of the program changed since it was compiled.
+ */
+public class SeparateCompiler {
+
+    private static final String SUMMARY_HEADER = "; inputs ";
+
+    private final List<Unit> units = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private int compiledModules;
+
+    /**
+     * Compilation state of one file.
+     */
+    private static final class Unit {
+        private final File file;
+        private final List<String> errors = new ArrayList<>();
+        private NQJProgram program;
+        // the classes and functions of the file without bodies
+        private NQJProgram declarations;
+        private String source;
+        private String inputs;
+
+        private Unit(File file) {
+            this.file = file;
+        }
+    }
+
+    /**
+     * Creates a compiler for a program consisting of the given files.
+     */
+    public SeparateCompiler(List<File> files) {
+        for (File file : files) {
+            units.add(new Unit(file));
+        }
+    }
+
+    /**
+     * Compiles all files to modules, using all available processors.
+     * Returns true if the program has no errors, otherwise see {@link #getErrors()}.
+     */
+    public boolean compile() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors());
+        try {
+            runAll(pool, this::parse);
+            if (collectErrors()) {
+                return false;
+            }
+
+            List<String> interfaces = new ArrayList<>();
+            boolean hasMain = false;
+            for (Unit unit : units) {
+                unit.declarations = declarations(unit.program);
+                interfaces.add(unit.file.getName());
+                interfaces.add(AstPrinter.print(unit.declarations));
+                for (NQJFunctionDecl f : unit.program.getFunctionDecls()) {
+                    hasMain |= f.getName().equals("main");
+                }
+            }
+            if (!hasMain) {
+                errors.add("Method int main() must be present");
+                return false;
+            }
+            // a module depends on its file and the declarations of all files
+            String programInterface = FunctionCache.hash(interfaces.toArray(new String[0]));
+            for (Unit unit : units) {
+                unit.inputs = FunctionCache.hash(programInterface, unit.source);
+            }
+
+            runAll(pool, this::compileModule);
+            return !collectErrors();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void runAll(ExecutorService pool, UnitTask task) throws Exception {
+        List<Future<Void>> results = new ArrayList<>();
+        for (Unit unit : units) {
+            Callable<Void> call = () -> {
+                task.run(unit);
+                return null;
+            };
+            results.add(pool.submit(call));
+        }
+        for (Future<Void> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+
+    private interface UnitTask {
+        void run(Unit unit) throws Exception;
+    }
+
+    /*
+     * collects the errors of all files in file order, returns true if there are any.
+     */
+    private boolean collectErrors() {
+        for (Unit unit : units) {
+            if (!unit.errors.isEmpty()) {
+                errors.add(unit.file + ":");
+                errors.addAll(unit.errors);
+            }
+        }
+        return !errors.isEmpty();
+    }
+
+    private void parse(Unit unit) throws Exception {
+        unit.source = new String(Files.readAllBytes(unit.file.toPath()), StandardCharsets.UTF_8);
+        NQJFrontend frontend = new NQJFrontend();
+        unit.program = frontend.parseFile(unit.file);
+        frontend.getSyntaxErrors().forEach(e -> unit.errors.add(e.toString()));
+        if (unit.program == null && unit.errors.isEmpty()) {
+            unit.errors.add("Could not parse " + unit.file);
+        }
+    }
+
+    private void compileModule(Unit unit) throws IOException {
+        Path module = modulePath(unit.file);
+        Path summary = summaryPath(unit.file);
+        if (Files.exists(module) && (SUMMARY_HEADER + unit.inputs).equals(firstLine(summary))) {
+            // neither the file nor the declarations it was compiled against changed
+            return;
+        }
+
+        // the declarations of all files in the same order for every module,
+        // so that the modules agree on the global names
+        NQJProgram program = Program(ClassDeclList(), FunctionDeclList());
+        program.setSourcePosition(unit.program.getSourcePosition());
+        Set<SourcePosition> otherFiles = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> classNames = new HashSet<>();
+        Set<String> functionNames = new HashSet<>();
+        for (Unit u : units) {
+            if (u == unit) {
+                for (NQJClassDecl c : new ArrayList<>(u.program.getClassDecls())) {
+                    c.setParent(null);
+                    program.getClassDecls().add(c);
+                    classNames.add(c.getName());
+                }
+                for (NQJFunctionDecl f : new ArrayList<>(u.program.getFunctionDecls())) {
+                    f.setParent(null);
+                    program.getFunctionDecls().add(f);
+                    functionNames.add(f.getName());
+                }
+                continue;
+            }
+            // the declarations of other files are only read, so they can be shared
+            for (NQJClassDecl c : u.declarations.getClassDecls()) {
+                program.getClassDecls().add(declaration(c));
+                otherFiles.add(c.getSourcePosition());
+            }
+            for (NQJFunctionDecl f : u.declarations.getFunctionDecls()) {
+                program.getFunctionDecls().add(declaration(f));
+                otherFiles.add(f.getSourcePosition());
+            }
+        }
+
+        Analysis analysis = new Analysis(program);
+        analysis.checkDeclarations();
+        if (!analysis.hasTypeErrors()) {
+            for (NQJClassDecl c : program.getClassDecls()) {
+                if (classNames.contains(c.getName())) {
+                    c.getMethods().forEach(analysis::checkFunction);
+                }
+            }
+            for (NQJFunctionDecl f : program.getFunctionDecls()) {
+                if (functionNames.contains(f.getName())) {
+                    analysis.checkFunction(f);
+                }
+            }
+        }
+        // errors in the declarations of other files are reported for those files
+        for (TypeError e : analysis.getTypeErrors()) {
+            if (!otherFiles.contains(e.getSource())) {
+                unit.errors.add(e.toString());
+            }
+        }
+        if (analysis.hasTypeErrors()) {
+            return;
+        }
+
+        Translator translator = new Translator(program);
+        translator.setRuntimeLibrary(true);
+        Prog prog = translator.translateModule(classNames, functionNames);
+        try (Writer out = Files.newBufferedWriter(module)) {
+            PrettyPrinter.printModule(prog, translator.getExternalGlobals(), out);
+        }
+        // written last, so that an interrupted compilation is repeated
+        try (Writer out = Files.newBufferedWriter(summary)) {
+            out.write(SUMMARY_HEADER + unit.inputs + "\n\n");
+            PrettyPrinter.printDeclarations(translator.getModuleDeclarations(), out);
+        }
+        synchronized (this) {
+            compiledModules++;
+        }
+    }
+
+    private static String firstLine(Path file) throws IOException {
+        try (BufferedReader r = Files.newBufferedReader(file)) {
+            return r.readLine();
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /*
+     * the classes and functions of a program without bodies.
+     */
+    private static NQJProgram declarations(NQJProgram prog) {
+        NQJProgram result = Program(ClassDeclList(), FunctionDeclList());
+        for (NQJClassDecl c : prog.getClassDecls()) {
+            result.getClassDecls().add(declaration(c));
+        }
+        for (NQJFunctionDecl f : prog.getFunctionDecls()) {
+            result.getFunctionDecls().add(declaration(f));
+        }
+        return result;
+    }
+
+    /*
+     * a class with the declarations of its methods. Only the class and its methods keep
+     * their positions, so that errors in the copy are reported at these positions.
+     */
+    private static NQJClassDecl declaration(NQJClassDecl c) {
+        NQJExtended extended = c.getExtended() instanceof NQJExtendsClass
+                ? ExtendsClass(((NQJExtendsClass) c.getExtended()).getName())
+                : ExtendsNothing();
+        NQJFunctionDeclList methods = FunctionDeclList();
+        for (NQJFunctionDecl m : c.getMethods()) {
+            methods.add(declaration(m));
+        }
+        NQJClassDecl result = ClassDecl(c.getName(), extended, copyVars(c.getFields()), methods);
+        result.setSourcePosition(c.getSourcePosition());
+        return result;
+    }
+
+    private static NQJFunctionDecl declaration(NQJFunctionDecl f) {
+        NQJFunctionDecl result = FunctionDecl(copyType(f.getReturnType()), f.getName(),
+                copyVars(f.getFormalParameters()), Block());
+        result.setSourcePosition(f.getSourcePosition());
+        return result;
+    }
+
+    private static NQJVarDeclList copyVars(NQJVarDeclList vars) {
+        NQJVarDeclList result = VarDeclList();
+        for (NQJVarDecl v : vars) {
+            result.add(VarDecl(copyType(v.getType()), v.getName()));
+        }
+        return result;
+    }
+
+    private static NQJType copyType(NQJType t) {
+        if (t instanceof NQJTypeArray) {
+            return TypeArray(copyType(((NQJTypeArray) t).getComponentType()));
+        } else if (t instanceof NQJTypeInt) {
+            return TypeInt();
+        } else if (t instanceof NQJTypeBool) {
+            return TypeBool();
+        }
+        return TypeClass(((NQJTypeClass) t).getName());
+    }
+
+    /**
+     * Compiles the modules of all files to object files in parallel and links them with the
+     * runtime library to the executable outputBase.exe. Object files of modules, which were
+     * not compiled again, are reused. The files must have been compiled successfully before.
+     */
+    public void link(String outputBase, NativeBuildDriver driver)
+            throws IOException, InterruptedException {
+        List<File> modules = new ArrayList<>();
+        List<File> objects = new ArrayList<>();
+        for (Unit unit : units) {
+            modules.add(modulePath(unit.file).toFile());
+            objects.add(new File(unit.file.getPath() + ".o"));
+        }
+        driver.compileObjects(modules, objects);
+        File executable = new File(outputBase + ".exe");
+        List<File> linked = new ArrayList<>(objects);
+        linked.add(driver.runtimeObject(executable.getAbsoluteFile().getParentFile()));
+        driver.link(linked, executable);
+    }
+
+    /**
+     * The module a file is compiled to.
+     */
+    public static Path modulePath(File file) {
+        return Paths.get(file.getPath() + ".ll");
+    }
+
+    /**
+     * The interface summary of the module a file is compiled to.
+     */
+    public static Path summaryPath(File file) {
+        return Paths.get(file.getPath() + ".summary");
+    }
+
+    /**
+     * The errors of the last compilation, preceded by the name of their file.
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * The number of modules compiled by the last compilation, modules of unchanged files
+     * are not counted.
+     */
+    public int getCompiledModules() {
+        return compiledModules;
+    }
+}
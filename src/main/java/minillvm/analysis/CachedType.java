@@ -0,0 +1,32 @@
+package minillvm.analysis;
+
+import minillvm.ast.Element;
+import minillvm.ast.Type;
+
+/**
+ * The type of a temporary variable together with the definition it was calculated from.
+ * Without a type, the type is being calculated.
+ *
+ * <p>Instances are immutable, so they can be shared between threads without synchronization.
+ */
+public final class CachedType {
+    private final Element definition;
+    private final Type type;
+
+    CachedType(Element definition, Type type) {
+        this.definition = definition;
+        this.type = type;
+    }
+
+    Element getDefinition() {
+        return definition;
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    boolean isInProgress() {
+        return type == null;
+    }
+}
@@ -5,31 +5,45 @@ import minillvm.ast.*;
 import minillvm.printer.PrettyPrinter;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 
 /**
  * Type check llvm program.
+ *
+ * <p>All checks work on the AST alone. The program is only pretty-printed when an error
+ * is found, and then only the procedure containing the error.
  */
 public class Checks {
 
-    private Map<Element, SourcePosition> sourcePositions;
-    private String progString;
-    private Map<BasicBlock, List<BasicBlock>> predecessorMap;
-
     /**
      * Type check llvm program.
      */
     public void checkProgram(Prog prog) {
-        StringBuilder sb = new StringBuilder();
-        PrettyPrinter printer = new PrettyPrinter(sb);
-        prog.match(printer);
-        sourcePositions = printer.getSourcePositions();
-        progString = sb.toString();
+        try {
+            checkRooted(prog);
+        } catch (PendingError e) {
+            throw render(prog, e);
+        }
 
-        checkRooted(prog);
+        // procedures are checked independently, the first error in program order is reported
+        TypeCache.warmUp(prog);
+        List<Optional<PendingError>> results = prog.getProcedures().parallelStream()
+                .map(this::tryCheckProcedure)
+                .collect(Collectors.toList());
+        for (Optional<PendingError> result : results) {
+            if (result.isPresent()) {
+                throw render(prog, result.get());
+            }
+        }
+    }
 
-        for (Proc proc : prog.getProcedures()) {
+    private Optional<PendingError> tryCheckProcedure(Proc proc) {
+        try {
             checkProcedure(proc);
+            return Optional.empty();
+        } catch (PendingError e) {
+            return Optional.of(e);
         }
     }
 
@@ -159,10 +173,11 @@ public class Checks {
             error(proc, "Procedure " + proc.getName() + " has no basic blocks.");
         }
 
-        predecessorMap = buildPredecessors(proc.getBasicBlocks());
+        Map<BasicBlock, List<BasicBlock>> predecessorMap =
+                buildPredecessors(proc.getBasicBlocks());
 
         for (BasicBlock block : proc.getBasicBlocks()) {
-            checkBlock(block);
+            checkBlock(block, predecessorMap);
         }
     }
 
@@ -201,7 +216,8 @@ public class Checks {
         return result;
     }
 
-    private void checkBlock(BasicBlock block) {
+    private void checkBlock(BasicBlock block,
+                            Map<BasicBlock, List<BasicBlock>> predecessorMap) {
         boolean afterPhi = false;
         boolean afterTerminating = false;
         for (Instruction instr : block) {
@@ -217,7 +233,7 @@ public class Checks {
             if (afterPhi && instr instanceof PhiNode) {
                 error(instr, "Phi node instruction not at the beginning of block.");
             }
-            checkInstruction(instr);
+            checkInstruction(instr, predecessorMap);
             if (instr instanceof TerminatingInstruction) {
                 afterTerminating = true;
             }
@@ -228,7 +244,8 @@ public class Checks {
         }
     }
 
-    private void checkInstruction(Instruction instr) {
+    private void checkInstruction(Instruction instr,
+                                  Map<BasicBlock, List<BasicBlock>> predecessorMap) {
         checkReferences(instr);
         instr.match(new Instruction.MatcherVoid() {
             @Override
@@ -249,7 +266,7 @@ public class Checks {
 
             @Override
             public void case_Branch(Branch branch) {
-                expectType(branch.getCondition(), Ast.TypeBool());
+                expectType(branch.getCondition(), TypeTable.BOOL);
                 checkReference(branch, branch.getIfTrueLabel(), Proc.class);
                 checkReference(branch, branch.getIfFalseLabel(), Proc.class);
             }
@@ -289,7 +306,7 @@ public class Checks {
 
             @Override
             public void case_Print(Print print) {
-                expectType(print.getE(), Ast.TypeInt());
+                expectType(print.getE(), TypeTable.INT);
             }
 
             @Override
@@ -509,8 +526,29 @@ public class Checks {
     }
 
     private void error(Element e, String s) {
-        SourcePosition pos = getPos(e);
-        String[] lines = progString.split("\n");
+        throw new PendingError(e, s);
+    }
+
+    /**
+     * Renders the source snippet for an error.
+     * Only the procedure containing the erroneous element is printed,
+     * or the whole program if the element does not belong to a procedure.
+     */
+    private LlvmTypeError render(Prog prog, PendingError error) {
+        Proc proc = getParent(Proc.class, error.element);
+        Element context = proc == null ? prog : proc;
+        String message = error.getMessage();
+        if (proc != null) {
+            message += " (in procedure " + proc.getName() + ")";
+        }
+
+        StringBuilder printed = new StringBuilder();
+        PrettyPrinter printer = new PrettyPrinter(printed, true);
+        context.match(printer);
+        Map<Element, SourcePosition> sourcePositions = printer.getSourcePositions();
+
+        SourcePosition pos = getPos(sourcePositions, error.element);
+        String[] lines = printed.toString().split("\n");
         String line = lines[pos.getLine() - 1];
 
         int endColumn;
@@ -520,7 +558,7 @@ public class Checks {
             endColumn = line.length();
         }
 
-        StringBuilder sb = new StringBuilder(s);
+        StringBuilder sb = new StringBuilder(message);
         sb.append("\n\n");
         for (int i = Math.max(0, pos.getLine() - 6); i <= pos.getLine() - 1; i++) {
             sb.append(i).append("\t").append(lines[i]).append("\n");
@@ -534,8 +572,7 @@ public class Checks {
             sb.append(i).append("\t").append(lines[i]).append("\n");
         }
 
-
-        throw new LlvmTypeError(pos, sb.toString());
+        return new LlvmTypeError(pos, sb.toString());
     }
 
     private String repeat(char c, int count) {
@@ -544,7 +581,7 @@ public class Checks {
         return new String(chars);
     }
 
-    private SourcePosition getPos(Element e) {
+    private SourcePosition getPos(Map<Element, SourcePosition> sourcePositions, Element e) {
         while (e != null) {
             SourcePosition sourcePosition = sourcePositions.get(e);
             if (sourcePosition != null) {
@@ -552,7 +589,21 @@ public class Checks {
             }
             e = e.getParent();
         }
-        return new SourcePosition("", 1, 0, 1, 0);
+        return SourcePosition.of("", 1, 0, 1, 0);
     }
 
+    /**
+     * An error found by the checks, which has not been rendered yet.
+     */
+    private static class PendingError extends RuntimeException {
+        private static final long serialVersionUID = 6390513711620418542L;
+
+        private final transient Element element;
+
+        PendingError(Element element, String message) {
+            // no stack trace needed, the error is always caught and rendered
+            super(message, null, false, false);
+            this.element = element;
+        }
+    }
 }
@@ -30,9 +30,9 @@ public class ExpectedType {
                     }
                 }
                 // unknown
-                return Ast.TypePointer(Ast.TypeByte());
+                return TypeTable.BYTE_POINTER;
             } else if (parent.getParent() instanceof GetElementPtr) {
-                return Ast.TypeInt();
+                return TypeTable.INT;
             }
             throw new RuntimeException();
         } else if (parent instanceof Instruction) {
@@ -50,12 +50,12 @@ public class ExpectedType {
                         }
                     }
                     // unknown
-                    return Ast.TypePointer(Ast.TypeByte());
+                    return TypeTable.BYTE_POINTER;
                 }
 
                 @Override
                 public Type case_Branch(Branch branch) {
-                    return Ast.TypeBool();
+                    return TypeTable.BOOL;
                 }
 
                 @Override
@@ -68,7 +68,7 @@ public class ExpectedType {
                         t = binaryOperation.getLeft().calculateType();
                     }
                     if (t instanceof TypeNullpointer) {
-                        return Ast.TypePointer(Ast.TypeByte());
+                        return TypeTable.BYTE_POINTER;
                     }
                     return t;
                 }
@@ -76,7 +76,7 @@ public class ExpectedType {
                 @Override
                 public Type case_Bitcast(Bitcast bitcast) {
                     // unknown
-                    return Ast.TypePointer(Ast.TypeByte());
+                    return TypeTable.BYTE_POINTER;
                 }
 
                 @Override
@@ -86,7 +86,7 @@ public class ExpectedType {
 
                 @Override
                 public Type case_Print(Print print) {
-                    return Ast.TypeInt();
+                    return TypeTable.INT;
                 }
 
                 @Override
@@ -112,18 +112,18 @@ public class ExpectedType {
                 @Override
                 public Type case_Load(Load load) {
                     // unknown
-                    return Ast.TypePointer(Ast.TypeByte());
+                    return TypeTable.BYTE_POINTER;
                 }
 
                 @Override
                 public Type case_Alloc(Alloc alloc) {
-                    return Ast.TypeInt();
+                    return TypeTable.INT;
                 }
 
                 @Override
                 public Type case_GetElementPtr(GetElementPtr gep) {
                     // unknown
-                    return Ast.TypePointer(Ast.TypeByte());
+                    return TypeTable.BYTE_POINTER;
                 }
 
                 @Override
@@ -139,7 +139,7 @@ public class ExpectedType {
                 @Override
                 public Type case_Call(Call call) {
                     // unknown
-                    return Ast.TypePointer(Ast.TypeByte());
+                    return TypeTable.BYTE_POINTER;
                 }
             });
         }
@@ -0,0 +1,127 @@
+package minillvm.analysis;
+
+import minillvm.ast.*;
+
+/**
+ * Invalidation hooks for the types cached by {@link Typechecker}.
+ *
+ * <p>The cache is stored in the elements of a program: temporary variables remember their type
+ * together with their defining instruction, procedures and globals remember the pointer type
+ * of references to them. Moving a variable to a different instruction and changing the
+ * signature of a procedure or the type of a global are detected automatically.
+ * Passes that modify the operands or types of an existing instruction in place
+ * must invalidate the affected variables (or the whole procedure) afterwards.
+ */
+public final class TypeCache {
+
+    private TypeCache() {
+    }
+
+    /**
+     * Forgets the cached type of a single variable.
+     */
+    public static void invalidate(TemporaryVar var) {
+        var.setCachedType(null);
+    }
+
+    /**
+     * Forgets all types cached for the variables of a procedure.
+     */
+    public static void invalidate(Proc proc) {
+        proc.setCachedPointerType(null);
+        for (BasicBlock block : proc.getBasicBlocks()) {
+            for (Instruction instr : block) {
+                if (instr instanceof Assign) {
+                    invalidate(((Assign) instr).getVar());
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets all types cached in a program.
+     */
+    public static void invalidate(Prog prog) {
+        for (Global global : prog.getGlobals()) {
+            global.setCachedPointerType(null);
+        }
+        for (Proc proc : prog.getProcedures()) {
+            invalidate(proc);
+        }
+    }
+
+    /**
+     * Fills the caches of all procedures and globals of a program.
+     * Must be called before the program is processed by several threads,
+     * so that the cached types are published safely.
+     */
+    public static void warmUp(Prog prog) {
+        for (Global global : prog.getGlobals()) {
+            pointerType(global);
+        }
+        for (Proc proc : prog.getProcedures()) {
+            pointerType(proc);
+        }
+    }
+
+    static Type lookup(TemporaryVar var, Element definition) {
+        CachedType cached = var.getCachedType();
+        if (cached != null && cached.getDefinition() == definition) {
+            return cached.getType();
+        }
+        return null;
+    }
+
+    static boolean isInProgress(TemporaryVar var, Element definition) {
+        CachedType cached = var.getCachedType();
+        return cached != null && cached.getDefinition() == definition && cached.isInProgress();
+    }
+
+    /*
+     * marks a variable whose type is being calculated, reaching it again means a cycle.
+     */
+    static void markInProgress(TemporaryVar var, Element definition) {
+        var.setCachedType(new CachedType(definition, null));
+    }
+
+    static void store(TemporaryVar var, Element definition, Type type) {
+        var.setCachedType(new CachedType(definition, type));
+    }
+
+    static TypePointer pointerType(Proc proc) {
+        TypePointer cached = proc.getCachedPointerType();
+        if (cached != null && matchesSignature((TypeProc) cached.getTo(), proc)) {
+            return cached;
+        }
+        TypeRefList types = Ast.TypeRefList();
+        for (Parameter v : proc.getParameters()) {
+            types.add(v.getType());
+        }
+        TypePointer result = Ast.TypePointer(Ast.TypeProc(types, proc.getReturnType()));
+        proc.setCachedPointerType(result);
+        return result;
+    }
+
+    static TypePointer pointerType(Global global) {
+        TypePointer cached = global.getCachedPointerType();
+        if (cached != null && cached.getTo() == global.getType()) {
+            return cached;
+        }
+        TypePointer result = Ast.TypePointer(global.getType());
+        global.setCachedPointerType(result);
+        return result;
+    }
+
+    private static boolean matchesSignature(TypeProc type, Proc proc) {
+        if (type.getResultType() != proc.getReturnType()
+                || type.getArgTypes().size() != proc.getParameters().size()) {
+            return false;
+        }
+        for (int i = 0; i < proc.getParameters().size(); i++) {
+            if (type.getArgTypes().get(i) != proc.getParameters().get(i).getType()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
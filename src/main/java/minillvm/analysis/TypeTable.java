@@ -0,0 +1,164 @@
+package minillvm.analysis;
+
+import minillvm.ast.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interning table for LLVM types.
+ *
+ * <p>Types obtained from the same table are structurally equal if and only if they are
+ * the same object, so they can be compared with {@code ==} and used as keys in hash maps.
+ * Primitive types are shared by all tables. Struct types are nominal and never copied.
+ *
+ * <p>A table is not thread-safe, it should be owned by the pass building a program.
+ */
+public final class TypeTable {
+    public static final TypeBool BOOL = Ast.TypeBool();
+    public static final TypeByte BYTE = Ast.TypeByte();
+    public static final TypeInt INT = Ast.TypeInt();
+    public static final TypeVoid VOID = Ast.TypeVoid();
+    public static final TypeNullpointer NULLPOINTER = Ast.TypeNullpointer();
+    public static final TypePointer BYTE_POINTER = Ast.TypePointer(BYTE);
+
+    private final Map<Type, TypePointer> pointers = new IdentityHashMap<>();
+    private final Map<Key, TypeArray> arrays = new HashMap<>();
+    private final Map<Key, TypeProc> procs = new HashMap<>();
+
+    public TypeTable() {
+        pointers.put(BYTE, BYTE_POINTER);
+    }
+
+    /**
+     * Returns the pointer type to the given type.
+     */
+    public TypePointer pointer(Type to) {
+        return pointers.computeIfAbsent(intern(to), Ast::TypePointer);
+    }
+
+    /**
+     * Returns the array type with the given element type and size.
+     */
+    public TypeArray array(Type of, int size) {
+        Type elem = intern(of);
+        return arrays.computeIfAbsent(new Key(size, elem), k -> Ast.TypeArray(elem, size));
+    }
+
+    /**
+     * Returns the procedure type with the given argument types and result type.
+     */
+    public TypeProc proc(List<Type> argTypes, Type resultType) {
+        Type[] components = new Type[argTypes.size() + 1];
+        components[0] = intern(resultType);
+        for (int i = 0; i < argTypes.size(); i++) {
+            components[i + 1] = intern(argTypes.get(i));
+        }
+        return procs.computeIfAbsent(new Key(0, components), k -> {
+            TypeRefList args = Ast.TypeRefList();
+            args.addAll(Arrays.asList(components).subList(1, components.length));
+            return Ast.TypeProc(args, components[0]);
+        });
+    }
+
+    /**
+     * Returns the canonical representative of a type, which may have been created elsewhere.
+     */
+    public Type intern(Type type) {
+        return type.match(new Type.Matcher<>() {
+            @Override
+            public Type case_TypeArray(TypeArray t) {
+                return array(t.getOf(), t.getSize());
+            }
+
+            @Override
+            public Type case_TypeBool(TypeBool t) {
+                return BOOL;
+            }
+
+            @Override
+            public Type case_TypeByte(TypeByte t) {
+                return BYTE;
+            }
+
+            @Override
+            public Type case_TypeInt(TypeInt t) {
+                return INT;
+            }
+
+            @Override
+            public Type case_TypePointer(TypePointer t) {
+                if (pointers.get(t.getTo()) == t) {
+                    // already canonical
+                    return t;
+                }
+                return pointer(t.getTo());
+            }
+
+            @Override
+            public Type case_TypeNullpointer(TypeNullpointer t) {
+                return NULLPOINTER;
+            }
+
+            @Override
+            public Type case_TypeProc(TypeProc t) {
+                return proc(new ArrayList<>(t.getArgTypes()), t.getResultType());
+            }
+
+            @Override
+            public Type case_TypeStruct(TypeStruct t) {
+                return t;
+            }
+
+            @Override
+            public Type case_TypeVoid(TypeVoid t) {
+                return VOID;
+            }
+        });
+    }
+
+    /**
+     * Hash key comparing interned component types by identity.
+     */
+    private static final class Key {
+        private final int size;
+        private final Type[] components;
+        private final int hash;
+
+        Key(int size, Type... components) {
+            this.size = size;
+            this.components = components;
+            int h = size;
+            for (Type t : components) {
+                h = 31 * h + System.identityHashCode(t);
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            if (size != other.size || components.length != other.components.length) {
+                return false;
+            }
+            for (int i = 0; i < components.length; i++) {
+                if (components[i] != other.components[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
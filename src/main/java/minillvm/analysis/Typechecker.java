@@ -8,25 +8,44 @@ import java.util.Set;
 
 /**
  * Type checker for LLVM.
+ *
+ * <p>Calculated types are cached in the AST (see {@link TypeCache}). A variable is marked
+ * while its type is calculated, so a cycle in the AST is reported as {@link LlvmTypeErrorCycle}
+ * when the calculation reaches the variable again. In debug mode, all elements on the cycle
+ * are collected for the error message.
  */
 public class Typechecker {
+    private static volatile boolean debug = Boolean.getBoolean("minillvm.typechecker.debug");
+
+    /**
+     * Enables or disables collecting the elements of cycles on every type calculation.
+     */
+    public static void setDebug(boolean debug) {
+        Typechecker.debug = debug;
+    }
+
+    /**
+     * Calculates the type of an operand.
+     */
     public static Type calculateType(Operand op) {
-        return calculateType(op, new LinkedHashSet<>());
+        return calculateType(op, debug ? new LinkedHashSet<>() : null);
     }
 
     private static Type calculateType(Operand op, Set<Element> visited) {
-        if (!visited.add(op)) {
+        if (visited != null && !visited.add(op)) {
             throw new LlvmTypeErrorCycle(visited);
         }
         return op.match(new Operand.Matcher<>() {
             @Override
             public Type case_Sizeof(Sizeof o) {
-                return Ast.TypeInt();
+                return TypeTable.INT;
             }
 
             @Override
             public Type case_VarRef(VarRef o) {
-                visited.add(o);
+                if (visited != null) {
+                    visited.add(o);
+                }
                 return calculateType(o.getVariable(), visited);
             }
 
@@ -37,35 +56,27 @@ public class Typechecker {
 
             @Override
             public Type case_Nullpointer(Nullpointer o) {
-                return Ast.TypeNullpointer();
+                return TypeTable.NULLPOINTER;
             }
 
             @Override
             public Type case_ProcedureRef(ProcedureRef o) {
-                Proc proc = o.getProcedure();
-                TypeRefList types = Ast.TypeRefList();
-
-                for (Parameter v : proc.getParameters()) {
-                    types.add(v.getType());
-                }
-
-                return Ast.TypePointer(Ast.TypeProc(types,
-                        proc.getReturnType()));
+                return TypeCache.pointerType(o.getProcedure());
             }
 
             @Override
             public Type case_ConstInt(ConstInt o) {
-                return Ast.TypeInt();
+                return TypeTable.INT;
             }
 
             @Override
             public Type case_GlobalRef(GlobalRef o) {
-                return Ast.TypePointer(o.getGlobal().getType());
+                return TypeCache.pointerType(o.getGlobal());
             }
 
             @Override
             public Type case_ConstBool(ConstBool o) {
-                return Ast.TypeBool();
+                return TypeTable.BOOL;
             }
         });
     }
@@ -75,8 +86,11 @@ public class Typechecker {
         return parameter.getType();
     }
 
+    /**
+     * Calculates the type of a variable.
+     */
     public static Type calculateType(Variable t) {
-        return calculateType(t, new LinkedHashSet<>());
+        return calculateType(t, debug ? new LinkedHashSet<>() : null);
     }
 
     /** Type calc. */
@@ -99,14 +113,39 @@ public class Typechecker {
         Element parent = t.getParent();
         if (parent == null) {
             // unknown
-            return Ast.TypeByte();
+            return TypeTable.BYTE;
+        }
+        Type cached = TypeCache.lookup(t, parent);
+        if (cached != null) {
+            return cached;
+        }
+        if (TypeCache.isInProgress(t, parent)) {
+            Set<Element> cycle = visited != null ? visited : new LinkedHashSet<>();
+            cycle.add(parent);
+            throw new LlvmTypeErrorCycle(cycle);
+        }
+        TypeCache.markInProgress(t, parent);
+        Type type;
+        try {
+            type = calculateDefinitionType(parent, visited);
+        } catch (RuntimeException e) {
+            // do not leave the mark behind for the next calculation
+            TypeCache.invalidate(t);
+            throw e;
+        }
+        TypeCache.store(t, parent, type);
+        return type;
+    }
+
+    private static Type calculateDefinitionType(Element parent, Set<Element> visited) {
+        if (visited != null) {
+            visited.add(parent);
         }
-        visited.add(parent);
         if (parent instanceof Assign) {
             return ((Assign) parent).match(new Assign.Matcher<>() {
                 @Override
                 public Type case_Alloc(Alloc alloc) {
-                    return Ast.TypePointer(Ast.TypeByte());
+                    return TypeTable.BYTE_POINTER;
                 }
 
                 @Override
@@ -134,7 +173,7 @@ public class Typechecker {
                 public Type case_BinaryOperation(BinaryOperation binOp) {
                     Operator op = binOp.getOperator();
                     if (isComparison(op)) {
-                        return Ast.TypeBool();
+                        return TypeTable.BOOL;
                     }
                     // other operators return the same type as the arguments
                     return calculateType(binOp.getLeft(), visited);
@@ -167,7 +206,7 @@ public class Typechecker {
                         return Ast.TypePointer(t);
                     }
                     // unknown
-                    return Ast.TypeByte();
+                    return TypeTable.BYTE;
                 }
 
                 @Override
@@ -188,7 +227,7 @@ public class Typechecker {
             }
         }
         // unknown
-        return Ast.TypeByte();
+        return TypeTable.BYTE;
     }
 
     public static boolean isComparison(Operator operator) {
@@ -210,6 +249,10 @@ public class Typechecker {
 
     /** Equals. */
     public static boolean equalsType(TypePointer t, Type other) {
+        if (t == other) {
+            // interned types, see TypeTable
+            return true;
+        }
         if (other instanceof TypePointer) {
             return t.getTo().equalsType(((TypePointer) other).getTo());
         }
@@ -218,6 +261,10 @@ public class Typechecker {
 
     /** Equals. */
     public static boolean equalsType(TypeArray t, Type other) {
+        if (t == other) {
+            // interned types, see TypeTable
+            return true;
+        }
         if (other instanceof TypeArray) {
             TypeArray ar = (TypeArray) other;
             return t.getOf().equalsType(ar.getOf())
@@ -229,6 +276,10 @@ public class Typechecker {
 
     /** Equals. */
     public static boolean equalsType(TypeProc t, Type other) {
+        if (t == other) {
+            // interned types, see TypeTable
+            return true;
+        }
         if (other instanceof TypeProc) {
             TypeProc tp = (TypeProc) other;
             if (!t.getResultType().equalsType(tp.getResultType())) {
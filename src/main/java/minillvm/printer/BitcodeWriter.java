@@ -0,0 +1,1078 @@
+package minillvm.printer;
+
+import minillvm.analysis.ExpectedType;
+import minillvm.analysis.TypeTable;
+import minillvm.analysis.Typechecker;
+import minillvm.ast.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes programs as llvm bitcode, which the llvm tools load without parsing text.
+ *
+ * <p>The bitcode describes the same module as {@link PrettyPrinter#printProgram}, including
+ * the builtins or the declarations of the {@link RuntimeLibrary}, so both disassemble to the
+ * same code. Records are written unabbreviated in the format of llvm 5 and newer: names of
+ * globals and procedures are kept in a string table, operands of instructions are numbered
+ * relative to the instruction.
+ */
+public final class BitcodeWriter {
+
+    private static final int ABBREV_WIDTH = 3;
+
+    // block ids
+    private static final int MODULE_BLOCK = 8;
+    private static final int PARAMATTR_BLOCK = 9;
+    private static final int PARAMATTR_GROUP_BLOCK = 10;
+    private static final int CONSTANTS_BLOCK = 11;
+    private static final int FUNCTION_BLOCK = 12;
+    private static final int IDENTIFICATION_BLOCK = 13;
+    private static final int VALUE_SYMTAB_BLOCK = 14;
+    private static final int TYPE_BLOCK = 17;
+    private static final int STRTAB_BLOCK = 23;
+
+    // identification and module records
+    private static final int IDENTIFICATION_STRING = 1;
+    private static final int IDENTIFICATION_EPOCH = 2;
+    private static final int MODULE_VERSION = 1;
+    private static final int MODULE_GLOBALVAR = 7;
+    private static final int MODULE_FUNCTION = 8;
+    private static final int PARAMATTR_ENTRY = 2;
+    private static final int PARAMATTR_GROUP_ENTRY = 3;
+    private static final int STRTAB_BLOB = 1;
+
+    // type records
+    private static final int TYPE_NUMENTRY = 1;
+    private static final int TYPE_VOID = 2;
+    private static final int TYPE_INTEGER = 7;
+    private static final int TYPE_POINTER = 8;
+    private static final int TYPE_ARRAY = 11;
+    private static final int TYPE_STRUCT_NAME = 19;
+    private static final int TYPE_STRUCT_NAMED = 20;
+    private static final int TYPE_FUNCTION = 21;
+
+    // constant records
+    private static final int CST_SETTYPE = 1;
+    private static final int CST_NULL = 2;
+    private static final int CST_INTEGER = 4;
+    private static final int CST_AGGREGATE = 7;
+    private static final int CST_STRING = 8;
+    private static final int CST_CE_CAST = 11;
+    private static final int CST_CE_GEP = 12;
+    private static final int CST_CE_INBOUNDS_GEP = 20;
+
+    // function records
+    private static final int FUNC_DECLAREBLOCKS = 1;
+    private static final int INST_BINOP = 2;
+    private static final int INST_CAST = 3;
+    private static final int INST_RET = 10;
+    private static final int INST_BR = 11;
+    private static final int INST_UNREACHABLE = 15;
+    private static final int INST_PHI = 16;
+    private static final int INST_ALLOCA = 19;
+    private static final int INST_LOAD = 20;
+    private static final int INST_CMP2 = 28;
+    private static final int INST_CALL = 34;
+    private static final int INST_GEP = 43;
+    private static final int INST_STORE = 44;
+    private static final int VST_ENTRY = 1;
+    private static final int VST_BBENTRY = 2;
+
+    // operand values
+    private static final int LINKAGE_EXTERNAL = 0;
+    private static final int LINKAGE_PRIVATE = 9;
+    private static final int CAST_PTRTOINT = 9;
+    private static final int CAST_BITCAST = 11;
+    private static final int ICMP_EQ = 32;
+    private static final int ICMP_SLT = 40;
+    private static final long CALL_EXPLICIT_TYPE = 1 << 15;
+    private static final long ALLOCA_EXPLICIT_TYPE = 1 << 6;
+    private static final long GLOBAL_EXPLICIT_TYPE = 2;
+    private static final long ATTRIBUTE_RETURN_INDEX = 0;
+    private static final long ATTRIBUTE_ENUM = 0;
+    private static final long ATTRIBUTE_NO_ALIAS = 9;
+    // the attribute list of malloc, its result is noalias
+    private static final long MALLOC_ATTRIBUTES = 1;
+
+    // a value is referenced by its kind and its number among the values of that kind,
+    // the values of a procedure are numbered when it is written
+    private static final long MODULE_VALUE = 0;
+    private static final long ARGUMENT = 1L << 32;
+    private static final long CONSTANT = 2L << 32;
+    private static final long INSTRUCTION = 3L << 32;
+    private static final long VALUE_KIND = 3L << 32;
+
+    // how a reference is written in a record of a procedure, operands without a tag are
+    // written as they are
+    private static final long RELATIVE = 1L << 62;
+    private static final long SIGNED_RELATIVE = 2L << 62;
+    private static final long ABSOLUTE = 3L << 62;
+    private static final long TAG = 3L << 62;
+
+    private final Prog prog;
+    private final boolean runtimeLibrary;
+
+    private final TypeTable types = new TypeTable();
+    private final Map<Type, Integer> typeIds = new IdentityHashMap<>();
+    private final List<Type> typeList = new ArrayList<>();
+    private final Set<Type> enumeratingStructs = Collections.newSetFromMap(new IdentityHashMap<>());
+    // i32 (i8*, ...), the only procedure type taking variable arguments
+    private final TypeProc printfType = Ast.TypeProc(Ast.TypeRefList(TypeTable.BYTE_POINTER),
+            TypeTable.INT);
+
+    // ids of the module values: globals, procedures and the constants of the module
+    private final Map<String, Integer> messageIds = new LinkedHashMap<>();
+    private final Map<Global, Integer> globalIds = new IdentityHashMap<>();
+    private final Map<Proc, Integer> procIds = new IdentityHashMap<>();
+    private int printstrId;
+    private int mallocId;
+    private int printfId;
+    private int exitId;
+    private int printId;
+    private int errorId;
+    private int moduleValues;
+
+    private ConstantTable moduleConstants;
+    private final List<long[]> moduleRecords = new ArrayList<>();
+    private final List<FunctionBody> bodies = new ArrayList<>();
+    private final ByteArrayOutputStream strtab = new ByteArrayOutputStream();
+
+    private BitcodeWriter(Prog prog, boolean runtimeLibrary) {
+        this.prog = prog;
+        this.runtimeLibrary = runtimeLibrary;
+    }
+
+    /**
+     * Writes a program as bitcode.
+     */
+    public static void writeProgram(Prog prog, OutputStream out) throws IOException {
+        writeProgram(prog, out, false);
+    }
+
+    /**
+     * Writes a program as bitcode. If runtimeLibrary is set, the program calls the
+     * {@link RuntimeLibrary} like a program printed for it.
+     */
+    public static void writeProgram(Prog prog, OutputStream out, boolean runtimeLibrary)
+            throws IOException {
+        // the same names as in the printed program
+        DuplicateNames.eliminateDuplicateNames(prog);
+        BitcodeWriter writer = new BitcodeWriter(prog, runtimeLibrary);
+        writer.numberModuleValues();
+        writer.buildModule();
+        writer.write().writeTo(out);
+        out.flush();
+    }
+
+    /*
+     * numbers the globals, then the procedures, in the order of the printed program.
+     */
+    private void numberModuleValues() {
+        prog.accept(new Element.DefaultVisitor() {
+            public void visit(HaltWithError e) {
+                super.visit(e);
+                messageIds.putIfAbsent(e.getMsg(), messageIds.size());
+            }
+        });
+        int id = messageIds.size();
+        for (Global g : prog.getGlobals()) {
+            globalIds.put(g, id++);
+        }
+        if (!runtimeLibrary) {
+            printstrId = id++;
+        }
+        for (Proc p : prog.getProcedures()) {
+            procIds.put(p, id++);
+        }
+        mallocId = id++;
+        if (runtimeLibrary) {
+            printId = id++;
+            errorId = id++;
+        } else {
+            printfId = id++;
+            exitId = id++;
+            printId = id++;
+        }
+        moduleConstants = new ConstantTable(MODULE_VALUE | id);
+    }
+
+    /*
+     * builds the records of the module and its procedures, which number all types.
+     */
+    private void buildModule() {
+        for (Map.Entry<String, Integer> message : messageIds.entrySet()) {
+            byte[] bytes = (message.getKey() + "\n\0").getBytes(StandardCharsets.UTF_8);
+            Type type = types.array(TypeTable.BYTE, bytes.length);
+            long init = moduleConstants.add(type, CST_STRING, chars(bytes));
+            moduleRecords.add(globalVar(".print_message_" + (message.getValue() + 1), type,
+                    true, init, LINKAGE_PRIVATE));
+        }
+        for (Global g : prog.getGlobals()) {
+            long init = g.getInitialValue() == null ? -1
+                    : constant(moduleConstants, g.getInitialValue(), g.getType());
+            moduleRecords.add(globalVar(g.getName(), g.getType(), g.getIsConstant(), init,
+                    LINKAGE_EXTERNAL));
+        }
+        if (!runtimeLibrary) {
+            byte[] bytes = "%d\n\0".getBytes(StandardCharsets.UTF_8);
+            Type type = types.array(TypeTable.BYTE, bytes.length);
+            long init = moduleConstants.add(type, CST_STRING, chars(bytes));
+            moduleRecords.add(globalVar(".printstr", type, true, init, LINKAGE_PRIVATE));
+        }
+        moduleValues = (int) moduleConstants.first + moduleConstants.constants.size();
+
+        for (Proc p : prog.getProcedures()) {
+            List<Type> argTypes = new ArrayList<>();
+            for (Parameter param : p.getParameters()) {
+                argTypes.add(param.getType());
+            }
+            boolean declaration = p.getBasicBlocks().isEmpty();
+            moduleRecords.add(function(p.getName(), types.proc(argTypes, p.getReturnType()),
+                    declaration, 0));
+            if (!declaration) {
+                FunctionBody body = new FunctionBody(p.getParameters().size());
+                body.build(p);
+                bodies.add(body);
+            }
+        }
+        moduleRecords.add(function("malloc", mallocType(), true, MALLOC_ATTRIBUTES));
+        if (runtimeLibrary) {
+            moduleRecords.add(function("print", printType(), true, 0));
+            moduleRecords.add(function(RuntimeLibrary.ERROR, errorType(), true, 0));
+        } else {
+            moduleRecords.add(function("printf", printfType, true, 0));
+            moduleRecords.add(function("exit", types.proc(List.of(TypeTable.INT), TypeTable.VOID),
+                    true, 0));
+            moduleRecords.add(function("print", printType(), false, 0));
+            bodies.add(printBody());
+        }
+    }
+
+    private long[] globalVar(String name, Type type, boolean constant, long init, int linkage) {
+        boolean privateString = linkage == LINKAGE_PRIVATE;
+        int nameLength = name.getBytes(StandardCharsets.UTF_8).length;
+        return new long[] {MODULE_GLOBALVAR, name(name), nameLength, typeId(type),
+            (constant ? 1 : 0) | GLOBAL_EXPLICIT_TYPE, init + 1, linkage,
+            // strings are aligned to 1 byte, encoded as log2(alignment) + 1
+            privateString ? 1 : 0,
+            // section, visibility, thread local and unnamed_addr
+            0, 0, 0, privateString ? 1 : 0};
+    }
+
+    private long[] function(String name, TypeProc type, boolean declaration, long attributes) {
+        int nameLength = name.getBytes(StandardCharsets.UTF_8).length;
+        return new long[] {MODULE_FUNCTION, name(name), nameLength, typeId(type),
+            // calling convention
+            0, declaration ? 1 : 0, LINKAGE_EXTERNAL, attributes,
+            // alignment, section, visibility, gc and unnamed_addr
+            0, 0, 0, 0, 0};
+    }
+
+    /*
+     * adds a name to the string table and returns its offset.
+     */
+    private long name(String name) {
+        int offset = strtab.size();
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        strtab.write(bytes, 0, bytes.length);
+        return offset;
+    }
+
+    private TypeProc mallocType() {
+        return types.proc(List.of(TypeTable.INT), TypeTable.BYTE_POINTER);
+    }
+
+    private TypeProc printType() {
+        return types.proc(List.of(TypeTable.INT), TypeTable.VOID);
+    }
+
+    private TypeProc errorType() {
+        return types.proc(List.of(TypeTable.BYTE_POINTER), TypeTable.INT);
+    }
+
+    private BitstreamWriter write() {
+        BitstreamWriter out = new BitstreamWriter();
+        out.enterBlock(IDENTIFICATION_BLOCK, ABBREV_WIDTH);
+        out.record(IDENTIFICATION_STRING,
+                chars("NotQuiteJava".getBytes(StandardCharsets.UTF_8)));
+        out.record(IDENTIFICATION_EPOCH, 0);
+        out.exitBlock();
+
+        out.enterBlock(MODULE_BLOCK, ABBREV_WIDTH);
+        out.record(MODULE_VERSION, 2);
+        out.enterBlock(PARAMATTR_GROUP_BLOCK, ABBREV_WIDTH);
+        out.record(PARAMATTR_GROUP_ENTRY, MALLOC_ATTRIBUTES, ATTRIBUTE_RETURN_INDEX,
+                ATTRIBUTE_ENUM, ATTRIBUTE_NO_ALIAS);
+        out.exitBlock();
+        out.enterBlock(PARAMATTR_BLOCK, ABBREV_WIDTH);
+        out.record(PARAMATTR_ENTRY, MALLOC_ATTRIBUTES);
+        out.exitBlock();
+        writeTypes(out);
+        for (long[] r : moduleRecords) {
+            out.record((int) r[0], r, 1);
+        }
+        writeConstants(out, moduleConstants, null);
+        for (FunctionBody body : bodies) {
+            body.write(out);
+        }
+        out.exitBlock();
+
+        out.enterBlock(STRTAB_BLOCK, ABBREV_WIDTH);
+        out.blobRecord(STRTAB_BLOB, strtab.toByteArray());
+        out.exitBlock();
+        return out;
+    }
+
+    private int typeId(Type type) {
+        Type t = type == printfType ? type : types.intern(type);
+        Integer id = typeIds.get(t);
+        if (id == null) {
+            enumerateType(t);
+            id = typeIds.get(t);
+        }
+        return id;
+    }
+
+    /*
+     * numbers a type after the types it contains, like llvm does. Only named structs may be
+     * used before they are defined, so a struct is marked while its fields are numbered.
+     */
+    private void enumerateType(Type t) {
+        if (typeIds.containsKey(t) || enumeratingStructs.contains(t)) {
+            return;
+        }
+        if (t instanceof TypeStruct) {
+            enumeratingStructs.add(t);
+        }
+        for (Type component : components(t)) {
+            enumerateType(types.intern(component));
+        }
+        enumeratingStructs.remove(t);
+        if (typeIds.containsKey(t)) {
+            // numbered while its components were, through a pointer back to a struct
+            return;
+        }
+        typeIds.put(t, typeList.size());
+        typeList.add(t);
+    }
+
+    private static List<Type> components(Type t) {
+        if (t instanceof TypePointer) {
+            return List.of(((TypePointer) t).getTo());
+        } else if (t instanceof TypeArray) {
+            return List.of(((TypeArray) t).getOf());
+        } else if (t instanceof TypeProc) {
+            List<Type> result = new ArrayList<>();
+            result.add(((TypeProc) t).getResultType());
+            result.addAll(((TypeProc) t).getArgTypes());
+            return result;
+        } else if (t instanceof TypeStruct) {
+            List<Type> result = new ArrayList<>();
+            for (StructField f : ((TypeStruct) t).getFields()) {
+                result.add(f.getType());
+            }
+            return result;
+        } else if (t instanceof TypeNullpointer) {
+            throw new IllegalArgumentException("null has no type in llvm");
+        }
+        return List.of();
+    }
+
+    private void writeTypes(BitstreamWriter out) {
+        out.enterBlock(TYPE_BLOCK, ABBREV_WIDTH);
+        out.record(TYPE_NUMENTRY, typeList.size());
+        for (Type type : typeList) {
+            type.match(new Type.MatcherVoid() {
+                @Override
+                public void case_TypeArray(TypeArray t) {
+                    out.record(TYPE_ARRAY, t.getSize(), typeId(t.getOf()));
+                }
+
+                @Override
+                public void case_TypeBool(TypeBool t) {
+                    out.record(TYPE_INTEGER, 1);
+                }
+
+                @Override
+                public void case_TypeByte(TypeByte t) {
+                    out.record(TYPE_INTEGER, 8);
+                }
+
+                @Override
+                public void case_TypeInt(TypeInt t) {
+                    out.record(TYPE_INTEGER, 32);
+                }
+
+                @Override
+                public void case_TypePointer(TypePointer t) {
+                    // in address space 0
+                    out.record(TYPE_POINTER, typeId(t.getTo()), 0);
+                }
+
+                @Override
+                public void case_TypeNullpointer(TypeNullpointer t) {
+                    throw new IllegalArgumentException("null has no type in llvm");
+                }
+
+                @Override
+                public void case_TypeProc(TypeProc t) {
+                    long[] ops = new long[t.getArgTypes().size() + 2];
+                    ops[0] = t == printfType ? 1 : 0;
+                    ops[1] = typeId(t.getResultType());
+                    for (int i = 0; i < t.getArgTypes().size(); i++) {
+                        ops[i + 2] = typeId(t.getArgTypes().get(i));
+                    }
+                    out.record(TYPE_FUNCTION, ops);
+                }
+
+                @Override
+                public void case_TypeStruct(TypeStruct t) {
+                    byte[] name = t.getName().getBytes(StandardCharsets.UTF_8);
+                    out.record(TYPE_STRUCT_NAME, chars(name));
+                    // not packed
+                    long[] ops = new long[t.getFields().size() + 1];
+                    for (int i = 0; i < t.getFields().size(); i++) {
+                        ops[i + 1] = typeId(t.getFields().get(i).getType());
+                    }
+                    out.record(TYPE_STRUCT_NAMED, ops);
+                }
+
+                @Override
+                public void case_TypeVoid(TypeVoid t) {
+                    out.record(TYPE_VOID);
+                }
+            });
+        }
+        out.exitBlock();
+    }
+
+    /*
+     * adds a constant of the given type to the table and returns its reference.
+     * The type is only needed for null, which has no type of its own.
+     */
+    private long constant(ConstantTable table, Operand c, Type type) {
+        return c.match(new Operand.Matcher<Long>() {
+            @Override
+            public Long case_Sizeof(Sizeof s) {
+                // the address of the second struct in an array starting at null
+                TypeStruct struct = s.getStructType();
+                Type pointer = types.pointer(struct);
+                long nullpointer = table.add(pointer, CST_NULL);
+                long one = table.add(TypeTable.INT, CST_INTEGER, signed(1));
+                long next = table.add(pointer, CST_CE_GEP, typeId(struct), typeId(pointer),
+                        table.operand(nullpointer), typeId(TypeTable.INT), table.operand(one));
+                return table.add(TypeTable.INT, CST_CE_CAST, CAST_PTRTOINT, typeId(pointer),
+                        table.operand(next));
+            }
+
+            @Override
+            public Long case_VarRef(VarRef v) {
+                throw new IllegalArgumentException("not a constant: " + v);
+            }
+
+            @Override
+            public Long case_ConstStruct(ConstStruct s) {
+                if (s.getValues().isEmpty()) {
+                    // llvm rejects empty aggregate records, an empty struct is zeroinitializer
+                    return table.add(s.getStructType(), CST_NULL);
+                }
+                long[] ops = new long[s.getValues().size()];
+                for (int i = 0; i < ops.length; i++) {
+                    Type field = s.getStructType().getFields().get(i).getType();
+                    ops[i] = table.operand(constant(table, s.getValues().get(i), field));
+                }
+                return table.add(s.getStructType(), CST_AGGREGATE, ops);
+            }
+
+            @Override
+            public Long case_Nullpointer(Nullpointer n) {
+                return table.add(type, CST_NULL);
+            }
+
+            @Override
+            public Long case_ProcedureRef(ProcedureRef p) {
+                return MODULE_VALUE | procIds.get(p.getProcedure());
+            }
+
+            @Override
+            public Long case_ConstInt(ConstInt i) {
+                return table.add(TypeTable.INT, CST_INTEGER, signed(i.getIntVal()));
+            }
+
+            @Override
+            public Long case_GlobalRef(GlobalRef g) {
+                return MODULE_VALUE | globalIds.get(g.getGlobal());
+            }
+
+            @Override
+            public Long case_ConstBool(ConstBool b) {
+                return table.add(TypeTable.BOOL, CST_INTEGER, signed(b.getBoolVal() ? 1 : 0));
+            }
+        });
+    }
+
+    /*
+     * a pointer to the first character of a string global.
+     */
+    private long stringPointer(ConstantTable table, int global, int length) {
+        Type array = types.array(TypeTable.BYTE, length);
+        long zero = table.operand(table.add(TypeTable.INT, CST_INTEGER, signed(0)));
+        return table.add(TypeTable.BYTE_POINTER, CST_CE_INBOUNDS_GEP, typeId(array),
+                typeId(types.pointer(array)), table.operand(MODULE_VALUE | global),
+                typeId(TypeTable.INT), zero, typeId(TypeTable.INT), zero);
+    }
+
+    private void writeConstants(BitstreamWriter out, ConstantTable table, FunctionBody body) {
+        if (table.constants.isEmpty()) {
+            return;
+        }
+        out.enterBlock(CONSTANTS_BLOCK, ABBREV_WIDTH);
+        Type current = null;
+        for (Constant c : table.constants) {
+            if (c.type != current) {
+                out.record(CST_SETTYPE, typeId(c.type));
+                current = c.type;
+            }
+            long[] ops = c.ops;
+            if (body != null) {
+                ops = ops.clone();
+                for (int i = 0; i < ops.length; i++) {
+                    ops[i] = body.resolve(ops[i], 0);
+                }
+            }
+            out.record(c.code, ops);
+        }
+        out.exitBlock();
+    }
+
+    private static long signed(long value) {
+        return value >= 0 ? value << 1 : (-value << 1) | 1;
+    }
+
+    private static long[] chars(byte[] bytes) {
+        long[] result = new long[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            result[i] = bytes[i] & 0xFF;
+        }
+        return result;
+    }
+
+    private static Type pointee(Type pointer) {
+        if (!(pointer instanceof TypePointer)) {
+            throw new IllegalArgumentException("not a pointer type: " + pointer);
+        }
+        return ((TypePointer) pointer).getTo();
+    }
+
+    /*
+     * checks whether a name is written, numbers like %0 are implicit.
+     */
+    private static boolean isNamed(String name) {
+        return name != null && !name.isEmpty() && !name.chars().allMatch(Character::isDigit);
+    }
+
+    /**
+     * A constant record of a given type.
+     */
+    private static final class Constant {
+        private final Type type;
+        private final int code;
+        private final long[] ops;
+
+        private Constant(Type type, int code, long[] ops) {
+            this.type = type;
+            this.code = code;
+            this.ops = ops;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Constant)) {
+                return false;
+            }
+            Constant c = (Constant) o;
+            return type == c.type && code == c.code && Arrays.equals(ops, c.ops);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(type) + code) + Arrays.hashCode(ops);
+        }
+    }
+
+    /**
+     * The constants of the module or of a procedure, every constant is added once.
+     */
+    private final class ConstantTable {
+        // the reference of the first constant
+        private final long first;
+        private final List<Constant> constants = new ArrayList<>();
+        private final Map<Constant, Long> references = new HashMap<>();
+
+        private ConstantTable(long first) {
+            this.first = first;
+        }
+
+        long add(Type type, int code, long... ops) {
+            // the type table is written before the constants, so the type is numbered now
+            typeId(type);
+            Constant c = new Constant(types.intern(type), code, ops);
+            Long reference = references.get(c);
+            if (reference == null) {
+                reference = first + constants.size();
+                constants.add(c);
+                references.put(c, reference);
+            }
+            return reference;
+        }
+
+        /*
+         * the operand referencing a value in a constant record: the module value ids are
+         * known, the values of a procedure are numbered when it is written.
+         */
+        long operand(long reference) {
+            return (first & VALUE_KIND) == MODULE_VALUE ? reference : ABSOLUTE | reference;
+        }
+    }
+
+    /**
+     * A growing record of a procedure: the code, the number of the next instruction value
+     * and the operands.
+     */
+    private static final class Ops {
+        private long[] values = new long[8];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, 2 * size);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * The records of a procedure body. Operands reference values by their kind and number,
+     * the references are resolved when the body is written, after all constants of the
+     * body are known.
+     */
+    private final class FunctionBody implements Instruction.MatcherVoid {
+        private final int numArgs;
+        private final ConstantTable constants = new ConstantTable(CONSTANT);
+        private final Map<Variable, Long> values = new IdentityHashMap<>();
+        private final Map<BasicBlock, Integer> blockIds = new IdentityHashMap<>();
+        private final List<long[]> records = new ArrayList<>();
+        private final List<long[]> names = new ArrayList<>();
+        private Proc proc;
+        // the number of the next value defined by an instruction
+        private int instruction;
+        // the id of the first value defined by an instruction, see write
+        private long firstInstruction;
+
+        private FunctionBody(int numArgs) {
+            this.numArgs = numArgs;
+        }
+
+        void build(Proc p) {
+            proc = p;
+            int args = 0;
+            for (Parameter param : p.getParameters()) {
+                values.put(param, ARGUMENT | args);
+                name(VST_ENTRY, ABSOLUTE | ARGUMENT | args, param.getName());
+                args++;
+            }
+            // number all values first, operands may refer to values defined later
+            int nextValue = 0;
+            for (BasicBlock b : p.getBasicBlocks()) {
+                name(VST_BBENTRY, blockIds.size(), b.getName());
+                blockIds.put(b, blockIds.size());
+                for (Instruction i : b) {
+                    if (definesValue(i)) {
+                        TemporaryVar var = ((Assign) i).getVar();
+                        values.put(var, INSTRUCTION | nextValue);
+                        name(VST_ENTRY, ABSOLUTE | INSTRUCTION | nextValue, var.getName());
+                        nextValue++;
+                    } else if (i instanceof HaltWithError) {
+                        // the unnamed result of printf
+                        nextValue++;
+                    }
+                }
+            }
+            for (BasicBlock b : p.getBasicBlocks()) {
+                for (Instruction i : b) {
+                    i.match(this);
+                    if (definesValue(i)) {
+                        instruction++;
+                    }
+                }
+            }
+        }
+
+        private boolean definesValue(Instruction i) {
+            return i instanceof Assign
+                    && !(((Assign) i).getVar().calculateType() instanceof TypeVoid);
+        }
+
+        private void name(int code, long value, String name) {
+            if (isNamed(name)) {
+                Ops ops = record(code);
+                ops.add(value);
+                for (long c : chars(name.getBytes(StandardCharsets.UTF_8))) {
+                    ops.add(c);
+                }
+                names.add(ops.toArray());
+            }
+        }
+
+        private Ops record(int code) {
+            Ops ops = new Ops();
+            ops.add(code);
+            ops.add(instruction);
+            return ops;
+        }
+
+        private void add(Ops ops) {
+            records.add(ops.toArray());
+        }
+
+        private long value(Operand op, Type context) {
+            if (op instanceof VarRef) {
+                Long value = values.get(((VarRef) op).getVariable());
+                if (value == null) {
+                    throw new IllegalArgumentException("undefined variable in " + proc.getName()
+                            + ": " + op);
+                }
+                return value;
+            }
+            return constant(constants, op, type(op, context));
+        }
+
+        /*
+         * the type of an operand, null gets the type expected by the given context,
+         * which may be null to derive it from the parent of the operand.
+         */
+        private Type type(Operand op, Type context) {
+            Type t = op.calculateType();
+            if (t instanceof TypeNullpointer) {
+                return context != null ? context : ExpectedType.expectedType(op);
+            }
+            return t;
+        }
+
+        private boolean isForwardReference(long value) {
+            return (value & VALUE_KIND) == INSTRUCTION && (int) value >= instruction;
+        }
+
+        private void pushValue(Ops ops, Operand op, Type context) {
+            ops.add(RELATIVE | value(op, context));
+        }
+
+        /*
+         * values defined later are followed by their type, which is not known yet when
+         * llvm reads the operand.
+         */
+        private void pushValueAndType(Ops ops, Operand op, Type context) {
+            long value = value(op, context);
+            ops.add(RELATIVE | value);
+            if (isForwardReference(value)) {
+                ops.add(typeId(type(op, context)));
+            }
+        }
+
+        private void call(TypeProc type, long function, long... args) {
+            Ops ops = record(INST_CALL);
+            // no attributes, explicit function type
+            ops.add(0);
+            ops.add(CALL_EXPLICIT_TYPE);
+            ops.add(typeId(type));
+            ops.add(RELATIVE | function);
+            for (long arg : args) {
+                ops.add(RELATIVE | arg);
+            }
+            add(ops);
+        }
+
+        @Override
+        public void case_Alloca(Alloca s) {
+            Ops ops = record(INST_ALLOCA);
+            ops.add(typeId(s.getType()));
+            ops.add(typeId(TypeTable.INT));
+            ops.add(ABSOLUTE | constants.add(TypeTable.INT, CST_INTEGER, signed(1)));
+            // default alignment
+            ops.add(ALLOCA_EXPLICIT_TYPE);
+            add(ops);
+        }
+
+        @Override
+        public void case_Load(Load s) {
+            Ops ops = record(INST_LOAD);
+            pushValueAndType(ops, s.getAddress(), null);
+            ops.add(typeId(pointee(type(s.getAddress(), null))));
+            // default alignment, not volatile
+            ops.add(0);
+            ops.add(0);
+            add(ops);
+        }
+
+        @Override
+        public void case_Store(Store s) {
+            Ops ops = record(INST_STORE);
+            Type address = type(s.getAddress(), null);
+            pushValueAndType(ops, s.getAddress(), address);
+            pushValueAndType(ops, s.getValue(), pointee(address));
+            ops.add(0);
+            ops.add(0);
+            add(ops);
+        }
+
+        @Override
+        public void case_GetElementPtr(GetElementPtr s) {
+            Ops ops = record(INST_GEP);
+            Type base = type(s.getBaseAddress(), null);
+            // not inbounds
+            ops.add(0);
+            ops.add(typeId(pointee(base)));
+            pushValueAndType(ops, s.getBaseAddress(), base);
+            for (Operand index : s.getIndices()) {
+                pushValueAndType(ops, index, TypeTable.INT);
+            }
+            add(ops);
+        }
+
+        @Override
+        public void case_BinaryOperation(BinaryOperation s) {
+            boolean comparison = Typechecker.isComparison(s.getOperator());
+            Ops ops = record(comparison ? INST_CMP2 : INST_BINOP);
+            Type left = type(s.getLeft(), null);
+            pushValueAndType(ops, s.getLeft(), left);
+            pushValue(ops, s.getRight(), left);
+            int opcode = s.getOperator().match(new Operator.Matcher<Integer>() {
+                @Override
+                public Integer case_Add(Add add) {
+                    return 0;
+                }
+
+                @Override
+                public Integer case_Sub(Sub sub) {
+                    return 1;
+                }
+
+                @Override
+                public Integer case_Mul(Mul mul) {
+                    return 2;
+                }
+
+                @Override
+                public Integer case_Sdiv(Sdiv sdiv) {
+                    return 4;
+                }
+
+                @Override
+                public Integer case_Srem(Srem srem) {
+                    return 6;
+                }
+
+                @Override
+                public Integer case_And(And and) {
+                    return 10;
+                }
+
+                @Override
+                public Integer case_Or(Or or) {
+                    return 11;
+                }
+
+                @Override
+                public Integer case_Xor(Xor xor) {
+                    return 12;
+                }
+
+                @Override
+                public Integer case_Eq(Eq eq) {
+                    return ICMP_EQ;
+                }
+
+                @Override
+                public Integer case_Slt(Slt slt) {
+                    return ICMP_SLT;
+                }
+            });
+            ops.add(opcode);
+            add(ops);
+        }
+
+        @Override
+        public void case_Bitcast(Bitcast s) {
+            Ops ops = record(INST_CAST);
+            pushValueAndType(ops, s.getExpr(), null);
+            ops.add(typeId(s.getType()));
+            ops.add(CAST_BITCAST);
+            add(ops);
+        }
+
+        @Override
+        public void case_Call(Call s) {
+            Ops ops = record(INST_CALL);
+            TypeProc type = (TypeProc) pointee(type(s.getFunction(), null));
+            ops.add(0);
+            ops.add(CALL_EXPLICIT_TYPE);
+            ops.add(typeId(type));
+            pushValueAndType(ops, s.getFunction(), null);
+            for (int i = 0; i < s.getArguments().size(); i++) {
+                pushValue(ops, s.getArguments().get(i), type.getArgTypes().get(i));
+            }
+            add(ops);
+        }
+
+        @Override
+        public void case_Alloc(Alloc s) {
+            call(mallocType(), mallocId, value(s.getSizeInBytes(), TypeTable.INT));
+        }
+
+        @Override
+        public void case_Print(Print s) {
+            call(printType(), printId, value(s.getE(), TypeTable.INT));
+        }
+
+        @Override
+        public void case_HaltWithError(HaltWithError s) {
+            int length = s.getMsg().getBytes(StandardCharsets.UTF_8).length + 2;
+            long msg = stringPointer(constants, messageIds.get(s.getMsg()), length);
+            if (runtimeLibrary) {
+                call(errorType(), errorId, msg);
+                instruction++;
+            } else {
+                call(printfType, printfId, msg);
+                instruction++;
+                call(types.proc(List.of(TypeTable.INT), TypeTable.VOID), exitId,
+                        constants.add(TypeTable.INT, CST_INTEGER, signed(222)));
+            }
+            add(record(INST_UNREACHABLE));
+        }
+
+        @Override
+        public void case_ReturnExpr(ReturnExpr s) {
+            Ops ops = record(INST_RET);
+            pushValueAndType(ops, s.getReturnValue(), proc.getReturnType());
+            add(ops);
+        }
+
+        @Override
+        public void case_ReturnVoid(ReturnVoid s) {
+            add(record(INST_RET));
+        }
+
+        @Override
+        public void case_Branch(Branch s) {
+            Ops ops = record(INST_BR);
+            ops.add(blockIds.get(s.getIfTrueLabel()));
+            ops.add(blockIds.get(s.getIfFalseLabel()));
+            pushValue(ops, s.getCondition(), TypeTable.BOOL);
+            add(ops);
+        }
+
+        @Override
+        public void case_Jump(Jump s) {
+            Ops ops = record(INST_BR);
+            ops.add(blockIds.get(s.getLabel()));
+            add(ops);
+        }
+
+        @Override
+        public void case_PhiNode(PhiNode s) {
+            Ops ops = record(INST_PHI);
+            ops.add(typeId(s.getType()));
+            for (PhiNodeChoice choice : s.getChoices()) {
+                // phi nodes often refer to later values, so the offset is signed
+                ops.add(SIGNED_RELATIVE | value(choice.getValue(), s.getType()));
+                ops.add(blockIds.get(choice.getLabel()));
+            }
+            add(ops);
+        }
+
+        @Override
+        public void case_CommentInstr(CommentInstr s) {
+            // comments are not kept in bitcode
+        }
+
+        /*
+         * resolves an operand of a record written while the given instruction value was next.
+         */
+        long resolve(long op, int nextValue) {
+            long tag = op & TAG;
+            if (tag == 0) {
+                return op;
+            }
+            long reference = op & ~TAG;
+            int number = (int) reference;
+            long id;
+            if ((reference & VALUE_KIND) == MODULE_VALUE) {
+                id = number;
+            } else if ((reference & VALUE_KIND) == ARGUMENT) {
+                id = moduleValues + number;
+            } else if ((reference & VALUE_KIND) == CONSTANT) {
+                id = moduleValues + numArgs + number;
+            } else {
+                id = firstInstruction + number;
+            }
+            if (tag == ABSOLUTE) {
+                return id;
+            }
+            long relative = firstInstruction + nextValue - id;
+            return tag == RELATIVE ? relative & 0xFFFFFFFFL : signed(relative);
+        }
+
+        void write(BitstreamWriter out) {
+            firstInstruction = moduleValues + numArgs + constants.constants.size();
+            out.enterBlock(FUNCTION_BLOCK, ABBREV_WIDTH);
+            out.record(FUNC_DECLAREBLOCKS, Math.max(blockIds.size(), 1));
+            writeConstants(out, constants, this);
+            writeRecords(out, records);
+            if (!names.isEmpty()) {
+                out.enterBlock(VALUE_SYMTAB_BLOCK, ABBREV_WIDTH);
+                writeRecords(out, names);
+                out.exitBlock();
+            }
+            out.exitBlock();
+        }
+
+        private void writeRecords(BitstreamWriter out, List<long[]> list) {
+            for (long[] r : list) {
+                for (int i = 2; i < r.length; i++) {
+                    r[i] = resolve(r[i], (int) r[1]);
+                }
+                out.record((int) r[0], r, 2);
+            }
+        }
+    }
+
+    /*
+     * the builtin print procedure, see PrettyPrinter.addBuiltins.
+     */
+    private FunctionBody printBody() {
+        FunctionBody body = new FunctionBody(1);
+        body.name(VST_ENTRY, ABSOLUTE | ARGUMENT, "i");
+        body.name(VST_ENTRY, ABSOLUTE | INSTRUCTION, "temp");
+        long format = stringPointer(body.constants, printstrId, 4);
+        body.call(printfType, printfId, format, ARGUMENT);
+        body.instruction++;
+        body.add(body.record(INST_RET));
+        return body;
+    }
+}
@@ -0,0 +1,168 @@
+package minillvm.printer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Writes the bitstream container of llvm bitcode: blocks of records, packed into
+ * little endian 32 bit words starting with the least significant bit.
+ *
+ * <p>Records are written unabbreviated, only the string table blob needs an abbreviation.
+ * The length of a block is patched in when the block is exited, so the stream is kept
+ * in memory until it is written with {@link #writeTo}.
+ */
+final class BitstreamWriter {
+
+    // the abbreviation ids every block starts with
+    private static final int END_BLOCK = 0;
+    private static final int ENTER_SUBBLOCK = 1;
+    private static final int DEFINE_ABBREV = 2;
+    private static final int UNABBREV_RECORD = 3;
+    private static final int FIRST_ABBREV = 4;
+
+    // operand encodings of abbreviations
+    private static final int ENCODING_BLOB = 5;
+
+    private static final int TOP_LEVEL_ABBREV_WIDTH = 2;
+
+    private byte[] bytes = new byte[1 << 16];
+    private int length;
+    // bits which do not fill a byte yet
+    private long pending;
+    private int pendingBits;
+    private int abbrevWidth = TOP_LEVEL_ABBREV_WIDTH;
+    // for every open block: the abbreviation width outside and the offset of its length word
+    private final Deque<int[]> blocks = new ArrayDeque<>();
+
+    BitstreamWriter() {
+        // the magic number of llvm bitcode, 'BC' 0xC0DE
+        emit('B', 8);
+        emit('C', 8);
+        emit(0x0, 4);
+        emit(0xC, 4);
+        emit(0xE, 4);
+        emit(0xD, 4);
+    }
+
+    /**
+     * Starts a block, records are written to it until {@link #exitBlock()}.
+     */
+    void enterBlock(int blockId, int width) {
+        emit(ENTER_SUBBLOCK, abbrevWidth);
+        emitVbr(blockId, 8);
+        emitVbr(width, 4);
+        alignTo32Bits();
+        blocks.push(new int[] {abbrevWidth, length});
+        // the length of the block in words, see exitBlock
+        emit(0, 32);
+        abbrevWidth = width;
+    }
+
+    void exitBlock() {
+        emit(END_BLOCK, abbrevWidth);
+        alignTo32Bits();
+        int[] block = blocks.pop();
+        int lengthOffset = block[1];
+        int words = (length - lengthOffset) / 4 - 1;
+        for (int i = 0; i < 4; i++) {
+            bytes[lengthOffset + i] = (byte) (words >>> (8 * i));
+        }
+        abbrevWidth = block[0];
+    }
+
+    /**
+     * Writes a record with the given operands.
+     */
+    void record(int code, long... ops) {
+        record(code, ops, 0);
+    }
+
+    /**
+     * Writes a record with the operands of ops starting at index from.
+     */
+    void record(int code, long[] ops, int from) {
+        emit(UNABBREV_RECORD, abbrevWidth);
+        emitVbr(code, 6);
+        emitVbr(ops.length - from, 6);
+        for (int i = from; i < ops.length; i++) {
+            emitVbr(ops[i], 6);
+        }
+    }
+
+    /**
+     * Writes a record consisting of a blob. The abbreviation for it is defined in the current
+     * block, so this can only be used once per block.
+     */
+    void blobRecord(int code, byte[] blob) {
+        emit(DEFINE_ABBREV, abbrevWidth);
+        // two operands: the literal record code and the blob
+        emitVbr(2, 5);
+        emit(1, 1);
+        emitVbr(code, 8);
+        emit(0, 1);
+        emit(ENCODING_BLOB, 3);
+
+        emit(FIRST_ABBREV, abbrevWidth);
+        emitVbr(blob.length, 6);
+        alignTo32Bits();
+        for (byte b : blob) {
+            emit(b & 0xFF, 8);
+        }
+        alignTo32Bits();
+    }
+
+    /**
+     * Writes the stream, all blocks must have been exited.
+     */
+    void writeTo(OutputStream out) throws IOException {
+        if (!blocks.isEmpty()) {
+            throw new IllegalStateException(blocks.size() + " blocks are still open");
+        }
+        out.write(bytes, 0, length);
+    }
+
+    /*
+     * writes the lowest width bits of value, width is at most 32.
+     */
+    private void emit(long value, int width) {
+        pending |= (value & ((1L << width) - 1)) << pendingBits;
+        pendingBits += width;
+        while (pendingBits >= 8) {
+            put((byte) pending);
+            pending >>>= 8;
+            pendingBits -= 8;
+        }
+    }
+
+    /*
+     * writes value in chunks of width - 1 bits, the highest bit of a chunk tells whether
+     * another chunk follows.
+     */
+    private void emitVbr(long value, int width) {
+        long threshold = 1L << (width - 1);
+        while (value < 0 || value >= threshold) {
+            emit((value & (threshold - 1)) | threshold, width);
+            value >>>= width - 1;
+        }
+        emit(value, width);
+    }
+
+    private void alignTo32Bits() {
+        if (pendingBits > 0) {
+            emit(0, 8 - pendingBits);
+        }
+        while (length % 4 != 0) {
+            put((byte) 0);
+        }
+    }
+
+    private void put(byte b) {
+        if (length == bytes.length) {
+            bytes = Arrays.copyOf(bytes, 2 * length);
+        }
+        bytes[length++] = b;
+    }
+}
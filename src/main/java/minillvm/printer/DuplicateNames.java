@@ -2,11 +2,17 @@ package minillvm.printer;
 
 import minillvm.ast.*;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * Duplicate name elimination.
+ *
+ * <p>A duplicate name gets the first free suffix 1, 2, 3, ... appended. Each scope remembers
+ * the next suffix to try for every base name, so that names which are used many times,
+ * like the temporaries of the translation, are made unique in one pass.
  */
 public class DuplicateNames {
 
@@ -14,7 +20,7 @@ public class DuplicateNames {
      * Eliminates duplicate names in program.
      */
     public static void eliminateDuplicateNames(Prog prog) {
-        Set<String> globalNames = new HashSet<>();
+        Scope globalNames = new Scope();
 
         for (TypeStruct s : prog.getStructTypes()) {
             eliminateDuplicateNames(s, globalNames);
@@ -33,67 +39,92 @@ public class DuplicateNames {
     /**
      * Eliminates duplicate names in a proc.
      */
-    public static void eliminateDuplicateNames(Set<String> globalNames, Proc proc) {
-        Set<String> localNames = new HashSet<>();
+    public static void eliminateDuplicateNames(Scope globalNames, Proc proc) {
+        Scope localNames = new Scope(globalNames);
         for (Variable v : proc.getParameters()) {
-            eliminateDuplicateNames(v, globalNames, localNames);
+            v.setName(localNames.reserve(v.getName()));
         }
         for (BasicBlock b : proc.getBasicBlocks()) {
-            eliminateDuplicateNames(b, globalNames, localNames);
+            String name = b.getName() == null ? "block" : b.getName();
+            b.setName(localNames.reserve(name));
 
             for (Instruction instr : b) {
                 if (instr instanceof Assign) {
-                    Assign assign = (Assign) instr;
-                    eliminateDuplicateNames(assign.getVar(), globalNames, localNames);
+                    TemporaryVar var = ((Assign) instr).getVar();
+                    var.setName(localNames.reserve(var.getName()));
                 }
             }
         }
     }
 
     /**
-     * Eliminates duplicate names in a basic block.
+     * Eliminates duplicate names in a global element and registers its name.
      */
-    private static void eliminateDuplicateNames(BasicBlock e, Set<String> globalNames,
-                                                Set<String> localNames) {
-        String name = e.getName();
-        if (name == null) {
-            name = "block";
-        }
-        int i = 1;
-        while (globalNames.contains(name) || localNames.contains(name)) {
-            name = e.getName() + i;
-            i++;
-        }
-        e.setName(name);
-        localNames.add(name);
+    public static void eliminateDuplicateNames(ElementWithName e, Scope globalNames) {
+        e.setName(globalNames.reserve(e.getName()));
     }
 
     /**
-     * Eliminates duplicate names in an element.
+     * Renames the parameters and the assigned variables of a procedure to numbers in the
+     * order of their definition, so that they are printed as unnamed values %0, %1, ...
+     * The blocks keep their names. Numbered names are unique, so a later duplicate name
+     * elimination leaves them unchanged.
      */
-    private static void eliminateDuplicateNames(ElementWithName e, Set<String> globalNames,
-                                                Set<String> localNames) {
-        String name = e.getName();
-        int i = 1;
-        while (globalNames.contains(name) || localNames.contains(name)) {
-            name = e.getName() + i;
-            i++;
+    public static void numberLocalNames(Proc proc) {
+        int next = 0;
+        for (Variable v : proc.getParameters()) {
+            v.setName(Integer.toString(next++));
+        }
+        for (BasicBlock b : proc.getBasicBlocks()) {
+            for (Instruction instr : b) {
+                if (instr instanceof Assign) {
+                    ((Assign) instr).getVar().setName(Integer.toString(next++));
+                } else if (instr instanceof HaltWithError) {
+                    // the result of the call to printf is an unnamed value as well
+                    next++;
+                }
+            }
         }
-        e.setName(name);
-        localNames.add(name);
     }
 
     /**
-     * Eliminates duplicate names in an element.
+     * Names in use, with the next suffix to try for each base name.
+     * A local scope also avoids the names of its global scope.
      */
-    private static void eliminateDuplicateNames(ElementWithName e, Set<String> globalNames) {
-        String name = e.getName();
-        int i = 1;
-        while (globalNames.contains(name)) {
-            name = e.getName() + i;
-            i++;
+    public static final class Scope {
+        private final Scope outer;
+        private final Set<String> names = new HashSet<>();
+        private final Map<String, Integer> nextSuffix = new HashMap<>();
+
+        public Scope() {
+            this(null);
+        }
+
+        private Scope(Scope outer) {
+            this.outer = outer;
+        }
+
+        private boolean contains(String name) {
+            return names.contains(name) || outer != null && outer.contains(name);
+        }
+
+        /*
+         * returns the name, or the name with the first free suffix, and marks it as used.
+         * Names are never released, so suffixes found taken before are still taken.
+         */
+        private String reserve(String name) {
+            String result = name;
+            if (contains(result)) {
+                int i = nextSuffix.getOrDefault(name, 1);
+                result = name + i;
+                while (contains(result)) {
+                    i++;
+                    result = name + i;
+                }
+                nextSuffix.put(name, i + 1);
+            }
+            names.add(result);
+            return result;
         }
-        e.setName(name);
-        globalNames.add(name);
     }
 }
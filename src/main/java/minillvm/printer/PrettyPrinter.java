@@ -2,12 +2,31 @@ package minillvm.printer;
 
 import frontend.SourcePosition;
 import minillvm.analysis.ExpectedType;
+import minillvm.analysis.TypeCache;
+import minillvm.analysis.TypeTable;
 import minillvm.analysis.Typechecker;
 import minillvm.ast.*;
 
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 
 /**
@@ -16,15 +35,247 @@ import java.util.Map;
 public class PrettyPrinter implements
         Element.MatcherVoid {
 
-    private final StringBuilder sb;
+    private final Appendable out;
+    private final boolean trackSourcePositions;
     private boolean includeType;
-    private final Map<String, String> stringConstantNames = new HashMap<>();
+    private final Map<String, String> stringConstantNames;
     private final Map<Element, SourcePosition> sourcePositions = new HashMap<>();
     private int currentLine = 1;
     private int currentColumn = 0;
 
+    // state for printing a program procedure by procedure, see startProgram
+    private Prog streamedProg;
+    private final DuplicateNames.Scope globalNames = new DuplicateNames.Scope();
+    private final Set<Proc> printedProcs = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int registeredStructs;
+    private int registeredGlobals;
+    private int registeredProcs;
+
+    // whether the program is linked with the RuntimeLibrary
+    private boolean runtimeLibrary;
+    // globals defined by other modules, see printModule
+    private Set<Global> externalGlobals = Collections.emptySet();
+
     public PrettyPrinter(StringBuilder sb) {
-        this.sb = sb;
+        this(sb, false);
+    }
+
+    /**
+     * Creates a printer writing to the given output.
+     * Source positions are only recorded if trackSourcePositions is set,
+     * since only consumers like {@link minillvm.analysis.Checks} need them.
+     */
+    public PrettyPrinter(Appendable out, boolean trackSourcePositions) {
+        this(out, trackSourcePositions, new HashMap<>());
+    }
+
+    private PrettyPrinter(Appendable out, boolean trackSourcePositions,
+                          Map<String, String> stringConstantNames) {
+        this.out = out;
+        this.trackSourcePositions = trackSourcePositions;
+        this.stringConstantNames = stringConstantNames;
+    }
+
+    /**
+     * Prints a program directly to the given writer, using all available processors.
+     * The output is streamed, so the printed program is never held in memory as a whole.
+     */
+    public static void printProgram(Prog prog, Writer out) throws IOException {
+        printProgram(prog, out, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Prints a program directly to the given writer.
+     * Up to parallelism procedures are rendered concurrently, but they are written
+     * in program order, so the output is identical to printing sequentially.
+     */
+    public static void printProgram(Prog prog, Writer out, int parallelism) throws IOException {
+        printProgram(prog, out, parallelism, false);
+    }
+
+    /**
+     * Prints a program like {@link #printProgram(Prog, Writer, int)}. If runtimeLibrary is set,
+     * the program calls the {@link RuntimeLibrary} for printing and error halts
+     * and must be linked with it.
+     */
+    public static void printProgram(Prog prog, Writer out, int parallelism,
+                                    boolean runtimeLibrary) throws IOException {
+        PrettyPrinter printer = new PrettyPrinter(out, false);
+        printer.runtimeLibrary = runtimeLibrary;
+        try {
+            if (parallelism <= 1 || prog.getProcedures().size() <= 1) {
+                prog.match(printer);
+            } else {
+                printer.printHeader(prog);
+                TypeCache.warmUp(prog);
+                printer.printProceduresParallel(prog.getProcedures(), parallelism);
+                printer.addBuiltins();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    /**
+     * Prints a program as one module of a program which is linked from several modules
+     * and the {@link RuntimeLibrary}. Procedures without basic blocks are declared,
+     * the given globals are declared as external, they are defined by other modules.
+     */
+    public static void printModule(Prog prog, Set<Global> externalGlobals, Writer out)
+            throws IOException {
+        PrettyPrinter printer = new PrettyPrinter(out, false);
+        printer.runtimeLibrary = true;
+        printer.externalGlobals = externalGlobals;
+        try {
+            prog.match(printer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    /**
+     * Prints struct types, globals and procedures without their bodies,
+     * for example to summarize the interface of a module.
+     * The names are printed as they are, so duplicates must have been eliminated before.
+     */
+    public static void printDeclarations(Collection<? extends Element> elements, Writer out)
+            throws IOException {
+        PrettyPrinter printer = new PrettyPrinter(out, false);
+        try {
+            for (Element e : elements) {
+                if (e instanceof Proc) {
+                    printer.printProcHead("declare ", (Proc) e);
+                } else {
+                    printer.print(e);
+                }
+                printer.appendLine();
+                printer.appendLine();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    /**
+     * Starts printing a program procedure by procedure.
+     * Each procedure is printed with {@link #printProcedure(Proc)} as soon as it is complete,
+     * the remaining procedures, string constants and builtins by {@link #finishProgram()}.
+     * In between, struct types, globals and procedures may be appended to the program;
+     * elements already in the program must not be renamed or removed.
+     */
+    public static PrettyPrinter startProgram(Prog prog, Writer out) throws IOException {
+        PrettyPrinter printer = new PrettyPrinter(out, false);
+        printer.streamedProg = prog;
+        try {
+            printer.printNewDeclarations();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return printer;
+    }
+
+    /**
+     * Prints a completed procedure of the program given to {@link #startProgram}.
+     * The procedure's body is not needed afterwards.
+     */
+    public void printProcedure(Proc proc) throws IOException {
+        try {
+            printNewDeclarations();
+            DuplicateNames.eliminateDuplicateNames(globalNames, proc);
+            print(proc);
+            printedProcs.add(proc);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Renders a completed procedure of the program given to {@link #startProgram}
+     * without printing it, for example to store it in a cache.
+     * The text only refers to string constants by names derived from their content,
+     * so it can be printed into another program with {@link #printRenderedProcedure}.
+     */
+    public String renderStreamedProcedure(Proc proc) {
+        printNewDeclarations();
+        DuplicateNames.eliminateDuplicateNames(globalNames, proc);
+        return renderProcedure(proc);
+    }
+
+    /**
+     * Prints a procedure of the program given to {@link #startProgram}, which was
+     * rendered before by {@link #renderStreamedProcedure}.
+     * The messages are the error messages used by the procedure, their string constants are
+     * printed by {@link #finishProgram()}. The body of the procedure is not needed.
+     */
+    public void printRenderedProcedure(Proc proc, String text, Collection<String> messages)
+            throws IOException {
+        try {
+            printNewDeclarations();
+            for (String msg : messages) {
+                stringConstantName(msg);
+            }
+            write(text);
+            printedProcs.add(proc);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Prints the procedures which were not printed yet, followed by the string constants
+     * and the builtins, and flushes the output.
+     */
+    public void finishProgram() throws IOException {
+        try {
+            printNewDeclarations();
+            for (Proc proc : streamedProg.getProcedures()) {
+                if (printedProcs.add(proc)) {
+                    DuplicateNames.eliminateDuplicateNames(globalNames, proc);
+                    print(proc);
+                }
+            }
+            // constants are named while printing the procedures, LLVM allows forward references
+            for (Map.Entry<String, String> constant : stringConstantNames.entrySet()) {
+                printStringConstant(constant.getKey(), constant.getValue());
+            }
+            addBuiltins();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (out instanceof Flushable) {
+            ((Flushable) out).flush();
+        }
+    }
+
+    /*
+     * prints the struct types and globals added since the last call and
+     * reserves the names of new procedures, before any code refers to them.
+     * Programs only grow at the end, so only the new elements are looked at.
+     */
+    private void printNewDeclarations() {
+        List<TypeStruct> structs = streamedProg.getStructTypes();
+        for (; registeredStructs < structs.size(); registeredStructs++) {
+            TypeStruct s = structs.get(registeredStructs);
+            DuplicateNames.eliminateDuplicateNames(s, globalNames);
+            print(s);
+            appendLine();
+            appendLine();
+        }
+        List<Global> globals = streamedProg.getGlobals();
+        for (; registeredGlobals < globals.size(); registeredGlobals++) {
+            Global g = globals.get(registeredGlobals);
+            DuplicateNames.eliminateDuplicateNames(g, globalNames);
+            print(g);
+            appendLine();
+            appendLine();
+        }
+        List<Proc> procs = streamedProg.getProcedures();
+        for (; registeredProcs < procs.size(); registeredProcs++) {
+            DuplicateNames.eliminateDuplicateNames(procs.get(registeredProcs), globalNames);
+        }
     }
 
     /**
@@ -51,8 +302,7 @@ public class PrettyPrinter implements
      */
     private static String getName(ElementWithName e) {
         String name = e.getName();
-        if (name.matches("[-a-zA-Z$._][-a-zA-Z$._0-9]*")) {
-            // matches regexp for identifiers given in http://llvm.org/docs/LangRef.html#identifiers
+        if (isPlainName(name)) {
             return name;
         }
         // otherwise we write the name in quotes and escape some special characters:
@@ -64,14 +314,36 @@ public class PrettyPrinter implements
         if (name == null) {
             name = "block";
         }
-        if (name.matches("[-a-zA-Z$._][-a-zA-Z$._0-9]*")) {
-            // matches regexp for identifiers given in http://llvm.org/docs/LangRef.html#identifiers
+        if (isPlainName(name)) {
             return name;
         }
         // otherwise we write the name in quotes and escape some special characters:
         return escapeString(name);
     }
 
+    /*
+     * checks whether a name can be printed without quotes: an identifier matching
+     * [-a-zA-Z$._][-a-zA-Z$._0-9]* as given in http://llvm.org/docs/LangRef.html#identifiers,
+     * or a number, see DuplicateNames.numberLocalNames.
+     */
+    private static boolean isPlainName(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        boolean number = true;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            number &= digit;
+            if (!digit && !(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z'
+                    || c == '-' || c == '$' || c == '.' || c == '_')) {
+                return false;
+            }
+        }
+        char first = name.charAt(0);
+        return number || !(first >= '0' && first <= '9');
+    }
+
     private static String escapeString(String name) {
         StringBuilder res = new StringBuilder();
         res.append("\"");
@@ -99,10 +371,14 @@ public class PrettyPrinter implements
     }
 
     private void print2(Element e) {
+        if (!trackSourcePositions) {
+            e.match(this);
+            return;
+        }
         int startLine = currentLine;
         int startColumn = currentColumn;
         e.match(this);
-        sourcePositions.put(e, new SourcePosition("",
+        sourcePositions.put(e, SourcePosition.of("",
                 startLine, startColumn, currentLine, currentColumn));
     }
 
@@ -123,22 +399,31 @@ public class PrettyPrinter implements
     }
 
     private void append(Object o) {
-        String s = o.toString();
+        // render the fragment only once, it might be an element printed by another printer
+        String s = String.valueOf(o);
         currentColumn += s.length();
-        sb.append(o);
+        write(s);
     }
 
     private void appendLine() {
-        sb.append("\n");
+        write("\n");
         currentLine++;
         currentColumn = 0;
     }
 
     private void appendLine(Object o) {
-        sb.append(o);
+        write(String.valueOf(o));
         appendLine();
     }
 
+    private void write(String s) {
+        try {
+            out.append(s);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public void case_PhiNodeChoice(PhiNodeChoice choice) {
         append("[ ");
@@ -177,7 +462,25 @@ public class PrettyPrinter implements
 
     @Override
     public void case_Proc(Proc proc) {
-        append("define " + proc.getReturnType() + " @" + getName(proc) + "(");
+        if (proc.getBasicBlocks().isEmpty()) {
+            // defined elsewhere, for example in another module
+            printProcHead("declare ", proc);
+            appendLine();
+            appendLine();
+            return;
+        }
+        printProcHead("define ", proc);
+        appendLine(" {");
+        for (BasicBlock b : proc.getBasicBlocks()) {
+            print(b);
+        }
+        appendLine();
+        appendLine("}");
+        appendLine();
+    }
+
+    private void printProcHead(String keyword, Proc proc) {
+        append(keyword + proc.getReturnType() + " @" + getName(proc) + "(");
         boolean first = true;
         for (Parameter p : proc.getParameters()) {
             if (!first) {
@@ -188,18 +491,18 @@ public class PrettyPrinter implements
             append(p);
             first = false;
         }
-        appendLine(") {");
-        for (BasicBlock b : proc.getBasicBlocks()) {
-            print(b);
-        }
-        appendLine();
-        appendLine("}");
-        appendLine();
+        append(")");
     }
 
     @Override
     public void case_Global(Global g) {
         append("@" + getName(g) + " = ");
+        if (externalGlobals.contains(g)) {
+            // defined by another module
+            append(g.getIsConstant() ? "external constant " : "external global ");
+            append(elementToString(g.getType()));
+            return;
+        }
         if (g.getIsConstant()) {
             append("constant ");
         } else {
@@ -221,7 +524,21 @@ public class PrettyPrinter implements
 
     @Override
     public void case_Prog(Prog p) {
+        printHeader(p);
+
+        for (Proc proc : p.getProcedures()) {
+            print(proc);
+        }
+
+        addBuiltins();
+    }
+
+    /**
+     * Prints everything before the procedures: string constants, struct types and globals.
+     */
+    private void printHeader(Prog p) {
         // before printing a program, eliminate all duplicate names
+        // (this must happen before any procedure is rendered)
         DuplicateNames.eliminateDuplicateNames(p);
 
         printStringConstants(p);
@@ -240,12 +557,53 @@ public class PrettyPrinter implements
             appendLine();
             appendLine();
         }
+    }
 
-        for (Proc proc : p.getProcedures()) {
-            print(proc);
+    private void printProceduresParallel(List<Proc> procs, int parallelism) {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "llvm-printer");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            // only a bounded window of rendered procedures is kept in memory
+            int window = 4 * parallelism;
+            Deque<Future<String>> rendered = new ArrayDeque<>();
+            for (Proc proc : procs) {
+                if (rendered.size() >= window) {
+                    writeRendered(rendered.poll());
+                }
+                rendered.add(executor.submit(() -> renderProcedure(proc)));
+            }
+            while (!rendered.isEmpty()) {
+                writeRendered(rendered.poll());
+            }
+        } finally {
+            executor.shutdownNow();
         }
+    }
 
-        addBuiltins();
+    private String renderProcedure(Proc proc) {
+        StringBuilder procSb = new StringBuilder();
+        // string constant names are only read while rendering procedures
+        PrettyPrinter printer = new PrettyPrinter(procSb, false, stringConstantNames);
+        printer.runtimeLibrary = runtimeLibrary;
+        printer.print(proc);
+        return procSb.toString();
+    }
+
+    private void writeRendered(Future<String> rendered) {
+        try {
+            write(rendered.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
     }
 
     private void printStringConstants(Prog p) {
@@ -261,16 +619,45 @@ public class PrettyPrinter implements
                 // print constant for string
                 messageNr++;
                 String constantName = ".print_message_" + messageNr;
-                byte[] bytes = e.getMsg().getBytes();
-
-                appendLine("@" + constantName + " = private unnamed_addr constant ["
-                        + (bytes.length + 2)
-                        + " x i8] c" + escapeString(e.getMsg() + "\n\0") + ", align 1");
+                printStringConstant(e.getMsg(), constantName);
                 stringConstantNames.put(e.getMsg(), constantName);
             }
         });
     }
 
+    private void printStringConstant(String msg, String constantName) {
+        byte[] bytes = msg.getBytes();
+        appendLine("@" + constantName + " = private unnamed_addr constant ["
+                + (bytes.length + 2)
+                + " x i8] c" + escapeString(msg + "\n\0") + ", align 1");
+    }
+
+    private String stringConstantName(String msg) {
+        String name = stringConstantNames.get(msg);
+        if (name == null) {
+            // when printing procedure by procedure, constants are named on first use,
+            // by their content, so that a rendered procedure fits into any program
+            name = ".print_message_" + contentHash(msg);
+            stringConstantNames.put(msg, name);
+        }
+        return name;
+    }
+
+    private static String contentHash(String msg) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] hash = digest.digest(msg.getBytes(StandardCharsets.UTF_8));
+        StringBuilder hex = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            hex.append(String.format("%02x", hash[i]));
+        }
+        return hex.toString();
+    }
+
     /**
      * special code for builtin functions like print.
      */
@@ -278,6 +665,10 @@ public class PrettyPrinter implements
         appendLine();
         appendLine("declare noalias i8* @malloc(i32)");
         appendLine();
+        if (runtimeLibrary) {
+            write(RuntimeLibrary.declarations());
+            return;
+        }
         appendLine("declare i32 @printf(i8*, ...)");
         appendLine();
         appendLine("declare void @exit(i32)");
@@ -342,25 +733,16 @@ public class PrettyPrinter implements
     @Override
     public void case_ProcedureRef(ProcedureRef e) {
         if (includeType) {
-            append(Ast.TypePointer(procedureType(e.getProcedure())));
+            append(e.calculateType());
             append(" ");
         }
         append("@" + getName(e.getProcedure()));
     }
 
-    private Type procedureType(Proc procedure) { // TODO do somewhere else?
-        Type resultType = procedure.getReturnType();
-        TypeRefList argTypes = Ast.TypeRefList();
-        for (Parameter p : procedure.getParameters()) {
-            argTypes.add(p.getType());
-        }
-        return Ast.TypeProc(argTypes, resultType);
-    }
-
     @Override
     public void case_GlobalRef(GlobalRef e) {
         if (includeType) {
-            append(Ast.TypePointer(e.getGlobal().getType()));
+            append(e.calculateType());
             append(" ");
         }
         append("@" + getName(e.getGlobal()));
@@ -458,7 +840,7 @@ public class PrettyPrinter implements
         if (addressType instanceof TypePointer) {
             t = ((TypePointer) addressType).getTo();
         } else {
-            t = Ast.TypeByte();
+            t = TypeTable.BYTE;
         }
         append(s.getVar() + " = load " + t + ", ");
         printWithType(s.getAddress());
@@ -468,12 +850,16 @@ public class PrettyPrinter implements
     public void case_HaltWithError(HaltWithError s) {
         appendLine("; ERROR: " + s.getMsg()
                 .replaceAll("[\r\n]", " | ") + "");
-        appendLine("    call i32 (i8*, ...) @printf(i8* getelementptr inbounds (["
+        String msg = "(i8* getelementptr inbounds (["
                 + (s.getMsg().getBytes().length + 2) + " x i8], ["
                 + (s.getMsg().getBytes().length + 2) + " x i8]* @"
-                + stringConstantNames.get(s.getMsg()) + ", i32 0, i32 0))");
-
-        appendLine("    call void @exit(i32 222)");
+                + stringConstantName(s.getMsg()) + ", i32 0, i32 0))";
+        if (runtimeLibrary) {
+            appendLine("    call i32 @" + RuntimeLibrary.ERROR + msg);
+        } else {
+            appendLine("    call i32 (i8*, ...) @printf" + msg);
+            appendLine("    call void @exit(i32 222)");
+        }
         appendLine("    unreachable");
     }
 
@@ -0,0 +1,89 @@
+package minillvm.printer;
+
+/**
+ * The runtime library of translated programs: printing, error halts and array allocation.
+ *
+ * <p>The library is compiled once and linked with programs printed for it, which only
+ * declare its procedures instead of defining the builtins and an allocation procedure
+ * for each array type themselves.
+ */
+public final class RuntimeLibrary {
+
+    /**
+     * Allocates an array: nqj_new_array(size, elementSize, headerSize) returns zeroed
+     * memory for headerSize + size * elementSize bytes, starting with the length of the array.
+     * Halts with an error if the size is negative.
+     */
+    public static final String NEW_ARRAY = "nqj_new_array";
+
+    /**
+     * Prints the given message and exits. Returns an i32 like printf, which the
+     * error halt of a program printed without the library calls, so that the unnamed values
+     * of a procedure are numbered the same way in both cases.
+     */
+    public static final String ERROR = "nqj_error";
+
+    private RuntimeLibrary() {
+    }
+
+    /**
+     * The llvm code of the library.
+     */
+    public static String source() {
+        return String.join("\n",
+                "; runtime library of NotQuiteJava programs",
+                "",
+                "declare noalias i8* @calloc(i32, i32)",
+                "",
+                "declare i32 @printf(i8*, ...)",
+                "",
+                "declare void @exit(i32)",
+                "",
+                "@.printstr = private unnamed_addr constant [4 x i8] c\"%d\\0A\\00\", align 1",
+                "@.negative_size = private unnamed_addr constant [29 x i8] "
+                        + "c\"Array Size must be positive\\0A\\00\", align 1",
+                "",
+                "define void @print(i32 %i) {",
+                "    %temp = call i32 (i8*, ...) @printf(i8* getelementptr inbounds "
+                        + "([4 x i8], [4 x i8]* @.printstr, i32 0, i32 0), i32 %i)",
+                "    ret void",
+                "}",
+                "",
+                "define i32 @" + ERROR + "(i8* %msg) noreturn {",
+                "    %temp = call i32 (i8*, ...) @printf(i8* %msg)",
+                "    call void @exit(i32 222)",
+                "    unreachable",
+                "}",
+                "",
+                "define noalias i8* @" + NEW_ARRAY
+                        + "(i32 %size, i32 %elementSize, i32 %headerSize) {",
+                "init:",
+                "    %negative = icmp slt i32 %size, 0",
+                "    br i1 %negative, label %negativeSize, label %goodSize",
+                "negativeSize:",
+                "    %temp = call i32 @" + ERROR + "(i8* getelementptr inbounds "
+                        + "([29 x i8], [29 x i8]* @.negative_size, i32 0, i32 0))",
+                "    unreachable",
+                "goodSize:",
+                "    %dataSize = mul i32 %size, %elementSize",
+                "    %arraySize = add i32 %dataSize, %headerSize",
+                "    ; zero is the default value of all types",
+                "    %array = call i8* @calloc(i32 %arraySize, i32 1)",
+                "    %length = bitcast i8* %array to i32*",
+                "    store i32 %size, i32* %length",
+                "    ret i8* %array",
+                "}",
+                "");
+    }
+
+    /**
+     * The declarations of the library procedures, which printed programs call directly.
+     */
+    static String declarations() {
+        return String.join("\n",
+                "declare void @print(i32)",
+                "",
+                "declare i32 @" + ERROR + "(i8*)",
+                "");
+    }
+}
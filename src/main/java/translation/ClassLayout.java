@@ -0,0 +1,71 @@
+package translation;
+
+import minillvm.ast.Type;
+import minillvm.ast.TypePointer;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Memory layout of a translated class.
+ *
+ * <p>Maps field names to their index in the class structure and method names to their slot
+ * in the virtual method table, together with the type of the "this" parameter expected by
+ * the implementation in that slot. Names are the interned names of the AST and are matched by
+ * identity, fields of subclasses shadow fields with the same name in superclasses.
+ */
+final class ClassLayout {
+    private final TypePointer thisType;
+    private final Map<String, Integer> fieldIndex;
+    private final Map<String, Integer> methodSlot;
+    private final Map<String, Type> methodThisType;
+
+    ClassLayout(TypePointer thisType, Map<String, Integer> fieldIndex,
+                Map<String, Integer> methodSlot, Map<String, Type> methodThisType) {
+        this.thisType = thisType;
+        this.fieldIndex = Collections.unmodifiableMap(new IdentityHashMap<>(fieldIndex));
+        this.methodSlot = Collections.unmodifiableMap(new IdentityHashMap<>(methodSlot));
+        this.methodThisType = Collections.unmodifiableMap(new IdentityHashMap<>(methodThisType));
+    }
+
+    /**
+     * The type of references to objects of this class.
+     */
+    TypePointer getThisType() {
+        return thisType;
+    }
+
+    /**
+     * The index of the field in the class structure, or null if there is no such field.
+     */
+    Integer getFieldIndex(String name) {
+        return fieldIndex.get(name);
+    }
+
+    /**
+     * The index of the method in the virtual method table, or null if there is no such method.
+     */
+    Integer getMethodSlot(String name) {
+        return methodSlot.get(name);
+    }
+
+    /**
+     * The type of the "this" parameter of the method implementation in the virtual method table.
+     */
+    Type getMethodThisType(String name) {
+        return methodThisType.get(name);
+    }
+
+    Map<String, Integer> getFieldIndexes() {
+        return fieldIndex;
+    }
+
+    Map<String, Integer> getMethodSlots() {
+        return methodSlot;
+    }
+
+    Map<String, Type> getMethodThisTypes() {
+        return methodThisType;
+    }
+}
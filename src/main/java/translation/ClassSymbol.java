@@ -0,0 +1,83 @@
+package translation;
+
+import minillvm.ast.Global;
+import minillvm.ast.Proc;
+import minillvm.ast.TypeStruct;
+
+/**
+ * The translation of a class name.
+ *
+ * <p>Holds the names derived from the class name, which are built once per class,
+ * and the class structure, virtual method table and constructor generated for the class.
+ * The translator keeps one entry per interned class name, so a class is looked up once
+ * instead of once per table.
+ */
+final class ClassSymbol {
+    private final String name;
+    private final String vmtName;
+    private final String constructorName;
+    private TypeStruct classStruct;
+    private TypeStruct vmtStruct;
+    private Global vmt;
+    private Proc constructor;
+
+    ClassSymbol(String name) {
+        this.name = name;
+        this.vmtName = name + "_vmt";
+        this.constructorName = name + "_constructor";
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * The name of the virtual method table and its structure.
+     */
+    String getVmtName() {
+        return vmtName;
+    }
+
+    String getConstructorName() {
+        return constructorName;
+    }
+
+    /**
+     * The name of a field or method implementation declared in this class.
+     */
+    String memberName(String member) {
+        return name + "_" + member;
+    }
+
+    TypeStruct getClassStruct() {
+        return classStruct;
+    }
+
+    void setClassStruct(TypeStruct classStruct) {
+        this.classStruct = classStruct;
+    }
+
+    TypeStruct getVmtStruct() {
+        return vmtStruct;
+    }
+
+    void setVmtStruct(TypeStruct vmtStruct) {
+        this.vmtStruct = vmtStruct;
+    }
+
+    Global getVmt() {
+        return vmt;
+    }
+
+    void setVmt(Global vmt) {
+        this.vmt = vmt;
+    }
+
+    Proc getConstructor() {
+        return constructor;
+    }
+
+    void setConstructor(Proc constructor) {
+        this.constructor = constructor;
+    }
+}
@@ -1,5 +1,6 @@
 package translation;
 
+import minillvm.analysis.TypeTable;
 import minillvm.ast.*;
 import notquitejava.ast.*;
 
@@ -50,10 +51,7 @@ public class ExprRValue implements NQJExpr.Matcher<Operand> {
     public Operand case_NewArray(NQJNewArray newArray) {
         Type componentType = tr.translateType(newArray.getArrayType().getBaseType());
         Operand arraySize = tr.exprRvalue(newArray.getArraySize());
-        Operand proc = tr.getNewArrayFunc(componentType);
-        TemporaryVar res = TemporaryVar("newArray");
-        tr.addInstruction(Ast.Call(res, proc, OperandList(arraySize)));
-        return VarRef(res);
+        return tr.newArray(componentType, arraySize);
     }
 
     @Override
@@ -65,7 +63,7 @@ public class ExprRValue implements NQJExpr.Matcher<Operand> {
                 BasicBlock andRight = tr.newBasicBlock("and_first_true");
                 BasicBlock andEnd = tr.newBasicBlock("and_end");
                 TemporaryVar andResVar = TemporaryVar("andResVar");
-                tr.getCurrentBlock().add(Ast.Alloca(andResVar, Ast.TypeBool()));
+                tr.getCurrentBlock().add(Ast.Alloca(andResVar, TypeTable.BOOL));
                 tr.getCurrentBlock().add(Ast.Store(VarRef(andResVar), left));
                 tr.getCurrentBlock().add(Ast.Branch(left.copy(), andRight, andEnd));
 
@@ -100,7 +98,7 @@ public class ExprRValue implements NQJExpr.Matcher<Operand> {
             public Operand case_Div(NQJDiv div) {
                 Operand right = tr.exprRvalue(e.getRight());
                 TemporaryVar divResVar = TemporaryVar("divResVar");
-                tr.addInstruction(Ast.Alloca(divResVar, Ast.TypeInt()));
+                tr.addInstruction(Ast.Alloca(divResVar, TypeTable.INT));
                 TemporaryVar isZero = TemporaryVar("isZero");
                 tr.addInstruction(BinaryOperation(isZero, right, Eq(), ConstInt(0)));
                 BasicBlock ifZero = tr.newBasicBlock("ifZero");
@@ -233,26 +231,13 @@ public class ExprRValue implements NQJExpr.Matcher<Operand> {
         var r = tr.exprRvalue(e.getReceiver());
         tr.addNullcheck(r, "Nullpointer exception in line " + tr.sourceLine(e));
 
-        // get class structure
+        // get the layout of the class
         TypeStruct classStruct = (TypeStruct) ((TypePointer) r.calculateType()).getTo();
-        // get virtual method table structure
-        var varDecl = classStruct.getFields().get(0);
-        var vmtStruct = (TypeStruct) ((TypePointer) varDecl.getType()).getTo();
+        ClassLayout layout = tr.getClassLayout(classStruct);
         OperandList args = OperandList();
         NQJVarDeclList formalParameters = functionDeclaration.getFormalParameters();
-        /*
-         * find the type of "this" parameter of function, and
-         *  cast if necessary (useful if a superclass method is called)
-         */
-        for (int i = vmtStruct.getFields().size() - 1; i >= 0; i--) {
-            var field = vmtStruct.getFields().get(i);
-            if (field.getName().contains("_" + e.getMethodName())) {
-                var funcStruct = (TypeProc) ((TypePointer) field.getType()).getTo();
-                args.add(tr.addCastIfNecessary(r.copy(),
-                        funcStruct.getArgTypes().get(0)));
-                break;
-            }
-        }
+        // pass "this" and cast if necessary (useful if a superclass method is called)
+        args.add(tr.addCastIfNecessary(r.copy(), layout.getMethodThisType(e.getMethodName())));
         // pass arguments to the function and cast if necessary
         for (int i = 0; i < e.getArguments().size(); i++) {
             Operand arg = tr.exprRvalue(e.getArguments().get(i));
@@ -274,7 +259,7 @@ public class ExprRValue implements NQJExpr.Matcher<Operand> {
         tr.addInstruction(Load(vmt, VarRef(vmtPtr)));
         // get pointer to the function
         tr.addInstruction(GetElementPtr(funcPtr, VarRef(vmt), OperandList(ConstInt(0),
-                ConstInt(tr.getMethodIndex(classStruct, e.getMethodName())))));
+                ConstInt(layout.getMethodSlot(e.getMethodName())))));
         tr.addInstruction(Load(func, VarRef(funcPtr)));
 
 
@@ -287,7 +272,7 @@ public class ExprRValue implements NQJExpr.Matcher<Operand> {
         TemporaryVar res = TemporaryVar("t");
         // call the constructor of the class
         tr.addInstruction(Call(res,
-                ProcedureRef(tr.getConstructorProc(e.getClassName() + "_constructor")),
+                ProcedureRef(tr.getConstructorProc(e.getClassName())),
                 OperandList()));
         return VarRef(res);
     }
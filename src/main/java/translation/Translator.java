@@ -2,13 +2,18 @@ package translation;
 
 import analysis.ArrayType;
 import analysis.ClassType;
+import minillvm.analysis.TypeTable;
 import minillvm.ast.*;
+import minillvm.printer.RuntimeLibrary;
 import notquitejava.ast.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import static frontend.AstPrinter.print;
 import static minillvm.ast.Ast.*;
@@ -25,16 +30,25 @@ public class Translator {
     private final Map<NQJFunctionDecl, Proc> functionImpl = new HashMap<>();
     private final Prog prog = Prog(TypeStructList(), GlobalList(), ProcList());
     private final NQJProgram javaProg;
-    private final Map<NQJVarDecl, TemporaryVar> localVarLocation = new HashMap<>();
+    // locations of the parameters and local variables of the current function, by slot
+    private final List<TemporaryVar> localVarLocation = new ArrayList<>();
+    private final TypeTable types = new TypeTable();
     private final Map<analysis.Type, Type> translatedType = new HashMap<>();
     private final Map<Type, TypeStruct> arrayStruct = new HashMap<>();
     private final Map<Type, Proc> newArrayFuncForType = new HashMap<>();
 
     // for oop
-    private final HashMap<String, Proc> constructors = new HashMap<>();
-    private final HashMap<String, TypeStruct> classStructs = new HashMap<>();
-    private final HashMap<String, TypeStruct> vmtStructs = new HashMap<>();
-    private final HashMap<String, Global> vmts = new HashMap<>();
+    // by the interned class names, see IdentifierTable
+    private final Map<String, ClassSymbol> classSymbols = new IdentityHashMap<>();
+    private final Map<TypeStruct, ClassLayout> classLayouts = new HashMap<>();
+
+    // for separate compilation, see translateModule
+    private final Set<Global> externalGlobals = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Element> moduleDeclarations = new ArrayList<>();
+
+    // see setRuntimeLibrary
+    private boolean runtimeLibrary;
+    private Proc runtimeNewArray;
 
     // mutable state
     private Proc currentProcedure;
@@ -44,13 +58,20 @@ public class Translator {
         this.javaProg = javaProg;
     }
 
+    /**
+     * Sets whether the program is linked with the {@link RuntimeLibrary}, which allocates the
+     * arrays of all types, instead of defining an allocation procedure for each array type.
+     * The translated program must be printed for the runtime library as well.
+     */
+    public void setRuntimeLibrary(boolean runtimeLibrary) {
+        this.runtimeLibrary = runtimeLibrary;
+    }
+
     /**
      * Translates given program into a mini llvm program.
      */
     public Prog translate() {
-        // translate all classes
-        // has only access to classes
-        translateClassTypes();
+        translateDeclarations();
 
         // translate functions except main
         // has only access to functions
@@ -58,20 +79,177 @@ public class Translator {
 
         // translate main function
         // has access to functions
-        translateMainFunction();
+        translateBody(getMainFunction());
 
 
         // translate all methods of classes
         // has only access to methods of classes
         translateMethods();
 
+        return finishTranslation();
+    }
+
+    /**
+     * Translates the global declarations: class structures, virtual method tables,
+     * constructors and the signatures of all functions and methods.
+     * Afterwards the function bodies can be translated one at a time
+     * with {@link #translateBody(NQJFunctionDecl)}.
+     */
+    public void translateDeclarations() {
+        if (runtimeLibrary) {
+            // declared first, so that it keeps its name
+            runtimeNewArray = Proc(RuntimeLibrary.NEW_ARRAY, TypeTable.BYTE_POINTER,
+                    ParameterList(Parameter(TypeTable.INT, "size"),
+                            Parameter(TypeTable.INT, "elementSize"),
+                            Parameter(TypeTable.INT, "headerSize")),
+                    BasicBlockList());
+            addProcedure(runtimeNewArray);
+        }
+
+        // translate all classes
+        // has only access to classes
+        translateClassTypes();
+
+        for (NQJFunctionDecl functionDecl : javaProg.getFunctionDecls()) {
+            if (functionDecl.getName().equals("main")) {
+                continue;
+            }
+            initFunction(functionDecl);
+        }
+        initMainFunction();
+        declareArrayTypes();
+    }
+
+    /**
+     * Translates one source file of a program consisting of several files into a module.
+     * The translated program must contain the declarations of all files, but only the
+     * bodies of the classes and functions with the given names, the classes and functions
+     * of the other files are only declared. Modules of the same declarations agree on
+     * all global names, so they can be linked.
+     */
+    public Prog translateModule(Set<String> classNames, Set<String> functionNames) {
+        translateDeclarations();
+
+        for (NQJClassDecl classDecl : javaProg.getClassDecls()) {
+            ClassSymbol symbol = classSymbols.get(classDecl.getName());
+            if (!classNames.contains(symbol.getName())) {
+                // defined by the module of the class
+                symbol.getConstructor().getBasicBlocks().clear();
+                externalGlobals.add(symbol.getVmt());
+                continue;
+            }
+            moduleDeclarations.add(symbol.getClassStruct());
+            moduleDeclarations.add(symbol.getVmtStruct());
+            moduleDeclarations.add(symbol.getVmt());
+            moduleDeclarations.add(symbol.getConstructor());
+            for (var method : classDecl.getMethods()) {
+                moduleDeclarations.add(translateBody(method));
+            }
+        }
+        for (NQJFunctionDecl functionDecl : javaProg.getFunctionDecls()) {
+            if (functionNames.contains(functionDecl.getName())) {
+                moduleDeclarations.add(translateBody(functionDecl));
+            }
+        }
+        return finishTranslation();
+    }
+
+    /**
+     * The virtual method tables of the classes, which are not defined by the module
+     * translated with {@link #translateModule}.
+     */
+    public Set<Global> getExternalGlobals() {
+        return externalGlobals;
+    }
+
+    /**
+     * The interface of the module translated with {@link #translateModule}:
+     * the class structures, virtual method tables and procedures it defines.
+     */
+    public List<Element> getModuleDeclarations() {
+        return moduleDeclarations;
+    }
+
+    /*
+     * create the array structures and newArray procedures for all array types in the program
+     * up front, so that the global names do not depend on the order of translation.
+     * Type annotations which were not resolved by the analysis are skipped.
+     */
+    private void declareArrayTypes() {
+        javaProg.accept(new NQJElement.DefaultVisitor() {
+            @Override
+            public void visit(NQJTypeArray typeArray) {
+                super.visit(typeArray);
+                if (isTranslatable(typeArray.getType())) {
+                    translateType(typeArray.getType());
+                }
+            }
+
+            @Override
+            public void visit(NQJNewArray newArray) {
+                super.visit(newArray);
+                if (!isTranslatable(newArray.getBaseType().getType())) {
+                    return;
+                }
+                Type componentType = translateType(newArray.getBaseType());
+                if (runtimeLibrary) {
+                    getArrayStruct(componentType);
+                } else {
+                    getNewArrayFunc(componentType);
+                }
+            }
+        });
+    }
+
+    private boolean isTranslatable(analysis.Type t) {
+        if (t instanceof ArrayType) {
+            return isTranslatable(((ArrayType) t).getBaseType());
+        }
+        return t == analysis.Type.INT || t == analysis.Type.BOOL || t instanceof ClassType;
+    }
+
+    /**
+     * Translates the body of a function or method and returns the translated procedure.
+     * The declarations must have been translated before.
+     */
+    public Proc translateBody(NQJFunctionDecl functionDecl) {
+        translateFunction(functionDecl);
+        return functionImpl.get(functionDecl);
+    }
+
+    /**
+     * Completes the procedures created on demand while translating bodies
+     * and returns the translated program.
+     */
+    public Prog finishTranslation() {
         finishNewArrayProcs();
+        return prog;
+    }
 
+    public Prog getProg() {
         return prog;
     }
 
+    /**
+     * Returns the location of a parameter or local variable, null for fields.
+     * The variables are numbered with slots by the analysis.
+     */
     TemporaryVar getLocalVarLocation(NQJVarDecl varDecl) {
-        return localVarLocation.get(varDecl);
+        Integer slot = varDecl.getSlot();
+        return slot == null || slot >= localVarLocation.size() ? null
+                : localVarLocation.get(slot);
+    }
+
+    private void setLocalVarLocation(NQJVarDecl varDecl, TemporaryVar location) {
+        Integer slot = varDecl.getSlot();
+        if (slot == null) {
+            // not in the scope of any use
+            return;
+        }
+        while (localVarLocation.size() <= slot) {
+            localVarLocation.add(null);
+        }
+        localVarLocation.set(slot, location);
     }
 
     private void finishNewArrayProcs() {
@@ -84,7 +262,6 @@ public class Translator {
         final Proc newArrayFunc = newArrayFuncForType.get(componentType);
         final Parameter size = newArrayFunc.getParameters().get(0);
 
-        addProcedure(newArrayFunc);
         setCurrentProc(newArrayFunc);
 
         BasicBlock init = newBasicBlock("init");
@@ -131,7 +308,7 @@ public class Translator {
         final BasicBlock loopBody = newBasicBlock("loopBody");
         final BasicBlock loopEnd = newBasicBlock("loopEnd");
         final TemporaryVar iVar = TemporaryVar("iVar");
-        currentBlock.add(Alloca(iVar, TypeInt()));
+        currentBlock.add(Alloca(iVar, TypeTable.INT));
         currentBlock.add(Store(VarRef(iVar), ConstInt(0)));
         currentBlock.add(Jump(loopStart));
 
@@ -167,12 +344,6 @@ public class Translator {
     }
 
     private void translateFunctions() {
-        for (NQJFunctionDecl functionDecl : javaProg.getFunctionDecls()) {
-            if (functionDecl.getName().equals("main")) {
-                continue;
-            }
-            initFunction(functionDecl);
-        }
         for (NQJFunctionDecl functionDecl : javaProg.getFunctionDecls()) {
             if (functionDecl.getName().equals("main")) {
                 continue;
@@ -181,44 +352,34 @@ public class Translator {
         }
     }
 
-    private void translateMainFunction() {
-        NQJFunctionDecl f = null;
+    private NQJFunctionDecl getMainFunction() {
         for (NQJFunctionDecl functionDecl : javaProg.getFunctionDecls()) {
             if (functionDecl.getName().equals("main")) {
-                f = functionDecl;
-                break;
+                return functionDecl;
             }
         }
+        throw new IllegalStateException("Main function expected");
+    }
 
-        if (f == null) {
-            throw new IllegalStateException("Main function expected");
-        }
-
-        Proc proc = Proc("main", TypeInt(), ParameterList(), BasicBlockList());
+    private void initMainFunction() {
+        Proc proc = Proc("main", TypeTable.INT, ParameterList(), BasicBlockList());
         addProcedure(proc);
-        functionImpl.put(f, proc);
-
-        setCurrentProc(proc);
-        BasicBlock initBlock = newBasicBlock("init");
-        addBasicBlock(initBlock);
-        setCurrentBlock(initBlock);
-
-        // allocate space for the local variables
-        allocaLocalVars(f.getMethodBody());
-
-        // translate
-        translateStmt(f.getMethodBody());
+        functionImpl.put(getMainFunction(), proc);
     }
 
     private void initFunction(NQJFunctionDecl f) {
+        initProc(f, f.getName(), ParameterList());
+    }
+
+    private Proc initProc(NQJFunctionDecl f, String name, ParameterList params) {
         Type returnType = translateType(f.getReturnType());
-        ParameterList params = f.getFormalParameters()
-                .stream()
-                .map(p -> Parameter(translateType(p.getType()), p.getName()))
-                .collect(Collectors.toCollection(Ast::ParameterList));
-        Proc proc = Proc(f.getName(), returnType, params, BasicBlockList());
+        for (NQJVarDecl p : f.getFormalParameters()) {
+            params.add(Parameter(translateType(p.getType()), p.getName()));
+        }
+        Proc proc = Proc(name, returnType, params, BasicBlockList());
         addProcedure(proc);
         functionImpl.put(f, proc);
+        return proc;
     }
 
     private void translateFunction(NQJFunctionDecl m) {
@@ -239,7 +400,7 @@ public class Translator {
             TemporaryVar v = TemporaryVar(param.getName());
             addInstruction(Alloca(v, translateType(param.getType())));
             addInstruction(Store(VarRef(v), VarRef(proc.getParameters().get(i))));
-            localVarLocation.put(param, v);
+            setLocalVarLocation(param, v);
             i++;
         }
 
@@ -308,7 +469,7 @@ public class Translator {
                 super.visit(localVar);
                 TemporaryVar v = TemporaryVar(localVar.getName());
                 addInstruction(Alloca(v, translateType(localVar.getType())));
-                localVarLocation.put(localVar, v);
+                setLocalVarLocation(localVar, v);
             }
         });
     }
@@ -325,14 +486,15 @@ public class Translator {
         Type result = translatedType.get(t);
         if (result == null) {
             if (t == analysis.Type.INT) {
-                result = TypeInt();
+                result = TypeTable.INT;
             } else if (t == analysis.Type.BOOL) {
-                result = TypeBool();
+                result = TypeTable.BOOL;
             } else if (t instanceof ArrayType) {
                 ArrayType at = (ArrayType) t;
-                result = TypePointer(getArrayStruct(translateType(at.getBaseType())));
+                result = types.pointer(getArrayStruct(translateType(at.getBaseType())));
             } else if (t instanceof ClassType) {
-                result = TypePointer(classStructs.get(((ClassType) t).getName()));
+                result = types.pointer(
+                        classSymbols.get(((ClassType) t).getName()).getClassStruct());
             } else {
                 throw new RuntimeException("unhandled case " + t);
             }
@@ -378,26 +540,51 @@ public class Translator {
         return VarRef(len);
     }
 
+    /**
+     * Allocates an array of the given size, filled with the default value of the component type.
+     */
+    Operand newArray(Type componentType, Operand size) {
+        TemporaryVar result = TemporaryVar("newArray");
+        if (!runtimeLibrary) {
+            addInstruction(Call(result, getNewArrayFunc(componentType), OperandList(size)));
+            return VarRef(result);
+        }
+        // the runtime library checks the size and fills the array with zeros,
+        // which is the default value of all types
+        TemporaryVar memory = TemporaryVar("arrayMemory");
+        addInstruction(Call(memory, ProcedureRef(runtimeNewArray), OperandList(size,
+                byteSize(componentType), Sizeof(getArrayStruct(componentType)))));
+        addInstruction(Bitcast(result, getArrayPointerType(componentType), VarRef(memory)));
+        return VarRef(result);
+    }
+
     public Operand getNewArrayFunc(Type componentType) {
         Proc proc = newArrayFuncForType.computeIfAbsent(componentType, this::createNewArrayProc);
         return ProcedureRef(proc);
     }
 
     private Proc createNewArrayProc(Type componentType) {
-        Parameter size = Parameter(TypeInt(), "size");
-        return Proc("newArray",
+        Parameter size = Parameter(TypeTable.INT, "size");
+        // added right away so that its name is known before the calling procedure is printed,
+        // the body is generated by finishTranslation
+        // named after the component type, so that the name does not depend on the order of creation
+        String name = "newArray_" + componentType.toString()
+                .replace("*", "_ptr").replaceAll("[^A-Za-z0-9_.]", "");
+        Proc proc = Proc(name,
                 getArrayPointerType(componentType), ParameterList(size), BasicBlockList());
+        addProcedure(proc);
+        return proc;
     }
 
     private Type getArrayPointerType(Type componentType) {
-        return TypePointer(getArrayStruct(componentType));
+        return types.pointer(getArrayStruct(componentType));
     }
 
     TypeStruct getArrayStruct(Type type) {
         return arrayStruct.computeIfAbsent(type, t -> {
             TypeStruct struct = TypeStruct("array_" + type, StructFieldList(
-                    StructField(TypeInt(), "length"),
-                    StructField(TypeArray(type, 0), "data")
+                    StructField(TypeTable.INT, "length"),
+                    StructField(types.array(type, 0), "data")
             ));
             prog.getStructTypes().add(struct);
             return struct;
@@ -536,25 +723,27 @@ public class Translator {
     }
 
     private void translateClassType(NQJClassDecl classDecl) {
-        TypeStruct vmtStruct = TypeStruct(classDecl.getName() + "_vmt", StructFieldList(
+        ClassSymbol symbol = new ClassSymbol(classDecl.getName());
+        classSymbols.put(classDecl.getName(), symbol);
+        TypeStruct vmtStruct = TypeStruct(symbol.getVmtName(), StructFieldList(
 
         ));
-        vmtStructs.put(classDecl.getName(), vmtStruct);
+        symbol.setVmtStruct(vmtStruct);
 
-        TypeStruct classStruct = TypeStruct(classDecl.getName(), StructFieldList(
-                StructField(TypePointer(
+        TypeStruct classStruct = TypeStruct(symbol.getName(), StructFieldList(
+                StructField(types.pointer(
                         vmtStruct
                 ), "vmt")
         ));
-        classStructs.put(classDecl.getName(), classStruct);
+        symbol.setClassStruct(classStruct);
 
 
         prog.getStructTypes().add(vmtStruct);
         // start of the construction the virtual method table
         var global = Global(vmtStruct,
-                classDecl.getName() + "_vmt",
+                symbol.getVmtName(),
                 true, ConstStruct(vmtStruct, ConstList()));
-        vmts.put(classDecl.getName(), global);
+        symbol.setVmt(global);
         prog.getGlobals().add(global);
 
         prog.getStructTypes().add(classStruct);
@@ -563,61 +752,93 @@ public class Translator {
     // add fields to class structures and add methods in virtual method table structures
     private void translateFieldsAndVirtualMethodTables() {
         for (var classDecl : javaProg.getClassDecls()) {
-            var current = classDecl;
-            var vmtStruct = vmtStructs.get(classDecl.getName());
-            var classStruct = classStructs.get(classDecl.getName());
-            var shouldOverrideMethods = new HashMap<String, Integer>();
-            int i = 0;
-            while (current != null) {
-                // initialise methods and add them to the virtual method table structure
-                for (var method : current.getMethods()) {
-                    // override the current method if a method with the same name exists in subclass
-                    if (shouldOverrideMethods.containsKey(method.getName())) {
-                        var overrider = vmtStruct.getFields()
-                                .remove(i - shouldOverrideMethods.get(method.getName()) - 1);
-                        vmtStruct.getFields().add(0, overrider);
-                        shouldOverrideMethods.put(method.getName(), i - 1);
-                        continue;
-                    }
-                    shouldOverrideMethods.put(method.getName(), i);
-                    i++;
-
-                    // change add the class name behind the function name
-                    String name = method.getName();
-                    method.setName(current.getName() + "_" + name);
-                    // initialize method if it's not already initialized
-                    if (loadFunctionProc(method) == null) {
-                        initFunction(method);
-                        Proc proc = loadFunctionProc(method);
-                        // pass reference to current object as first parameter
-                        proc.getParameters().add(0,
-                                Parameter(TypePointer(classStructs.get(current.getName())),
-                                        "this"));
-                    }
-                    method.setName(name);
-
-                    var args = TypeRefList();
-                    // add a reference to the actual object as first parameter
-                    args.add(TypePointer(classStructs.get(current.getName())));
-                    // add the rest of parameters
-                    for (var arg : method.getFormalParameters()) {
-                        args.add(translateType(arg.getType()));
-                    }
-                    // add a reference to the method in virtual method table
-                    vmtStruct.getFields().add(0, StructField(TypePointer(TypeProc(args,
-                            translateType(method.getReturnType()))),
-                            current.getName() + "_" + method.getName()));
-                }
-                // add fields to the class structure
-                for (var field : current.getFields()) {
-                    classStruct.getFields().add(1, StructField(translateType(field.getType()),
-                            current.getName() + "_" + field.getName()));
-                }
-                // go to the superclass
-                current = current.getDirectSuperClass();
+            layoutClass(classDecl);
+        }
+    }
+
+    /*
+     * lay out the class structure and the virtual method table of a class.
+     * Both start with the layout of the superclass, so indexes remain valid in subclasses;
+     * an overriding method takes the slot of the overridden method.
+     */
+    private ClassLayout layoutClass(NQJClassDecl classDecl) {
+        ClassSymbol symbol = classSymbols.get(classDecl.getName());
+        var classStruct = symbol.getClassStruct();
+        ClassLayout layout = classLayouts.get(classStruct);
+        if (layout != null) {
+            return layout;
+        }
+        List<StructField> slots = new ArrayList<>();
+        List<Const> slotValues = new ArrayList<>();
+        Map<String, Integer> fieldIndex = new IdentityHashMap<>();
+        Map<String, Integer> methodSlot = new IdentityHashMap<>();
+        Map<String, Type> methodThisType = new IdentityHashMap<>();
+
+        // start with the layout of the superclass
+        var superClass = classDecl.getDirectSuperClass();
+        if (superClass != null) {
+            ClassLayout superLayout = layoutClass(superClass);
+            fieldIndex.putAll(superLayout.getFieldIndexes());
+            methodSlot.putAll(superLayout.getMethodSlots());
+            methodThisType.putAll(superLayout.getMethodThisTypes());
+            ClassSymbol superSymbol = classSymbols.get(superClass.getName());
+            var superStruct = superSymbol.getClassStruct();
+            for (int i = 1; i < superStruct.getFields().size(); i++) {
+                var field = superStruct.getFields().get(i);
+                classStruct.getFields().add(StructField(field.getType(), field.getName()));
             }
-            createConstructor(classDecl);
+            for (var slot : superSymbol.getVmtStruct().getFields()) {
+                slots.add(StructField(slot.getType(), slot.getName()));
+            }
+            for (var value : ((ConstStruct) superSymbol.getVmt().getInitialValue())
+                    .getValues()) {
+                slotValues.add(value.copy());
+            }
+        }
+
+        // append own fields, they shadow fields of superclasses
+        for (var field : classDecl.getFields()) {
+            fieldIndex.put(field.getName(), classStruct.getFields().size());
+            classStruct.getFields().add(StructField(translateType(field.getType()),
+                    symbol.memberName(field.getName())));
         }
+
+        // override or append own methods
+        TypePointer thisType = types.pointer(classStruct);
+        for (var method : classDecl.getMethods()) {
+            String qualifiedName = symbol.memberName(method.getName());
+            // pass reference to current object as first parameter
+            Proc proc = initProc(method, qualifiedName, ParameterList(Parameter(thisType, "this")));
+
+            var args = new ArrayList<Type>();
+            for (var param : proc.getParameters()) {
+                args.add(param.getType());
+            }
+            StructField slot = StructField(
+                    types.pointer(types.proc(args, proc.getReturnType())), qualifiedName);
+
+            Integer index = methodSlot.get(method.getName());
+            if (index == null) {
+                methodSlot.put(method.getName(), slots.size());
+                slots.add(slot);
+                slotValues.add(ProcedureRef(proc));
+            } else {
+                slots.set(index, slot);
+                slotValues.set(index, ProcedureRef(proc));
+            }
+            methodThisType.put(method.getName(), thisType);
+        }
+        symbol.getVmtStruct().getFields().addAll(slots);
+        ((ConstStruct) symbol.getVmt().getInitialValue()).getValues().addAll(slotValues);
+
+        layout = new ClassLayout(thisType, fieldIndex, methodSlot, methodThisType);
+        classLayouts.put(classStruct, layout);
+        createConstructor(symbol);
+        return layout;
+    }
+
+    ClassLayout getClassLayout(TypeStruct classStruct) {
+        return classLayouts.get(classStruct);
     }
 
     /**
@@ -628,15 +849,7 @@ public class Translator {
      * @return the index of the field inside the class structure.
      */
     public Integer getFieldIndex(TypeStruct classStruct, String name) {
-        name = "_" + name;
-        Integer index = null;
-        for (int i = classStruct.getFields().size() - 1; i >= 0; i--) {
-            if (classStruct.getFields().get(i).getName().contains(name)) {
-                index = i;
-                break;
-            }
-        }
-        return index;
+        return classLayouts.get(classStruct).getFieldIndex(name);
     }
 
     /**
@@ -647,16 +860,7 @@ public class Translator {
      * @return the index of the method inside the virtual method table structure.
      */
     public Integer getMethodIndex(TypeStruct classStruct, String name) {
-        name = "_" + name;
-        Integer index = null;
-        var vmtStruct = vmtStructs.get(classStruct.getName());
-        for (int i = vmtStruct.getFields().size() - 1; i >= 0; i--) {
-            if (vmtStruct.getFields().get(i).getName().contains(name)) {
-                index = i;
-                break;
-            }
-        }
-        return index;
+        return classLayouts.get(classStruct).getMethodSlot(name);
     }
 
     /*
@@ -664,48 +868,25 @@ public class Translator {
      */
     private void translateMethods() {
         for (NQJClassDecl classDecl : javaProg.getClassDecls()) {
-            var current = classDecl;
-            ConstStruct cs = (ConstStruct) vmts.get(classDecl.getName())
-                    .getInitialValue();
-            var shouldOverrideMethods = new HashMap<String, Integer>();
-            int i = 0;
-            while (current != null) {
-                // translate methods and add methods to the construction of virtual method table
-                for (var method : current.getMethods()) {
-                    // override the current method if a method with the same name exists in subclass
-                    if (shouldOverrideMethods.containsKey(method.getName())) {
-                        var overrider = cs.getValues()
-                                .remove(i - shouldOverrideMethods.get(method.getName()) - 1);
-                        cs.getValues().add(0, overrider);
-                        shouldOverrideMethods.put(method.getName(), i - 1);
-                        continue;
-                    }
-                    shouldOverrideMethods.put(method.getName(), i);
-                    i++;
-                    Proc proc = loadFunctionProc(method);
-                    // add procedure to the construction of virtual method table structure
-                    cs.getValues().add(0, ProcedureRef(proc));
-                    translateFunction(method);
-                }
-                current = current.getDirectSuperClass();
+            for (var method : classDecl.getMethods()) {
+                translateFunction(method);
             }
         }
     }
 
     // create a constructor function for the giving class
-    private void createConstructor(NQJClassDecl classDecl) {
-        Proc proc = Proc(classDecl.getName() + "_constructor",
-                TypePointer(classStructs.get(classDecl.getName())),
-                ParameterList(), BasicBlockList());
+    private void createConstructor(ClassSymbol symbol) {
+        TypeStruct classStruct = symbol.getClassStruct();
+        Proc proc = Proc(symbol.getConstructorName(),
+                types.pointer(classStruct), ParameterList(), BasicBlockList());
         BasicBlock basicBlock = newBasicBlock("init");
         proc.getBasicBlocks().add(basicBlock);
         // allocate space for object
         TemporaryVar obj = TemporaryVar("address_this");
-        basicBlock.add(Alloc(obj, Sizeof(classStructs.get(classDecl.getName()))));
+        basicBlock.add(Alloc(obj, Sizeof(classStruct)));
         // cast i8* to object struct
         TemporaryVar currentThis = TemporaryVar("this");
-        basicBlock.add(Bitcast(currentThis,
-                TypePointer(classStructs.get(classDecl.getName())), VarRef(obj)));
+        basicBlock.add(Bitcast(currentThis, types.pointer(classStruct), VarRef(obj)));
 
 
         // set reference to the virtual method table
@@ -713,27 +894,29 @@ public class Translator {
         basicBlock.add(GetElementPtr(ptr, VarRef(currentThis),
                 OperandList(ConstInt(0), ConstInt(0))));
         basicBlock.add(Store(VarRef(ptr),
-                GlobalRef(vmts.get(classDecl.getName()))));
-        if (classStructs.get(classDecl.getName()).getFields().size() > 1) {
+                GlobalRef(symbol.getVmt())));
+        if (classStruct.getFields().size() > 1) {
             // initialise fields with default values
-            for (int i = 1; i < classStructs.get(classDecl.getName()).getFields().size(); i++) {
+            for (int i = 1; i < classStruct.getFields().size(); i++) {
                 TemporaryVar fieldPtr = TemporaryVar("field_ptr");
                 basicBlock.add(GetElementPtr(fieldPtr, VarRef(currentThis),
                         OperandList(ConstInt(0), ConstInt(i))));
                 basicBlock.add(Store(VarRef(fieldPtr),
-                        defaultValue(classStructs.get(classDecl.getName())
-                                .getFields().get(i).getType())));
+                        defaultValue(classStruct.getFields().get(i).getType())));
             }
         }
 
         basicBlock.add(ReturnExpr(VarRef(currentThis)));
 
         addProcedure(proc);
-        constructors.put(classDecl.getName() + "_constructor", proc);
+        symbol.setConstructor(proc);
     }
 
-    public Proc getConstructorProc(String name) {
-        return constructors.get(name);
+    /**
+     * The constructor of the class with the given name.
+     */
+    public Proc getConstructorProc(String className) {
+        return classSymbols.get(className).getConstructor();
     }
 
 }
@@ -0,0 +1,119 @@
+package notquitejava.analysis;
+
+import analysis.Analysis;
+import analysis.IncrementalAnalysis;
+import analysis.TypeError;
+import frontend.NQJFrontend;
+import notquitejava.ast.NQJProgram;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class IncrementalAnalysisTest {
+
+    private static final String PROGRAM = String.join("\n",
+            "int main() {",
+            "    printInt(f(1));",
+            "    return 0;",
+            "}",
+            "int f(int x) {",
+            "    return x + 1;",
+            "}",
+            "class A { int x; int g() { return x; } }");
+
+    private static NQJProgram parse(String source) throws Exception {
+        NQJFrontend frontend = new NQJFrontend();
+        NQJProgram prog = frontend.parseString(source);
+        assertTrue(frontend.getSyntaxErrors().isEmpty());
+        return prog;
+    }
+
+    private static List<String> fullAnalysis(String source) throws Exception {
+        Analysis analysis = new Analysis(parse(source));
+        analysis.check();
+        List<String> errors = new ArrayList<>();
+        analysis.getTypeErrors().forEach(e -> errors.add(e.toString()));
+        errors.sort(null);
+        return errors;
+    }
+
+    private static void assertSameErrors(String source, IncrementalAnalysis incremental)
+            throws Exception {
+        List<String> errors = new ArrayList<>();
+        for (TypeError e : incremental.getTypeErrors()) {
+            errors.add(e.toString());
+        }
+        errors.sort(null);
+        assertEquals(fullAnalysis(source), errors);
+    }
+
+    @Test
+    public void bodyChange() throws Exception {
+        IncrementalAnalysis analysis = new IncrementalAnalysis(parse(PROGRAM));
+        assertTrue(analysis.getTypeErrors().isEmpty());
+
+        String broken = PROGRAM.replace("return x + 1;", "return x + true;");
+        IncrementalAnalysis.Delta delta = analysis.update(parse(broken));
+        assertEquals(1, delta.getAdded().size());
+        assertTrue(delta.getRemoved().isEmpty());
+        assertSameErrors(broken, analysis);
+
+        delta = analysis.update(parse(PROGRAM));
+        assertTrue(delta.getAdded().isEmpty());
+        assertEquals(1, delta.getRemoved().size());
+        assertSameErrors(PROGRAM, analysis);
+    }
+
+    @Test
+    public void signatureChangeRechecksCallers() throws Exception {
+        IncrementalAnalysis analysis = new IncrementalAnalysis(parse(PROGRAM));
+        String changed = PROGRAM.replace("int f(int x)", "int f(boolean x)")
+                .replace("return x + 1;", "return 1;");
+        IncrementalAnalysis.Delta delta = analysis.update(parse(changed));
+        assertFalse(delta.getAdded().isEmpty());
+        assertSameErrors(changed, analysis);
+    }
+
+    @Test
+    public void undefinedClassInSignatureIsFixed() throws Exception {
+        String broken = PROGRAM.replace("int f(int x)", "int f(Foo x)")
+                .replace("return x + 1;", "return 1;");
+        IncrementalAnalysis analysis = new IncrementalAnalysis(parse(broken));
+        assertSameErrors(broken, analysis);
+        assertFalse(analysis.getTypeErrors().isEmpty());
+
+        String fixed = PROGRAM.replace("return x + 1;", "return 1;");
+        IncrementalAnalysis.Delta delta = analysis.update(parse(fixed));
+        assertFalse(delta.getRemoved().isEmpty());
+        assertSameErrors(fixed, analysis);
+
+        analysis.update(parse(broken));
+        assertSameErrors(broken, analysis);
+    }
+
+    @Test
+    public void undefinedClassInBodyIsFixed() throws Exception {
+        String broken = PROGRAM.replace("return x + 1;", "Foo y; return x + 1;");
+        IncrementalAnalysis analysis = new IncrementalAnalysis(parse(broken));
+        assertSameErrors(broken, analysis);
+        assertFalse(analysis.getTypeErrors().isEmpty());
+
+        IncrementalAnalysis.Delta delta = analysis.update(parse(PROGRAM));
+        assertFalse(delta.getRemoved().isEmpty());
+        assertSameErrors(PROGRAM, analysis);
+
+        analysis.update(parse(broken));
+        assertSameErrors(broken, analysis);
+    }
+
+    @Test
+    public void classChange() throws Exception {
+        IncrementalAnalysis analysis = new IncrementalAnalysis(parse(PROGRAM));
+        String changed = PROGRAM.replace("int x;", "boolean x;");
+        analysis.update(parse(changed));
+        assertSameErrors(changed, analysis);
+    }
+}
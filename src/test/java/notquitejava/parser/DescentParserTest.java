@@ -0,0 +1,302 @@
+package notquitejava.parser;
+
+import frontend.AstPrinter;
+import frontend.DescentParser;
+import frontend.NQJFrontend;
+import frontend.SourcePosition;
+import notquitejava.ast.*;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Checks that the hand-written parser builds the same AST with the same source positions
+ * as the CUP parser, and that both report the same syntax errors.
+ */
+@RunWith(Parameterized.class)
+public class DescentParserTest {
+
+	private final String name;
+	private final String input;
+
+	public DescentParserTest(String name, String input) {
+		this.name = name;
+		this.input = input;
+	}
+
+	@Test
+	public void sameResult() throws Exception {
+		String expected = describe(NQJFrontend.ParserKind.CUP);
+		assertEquals(expected, describe(NQJFrontend.ParserKind.DESCENT));
+		if (!expected.startsWith("error") && !expected.startsWith("exception")) {
+			// parsed without falling back to the CUP parser
+			assertNotNull(name, DescentParser.parse(input));
+		}
+	}
+
+	private String describe(NQJFrontend.ParserKind kind) throws Exception {
+		NQJFrontend frontend = new NQJFrontend(kind);
+		NQJProgram prog;
+		try {
+			prog = frontend.parse(new StringReader(input));
+		} catch (Exception e) {
+			return "exception " + e.getClass().getName();
+		}
+		StringBuilder sb = new StringBuilder();
+		frontend.getSyntaxErrors().forEach(e -> sb.append("error ").append(e).append('\n'));
+		if (prog != null) {
+			sb.append(AstPrinter.print(prog));
+			sb.append(positions(prog));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * The positions of all elements the parsers set positions on.
+	 */
+	private static String positions(NQJProgram prog) {
+		StringBuilder sb = new StringBuilder();
+		prog.accept(new NQJElement.DefaultVisitor() {
+			private void add(NQJElement e) {
+				SourcePosition p = e.getSourcePosition();
+				sb.append(e.getClass().getSimpleName());
+				if (p != null) {
+					sb.append(' ').append(p.getLine()).append(':').append(p.getColumn())
+							.append('-').append(p.getEndLine()).append(':').append(p.getEndColumn());
+				}
+				sb.append('\n');
+			}
+
+			@Override
+			public void visit(NQJProgram e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJClassDecl e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJFunctionDecl e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJVarDecl e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJVarDeclList e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJTypeArray e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJTypeInt e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJTypeBool e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJTypeClass e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJBlock e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJStmtIf e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJStmtWhile e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJStmtReturn e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJStmtExpr e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJStmtAssign e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJArrayLookup e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJFieldAccess e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJVarUse e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJRead e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJExprBinary e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJExprUnary e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJArrayLength e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJMethodCall e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJFunctionCall e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJExprList e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJBoolConst e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJNumber e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJExprThis e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJExprNull e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJNewArray e) {
+				add(e);
+				super.visit(e);
+			}
+
+			@Override
+			public void visit(NQJNewObject e) {
+				add(e);
+				super.visit(e);
+			}
+		});
+		return sb.toString();
+	}
+
+	@Parameterized.Parameters(name = "{0}")
+	public static Collection<Object[]> data() throws IOException {
+		List<Object[]> params = new ArrayList<>();
+		try (Stream<Path> files = Files.walk(new File("testdata").toPath())) {
+			for (Path p : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+				params.add(new Object[]{p.toString(),
+						new String(Files.readAllBytes(p), StandardCharsets.UTF_8)});
+			}
+		}
+		// precedence, postfix chains, declarations starting with expressions and empty lists
+		params.add(new Object[]{"expressions", String.join("\n",
+				"class A extends B { int[][] x; A.b y; A m(int a, A[] b) { return this; } }",
+				"int f() {",
+				"  int[] a; A b; b.c[1] d; this.x y;",
+				"  a = new int[3 + 4 * 2][]; b.x = - - ! - a[0] * 2 - 3 / (4 - 5) < 6 == true && !b;",
+				"  a[(a)[0]] = new A().m(1, null).x[a.length].y;",
+				"  if (f() < new int[2].length) { } else while (false) return (1);",
+				"  f(); b.m(); new A().x = (this);",
+				"  return 0;",
+				"}")});
+		// inputs the hand-written parser gives up on
+		params.add(new Object[]{"error in expression", "int main() { x = 1 + ; return 0; }"});
+		params.add(new Object[]{"call as receiver", "int main() { f().x = 1; return 0; }"});
+		params.add(new Object[]{"lookup on new array", "int main() { x = new int[1][0]; }"});
+		params.add(new Object[]{"declaration as branch", "int main() { if (c) int x; else {} }"});
+		params.add(new Object[]{"number too large", "int main() { return 99999999999; }"});
+		return params;
+	}
+}
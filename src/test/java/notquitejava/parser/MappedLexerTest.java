@@ -0,0 +1,87 @@
+package notquitejava.parser;
+
+import analysis.Analysis;
+import frontend.AstPrinter;
+import frontend.NQJFrontend;
+import notquitejava.ast.NQJProgram;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that memory-mapped ASCII files are parsed exactly like files read
+ * by the generated lexer, including the positions in error messages.
+ */
+@RunWith(Parameterized.class)
+public class MappedLexerTest {
+
+    private final File inputFile;
+
+    public MappedLexerTest(File inputFile) {
+        this.inputFile = inputFile;
+    }
+
+    @Test
+    public void sameResult() throws Exception {
+        assertEquals(describe(inputFile, true), describe(inputFile, false));
+    }
+
+    private static String describe(File file, boolean mapped) throws Exception {
+        NQJFrontend frontend = new NQJFrontend();
+        NQJProgram prog;
+        if (mapped) {
+            prog = frontend.parseFile(file);
+        } else {
+            try (Reader r = new FileReader(file)) {
+                prog = frontend.parse(r);
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        frontend.getSyntaxErrors().forEach(e -> sb.append(e).append('\n'));
+        if (prog != null) {
+            sb.append(AstPrinter.print(prog));
+            if (frontend.getSyntaxErrors().isEmpty()) {
+                // type errors report the positions of the elements
+                Analysis analysis = new Analysis(prog);
+                analysis.check();
+                analysis.getTypeErrors().forEach(e -> sb.append(e).append('\n'));
+            }
+        }
+        return sb.toString();
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> data() throws IOException {
+        List<Object[]> params = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(new File("testdata").toPath())) {
+            for (Path p : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                params.add(new Object[]{p.toFile()});
+            }
+        }
+        // tokens and line terminators which only the lexers have to agree on
+        Path tricky = Files.createTempFile("lexer", ".java");
+        tricky.toFile().deleteOnExit();
+        Files.write(tricky, String.join("\r\n",
+                "int main() { int[ /* c */ ] a; int[\r] b; a = new int[007];",
+                "  boolean x; x = 1 == 2 && !true; // comment\r",
+                "\f return a.length + 0 * 10 / 2 - 1; /* unterminated",
+                "} & # forx int_1").getBytes(StandardCharsets.US_ASCII));
+        params.add(new Object[]{tricky.toFile()});
+        return params;
+    }
+}
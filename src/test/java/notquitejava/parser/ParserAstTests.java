@@ -1,15 +1,24 @@
 package notquitejava.parser;
 
+import frontend.AstHelper;
 import frontend.AstPrinter;
 import frontend.NQJFrontend;
+import frontend.SourcePosition;
 import frontend.SyntaxError;
+import notquitejava.ast.NQJ;
 import notquitejava.ast.NQJElement;
+import notquitejava.ast.NQJFunctionDecl;
 import notquitejava.ast.NQJMethodCall;
 import notquitejava.ast.NQJProgram;
+import notquitejava.ast.NQJRead;
+import notquitejava.ast.NQJTopLevelDeclList;
 import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.assertFalse;
 
 
@@ -193,4 +202,110 @@ public class ParserAstTests {
 		Assert.assertThat(printed, CoreMatchers.containsString("x = a.s(1, 2, (f + g));"));
 	}
 
+	@Test
+	public void declarationsAreMovedNotCopied() throws Exception {
+		NQJFunctionDecl main = NQJ.FunctionDecl(NQJ.TypeInt(), "main", NQJ.VarDeclList(),
+				NQJ.Block(NQJ.StmtReturn(NQJ.Number(0))));
+		NQJTopLevelDeclList decls = NQJ.TopLevelDeclList();
+		decls.add(main);
+		NQJProgram prog = AstHelper.program(decls);
+		Assert.assertSame(main, prog.getFunctionDecls().get(0));
+		Assert.assertSame(prog.getFunctionDecls(), main.getParent());
+	}
+
+	@Test
+	public void readSharesPositionWithAddress() throws Exception {
+		for (NQJFrontend.ParserKind kind : NQJFrontend.ParserKind.values()) {
+			NQJProgram ast = new NQJFrontend(kind).parseString("int main() { return x[0]; }");
+			ast.accept(new NQJElement.DefaultVisitor() {
+				@Override
+				public void visit(NQJRead read) {
+					super.visit(read);
+					Assert.assertSame(read.getAddress().getSourcePosition(), read.getSourcePosition());
+				}
+			});
+		}
+	}
+
+	@Test
+	public void packedPositionsKeepCoordinates() {
+		int[][] coordinates = {
+				{1, 1, 1, 1},
+				{3, 7, 5, 12},
+				{1, 0, 1, 0},
+				{(1 << 24) - 1, (1 << 14) - 1, (1 << 24) + 4094, (1 << 14) - 1},
+				// too large to be packed
+				{1 << 24, 1, 1 << 24, 2},
+				{1, 1 << 14, 1, 1 << 14},
+				{1, 1, 1 << 12, 1},
+				{-1, -1, -1, -1},
+		};
+		for (int[] c : coordinates) {
+			SourcePosition p = SourcePosition.of("unit", c[0], c[1], c[2], c[3]);
+			Assert.assertEquals("unit", p.getUnit());
+			Assert.assertArrayEquals(c, new int[] {p.getLine(), p.getColumn(),
+					p.getEndLine(), p.getEndColumn()});
+		}
+	}
+
+	@Test
+	public void compactPositionsAreTheSameAsFullPositions() throws Exception {
+		String input = "class A { int x; int get(int y) { return this.x + y; } }\n"
+				+ "int main() {\n  A a; a = new A();\n  printInt(a.get(new int[3].length));\n"
+				+ "  return 0;\n}\n";
+		for (NQJFrontend.ParserKind kind : NQJFrontend.ParserKind.values()) {
+			List<String> full;
+			try {
+				SourcePosition.setCompact(false);
+				full = positions(new NQJFrontend(kind).parseString(input));
+			} finally {
+				SourcePosition.setCompact(true);
+			}
+			Assert.assertEquals(full, positions(new NQJFrontend(kind).parseString(input)));
+		}
+	}
+
+	private static List<String> positions(NQJProgram prog) {
+		List<String> result = new ArrayList<>();
+		prog.accept(new NQJElement.DefaultVisitor() {
+			@Override
+			public void visit(NQJFunctionDecl f) {
+				super.visit(f);
+				SourcePosition p = f.getSourcePosition();
+				result.add(f.getName() + " " + p.getLine() + ":" + p.getColumn()
+						+ "-" + p.getEndLine() + ":" + p.getEndColumn());
+			}
+
+			@Override
+			public void visit(NQJMethodCall call) {
+				super.visit(call);
+				SourcePosition p = call.getSourcePosition();
+				result.add(call.getMethodName() + " " + p.getLine() + ":" + p.getColumn()
+						+ "-" + p.getEndLine() + ":" + p.getEndColumn());
+			}
+		});
+		return result;
+	}
+
+	@Test
+	public void namesAreSharedBetweenParses() throws Exception {
+		String input = "int fooBar() { return 0; }";
+		NQJProgram first = new NQJFrontend().parseString(input);
+		NQJProgram second = new NQJFrontend().parseString(input);
+		Assert.assertSame(first.getFunctionDecls().get(0).getName(),
+				second.getFunctionDecls().get(0).getName());
+	}
+
+	@Test
+	public void namesAreTheSameSymbolsInAllParsers() throws Exception {
+		// the analysis and the translator key their tables by identity
+		String input = "class A { int x; } int main() { A a; a = new A(); return a.x; }";
+		for (NQJFrontend.ParserKind kind : NQJFrontend.ParserKind.values()) {
+			NQJProgram prog = new NQJFrontend(kind).parseString(input);
+			Assert.assertSame("A", prog.getClassDecls().get(0).getName());
+			Assert.assertSame("x", prog.getClassDecls().get(0).getFields().get(0).getName());
+			Assert.assertSame("main", prog.getFunctionDecls().get(0).getName());
+		}
+	}
+
 }
@@ -0,0 +1,67 @@
+package notquitejava.parser;
+
+import frontend.NQJFrontend;
+import notquitejava.ast.NQJProgram;
+
+/**
+ * Compares the parse times of the CUP parser and the hand-written parser
+ * on a generated program. Not run as part of the tests.
+ *
+ * <p>Usage: ParserBenchmark [functions] [rounds]
+ */
+public class ParserBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int functions = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+		String input = program(functions);
+		System.out.printf("%d functions, %d characters%n", functions, input.length());
+
+		// warm up both parsers before measuring
+		for (int i = 0; i < 3; i++) {
+			time(NQJFrontend.ParserKind.CUP, input);
+			time(NQJFrontend.ParserKind.DESCENT, input);
+		}
+		for (NQJFrontend.ParserKind kind : NQJFrontend.ParserKind.values()) {
+			long best = Long.MAX_VALUE;
+			long total = 0;
+			for (int i = 0; i < rounds; i++) {
+				long t = time(kind, input);
+				best = Math.min(best, t);
+				total += t;
+			}
+			System.out.printf("%-8s best %8.2f ms, mean %8.2f ms%n", kind,
+					best / 1e6, total / 1e6 / rounds);
+		}
+	}
+
+	private static long time(NQJFrontend.ParserKind kind, String input) throws Exception {
+		long start = System.nanoTime();
+		NQJFrontend frontend = new NQJFrontend(kind);
+		NQJProgram prog = frontend.parseString(input);
+		long time = System.nanoTime() - start;
+		if (prog == null || !frontend.getSyntaxErrors().isEmpty()) {
+			throw new IllegalStateException("benchmark program does not parse");
+		}
+		return time;
+	}
+
+	static String program(int functions) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("class Point { int x; int y; int[] data;\n")
+				.append("  int sum(int a) { return this.x + this.y * a - data[0]; } }\n");
+		for (int i = 0; i < functions; i++) {
+			sb.append("int f").append(i).append("(int n, Point p, int[][] m) {\n")
+					.append("  int i; boolean b; int[] a;\n")
+					.append("  i = 0; a = new int[n + 1];\n")
+					.append("  while (i < n && !(a.length == 0)) {\n")
+					.append("    a[i] = p.sum(i) * (i - 1) / 2 + m[i][i];\n")
+					.append("    if (a[i] < 0) { p.x = -a[i]; } else { i = i + 1; }\n")
+					.append("  }\n")
+					.append("  return f").append(i == 0 ? 0 : i - 1).append("(n - 1, p, m);\n")
+					.append("}\n");
+		}
+		sb.append("int main() { return 0; }\n");
+		return sb.toString();
+	}
+}
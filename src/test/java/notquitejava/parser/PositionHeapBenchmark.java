@@ -0,0 +1,61 @@
+package notquitejava.parser;
+
+import frontend.NQJFrontend;
+import frontend.SourcePosition;
+import notquitejava.ast.NQJProgram;
+
+/**
+ * Compares the heap used by a parsed program with full and with compact source positions,
+ * on the program of {@link ParserBenchmark}. Not run as part of the tests.
+ *
+ * <p>Usage: PositionHeapBenchmark [functions]
+ */
+public class PositionHeapBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int functions = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+		String input = ParserBenchmark.program(functions);
+		System.out.printf("%d functions, %d characters%n", functions, input.length());
+		for (NQJFrontend.ParserKind kind : NQJFrontend.ParserKind.values()) {
+			long full = retainedBytes(kind, input, false);
+			long compact = retainedBytes(kind, input, true);
+			System.out.printf("%-8s full %8.2f MB, compact %8.2f MB (%.1f%% less)%n", kind,
+					full / 1e6, compact / 1e6, 100.0 * (full - compact) / full);
+		}
+	}
+
+	/*
+	 * the heap retained by the program parsed from the input.
+	 */
+	private static long retainedBytes(NQJFrontend.ParserKind kind, String input,
+			boolean compact) throws Exception {
+		SourcePosition.setCompact(compact);
+		try {
+			long before = usedHeap();
+			NQJProgram prog = new NQJFrontend(kind).parseString(input);
+			long after = usedHeap();
+			if (prog == null) {
+				throw new IllegalStateException("benchmark program does not parse");
+			}
+			return after - before;
+		} finally {
+			SourcePosition.setCompact(true);
+		}
+	}
+
+	private static long usedHeap() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		long used = Long.MAX_VALUE;
+		// collect until the used heap does not shrink anymore
+		for (int i = 0; i < 10; i++) {
+			System.gc();
+			Thread.sleep(50);
+			long now = runtime.totalMemory() - runtime.freeMemory();
+			if (now >= used) {
+				break;
+			}
+			used = now;
+		}
+		return used;
+	}
+}
@@ -0,0 +1,126 @@
+package notquitejava.translation;
+
+import main.NotQuiteJavaCompiler;
+import minillvm.printer.BitcodeWriter;
+import minillvm.printer.PrettyPrinter;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Writes the programs from testdata/translation as bitcode and checks that llvm-dis
+ * prints the same code as for the printed program assembled with llvm-as.
+ * The tests are skipped when the llvm tools are not installed.
+ */
+@RunWith(Parameterized.class)
+public class BitcodeWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final File inputFile;
+
+    public BitcodeWriterTest(File inputFile) {
+        this.inputFile = inputFile;
+    }
+
+    @BeforeClass
+    public static void requireLlvmTools() {
+        assumeTrue("llvm-as and llvm-dis are required",
+                isInstalled(TranslationTestHelper.LLVM_AS_EXE)
+                        && isInstalled(TranslationTestHelper.LLVM_DIS_EXE));
+    }
+
+    private static boolean isInstalled(String tool) {
+        try {
+            Process process = new ProcessBuilder(tool, "--version")
+                    .redirectErrorStream(true).start();
+            process.getInputStream().readAllBytes();
+            return process.waitFor() == 0;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Test
+    public void bitcodeIsEquivalentToPrintedCode() throws Exception {
+        for (boolean runtimeLibrary : new boolean[] {false, true}) {
+            NotQuiteJavaCompiler compiler = new NotQuiteJavaCompiler();
+            compiler.setRuntimeLibrary(runtimeLibrary);
+            compiler.compileFile(inputFile);
+            assertEquals(Collections.emptyList(), compiler.getSyntaxErrors());
+            assertEquals(Collections.emptyList(), compiler.getTypeErrors());
+
+            String name = inputFile.getName() + (runtimeLibrary ? ".runtime" : "");
+            File printed = folder.newFile(name + ".ll");
+            try (Writer out = Files.newBufferedWriter(printed.toPath())) {
+                PrettyPrinter.printProgram(compiler.getLlvmProg(), out, 1, runtimeLibrary);
+            }
+            File assembled = new File(folder.getRoot(), name + ".as.bc");
+            run(TranslationTestHelper.LLVM_AS_EXE, printed.getPath(), "-o", assembled.getPath());
+
+            File written = new File(folder.getRoot(), name + ".bc");
+            try (OutputStream out = Files.newOutputStream(written.toPath())) {
+                BitcodeWriter.writeProgram(compiler.getLlvmProg(), out, runtimeLibrary);
+            }
+            byte[] bytes = Files.readAllBytes(written.toPath());
+            assertEquals(0, bytes.length % 4);
+            assertEquals("BC", new String(bytes, 0, 2, StandardCharsets.US_ASCII));
+
+            assertEquals(disassemble(assembled), disassemble(written));
+        }
+    }
+
+    /*
+     * the disassembled module without its name, which is taken from the file.
+     */
+    private static String disassemble(File bitcode) throws Exception {
+        File code = new File(bitcode.getPath() + ".dis.ll");
+        run(TranslationTestHelper.LLVM_DIS_EXE, bitcode.getPath(), "-o", code.getPath());
+        return Files.readAllLines(code.toPath()).stream()
+                .filter(l -> !l.startsWith("; ModuleID") && !l.startsWith("source_filename"))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static void run(String... command) throws Exception {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(),
+                StandardCharsets.UTF_8);
+        assertEquals(String.join(" ", command) + "\n" + output, 0, process.waitFor());
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> data() {
+        List<Object[]> ctorParams = new ArrayList<>();
+        File[] dirs = Objects.requireNonNull(new File("testdata/translation")
+                .listFiles(File::isDirectory));
+        Arrays.sort(dirs);
+        for (File dir : dirs) {
+            File[] files = Objects.requireNonNull(dir.listFiles(File::isFile));
+            Arrays.sort(files);
+            for (File f : files) {
+                ctorParams.add(new Object[] {f});
+            }
+        }
+        return ctorParams;
+    }
+}
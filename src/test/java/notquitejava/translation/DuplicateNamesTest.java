@@ -0,0 +1,59 @@
+package notquitejava.translation;
+
+import minillvm.analysis.TypeTable;
+import minillvm.ast.*;
+import minillvm.printer.DuplicateNames;
+import org.junit.Test;
+
+import static minillvm.ast.Ast.*;
+import static org.junit.Assert.assertEquals;
+
+public class DuplicateNamesTest {
+
+    @Test
+    public void duplicatesGetTheFirstFreeSuffix() {
+        TemporaryVar[] vars = {TemporaryVar("t"), TemporaryVar("t"), TemporaryVar("t2"),
+            TemporaryVar("t"), TemporaryVar("t"), TemporaryVar("n")};
+        BasicBlock block = BasicBlock();
+        block.setName("t");
+        for (TemporaryVar v : vars) {
+            block.add(BinaryOperation(v, ConstInt(1), Add(), ConstInt(2)));
+        }
+        block.add(ReturnExpr(ConstInt(0)));
+        Proc proc = Proc("f", TypeTable.INT, ParameterList(Parameter(TypeTable.INT, "n")),
+                BasicBlockList(block));
+
+        DuplicateNames.eliminateDuplicateNames(new DuplicateNames.Scope(), proc);
+
+        assertEquals("n", proc.getParameters().get(0).getName());
+        assertEquals("t", block.getName());
+        String[] expected = {"t1", "t2", "t21", "t3", "t4", "n1"};
+        for (int i = 0; i < vars.length; i++) {
+            assertEquals(expected[i], vars[i].getName());
+        }
+    }
+
+    @Test
+    public void numberedNamesFollowTheDefinitionOrder() {
+        TemporaryVar x = TemporaryVar("x");
+        TemporaryVar y = TemporaryVar("y");
+        BasicBlock start = BasicBlock(BinaryOperation(x, ConstInt(1), Add(), ConstInt(2)));
+        start.setName("start");
+        BasicBlock error = BasicBlock(HaltWithError("error"));
+        error.setName("error");
+        BasicBlock end = BasicBlock(BinaryOperation(y, VarRef(x), Add(), ConstInt(2)),
+                ReturnExpr(VarRef(y)));
+        end.setName("end");
+        start.add(Branch(ConstBool(true), end, error));
+        Proc proc = Proc("f", TypeTable.INT, ParameterList(Parameter(TypeTable.INT, "n")),
+                BasicBlockList(start, error, end));
+
+        DuplicateNames.numberLocalNames(proc);
+
+        assertEquals("0", proc.getParameters().get(0).getName());
+        assertEquals("1", x.getName());
+        // the call to printf in the error block is value %2
+        assertEquals("3", y.getName());
+        assertEquals("start", start.getName());
+    }
+}
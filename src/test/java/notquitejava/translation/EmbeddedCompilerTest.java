@@ -0,0 +1,56 @@
+package notquitejava.translation;
+
+import main.CompilationRequest;
+import main.CompilationResult;
+import main.EmbeddedCompiler;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class EmbeddedCompilerTest {
+
+    private static final String PROGRAM = String.join("\n",
+            "int main() {",
+            "    A a;",
+            "    a = new B();",
+            "    printInt(a.f(new int[3]));",
+            "    return 0;",
+            "}",
+            "class A { int x; int f(int[] xs) { return xs.length; } }",
+            "class B extends A { int f(int[] xs) { return x + 1; } }");
+
+    @Test
+    public void concurrentCompilationsAreIndependent() throws Exception {
+        String expected = EmbeddedCompiler.compile(
+                new CompilationRequest("test.java", PROGRAM)).getLlvmCode();
+        assertNotNull(expected);
+
+        List<CompilationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            // interleave programs with type errors
+            requests.add(new CompilationRequest("test" + i + ".java",
+                    i % 2 == 0 ? PROGRAM : PROGRAM.replace("return 0;", "return true;")));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<CompilationResult> results = EmbeddedCompiler.compileAll(requests, executor);
+            for (int i = 0; i < results.size(); i++) {
+                CompilationResult result = results.get(i);
+                if (i % 2 == 0) {
+                    assertTrue(result.isSuccess());
+                    assertEquals(expected, result.getLlvmCode());
+                } else {
+                    assertFalse(result.isSuccess());
+                    assertFalse(result.getTypeErrors().isEmpty());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package notquitejava.translation;
+
+import main.SeparateCompiler;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SeparateCompilationTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File write(String name, String... lines) throws Exception {
+        File file = new File(folder.getRoot(), name);
+        Files.write(file.toPath(), String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String read(Path path) throws Exception {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void onlyChangedFilesAreCompiledAgain() throws Exception {
+        File a = write("a.java",
+                "class A { int x; int get() { return new int[x].length; } }",
+                "int twice(int n) { return 2 * n; }");
+        File b = write("b.java",
+                "int main() { A a; a = new A(); printInt(twice(a.get())); return 0; }");
+        List<File> files = List.of(a, b);
+
+        SeparateCompiler compiler = new SeparateCompiler(files);
+        assertTrue(compiler.getErrors().toString(), compiler.compile());
+        assertEquals(2, compiler.getCompiledModules());
+        String moduleB = read(SeparateCompiler.modulePath(b));
+        assertTrue(moduleB.contains("declare i32 @twice("));
+        assertTrue(moduleB.contains("= external constant %A_vmt"));
+        assertTrue(moduleB.contains("define i32 @main("));
+        // arrays are allocated by the runtime library
+        String moduleA = read(SeparateCompiler.modulePath(a));
+        assertTrue(moduleA.contains("call i8* @nqj_new_array("));
+        assertFalse(moduleA.contains("define void @print("));
+        String summaryA = read(SeparateCompiler.summaryPath(a));
+        assertTrue(summaryA.contains("%A = type"));
+        assertTrue(summaryA.contains("declare i32 @A_get("));
+        assertFalse(summaryA.contains("@main"));
+
+        compiler = new SeparateCompiler(files);
+        assertTrue(compiler.compile());
+        assertEquals(0, compiler.getCompiledModules());
+
+        write("b.java",
+                "int main() { printInt(twice(3)); return 0; }");
+        compiler = new SeparateCompiler(files);
+        assertTrue(compiler.compile());
+        assertEquals(1, compiler.getCompiledModules());
+    }
+
+    @Test
+    public void errorsAreReportedForTheirFile() throws Exception {
+        File a = write("a.java", "int f(C c) { return 0; }");
+        File b = write("b.java", "int main() { return f(null); }");
+
+        SeparateCompiler compiler = new SeparateCompiler(List.of(a, b));
+        assertFalse(compiler.compile());
+        List<String> errors = compiler.getErrors();
+        assertEquals(a + ":", errors.get(0));
+        assertFalse(errors.contains(b + ":"));
+    }
+}
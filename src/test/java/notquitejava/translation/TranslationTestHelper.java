@@ -32,6 +32,8 @@ public class TranslationTestHelper {
 	public static final String LLVM_LLI_EXE;
 	public static final String LLVM_OPT_EXE;
 	public static final String LLVM_LLC_EXE;
+	public static final String LLVM_AS_EXE;
+	public static final String LLVM_DIS_EXE;
 	public static final String CC_EXE;
 	public static final String EXE_SUFFIX;
 
@@ -45,10 +47,14 @@ public class TranslationTestHelper {
 			LLVM_LLI_EXE = Paths.get(LLVM_BASE, "lli").toString();
 			LLVM_OPT_EXE = Paths.get(LLVM_BASE, "opt").toString();
 			LLVM_LLC_EXE = Paths.get(LLVM_BASE, "llc").toString();
+			LLVM_AS_EXE = Paths.get(LLVM_BASE, "llvm-as").toString();
+			LLVM_DIS_EXE = Paths.get(LLVM_BASE, "llvm-dis").toString();
 		} else {
 			LLVM_LLI_EXE = "lli";
 			LLVM_OPT_EXE = "opt";
 			LLVM_LLC_EXE = "llc";
+			LLVM_AS_EXE = "llvm-as";
+			LLVM_DIS_EXE = "llvm-dis";
 		}
 		if (env.containsKey("CC")) {
 			CC_EXE = env.get("CC");
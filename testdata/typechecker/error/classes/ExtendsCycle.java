@@ -0,0 +1,13 @@
+int main() {
+        return 0;
+}
+
+class A extends C {
+}
+
+// cyclic inheritance
+class B extends C { //TE
+}
+
+class C extends B { //TE
+}
@@ -0,0 +1,11 @@
+int main() {
+        B b;
+        b = new A(); // TE
+        return 0;
+}
+
+class A {
+}
+
+class B extends A {
+}
@@ -0,0 +1,7 @@
+int main() {
+        return 0;
+}
+
+class A {
+    C c; // TE
+}
@@ -0,0 +1,27 @@
+int main() {
+        A a;
+        B b;
+        C c;
+        c = new C();
+        b = c;
+        a = c;
+        a = b;
+        a = a.self(c);
+        return 0;
+}
+
+class A {
+    A self(A other) {
+        return other;
+    }
+}
+
+class B extends A {
+}
+
+// C is declared before D, but extends it
+class C extends D {
+}
+
+class D extends B {
+}
@@ -0,0 +1,164 @@
+@.print_message_1 = private unnamed_addr constant [33 x i8] c"Nullpointer exception in line 6\0A\00", align 1
+@.print_message_2 = private unnamed_addr constant [37 x i8] c"Index out of bounds error in line 6\0A\00", align 1
+@.print_message_3 = private unnamed_addr constant [33 x i8] c"Nullpointer exception in line 8\0A\00", align 1
+@.print_message_4 = private unnamed_addr constant [37 x i8] c"Index out of bounds error in line 8\0A\00", align 1
+@.print_message_5 = private unnamed_addr constant [29 x i8] c"Array Size must be positive\0A\00", align 1
+
+
+%array_i32 = type {
+     i32  ; length
+    ,[0 x i32]  ; data
+}
+
+define i32 @main() {
+init:
+    %a1 = alloca %array_i32*
+    %b = alloca i32
+    ;1 start statement : {
+    ;2 start statement : int[] a1
+    ;2 end statement: int[] a1
+    ;3 start statement : int b
+    ;3 end statement: int b
+    ;4 start statement : b = 3;
+    store i32 3, i32* %b
+    ;4 end statement: b = 3;
+    ;5 start statement : a1 = (new int[(b * 2)]);
+    %t = load i32, i32* %b
+    %resMulImpl = mul i32 %t, 2
+    %newArray = call %array_i32* @newArray_i32(i32 %resMulImpl)
+    store %array_i32* %newArray, %array_i32** %a1
+    ;5 end statement: a1 = (new int[(b * 2)]);
+    ;6 start statement : a1[((b * 2) - 1)] = ((b * 3) + 10);
+    %t1 = load %array_i32*, %array_i32** %a1
+    %isNull = icmp eq %array_i32* %t1, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 6
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_1, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %t2 = load i32, i32* %b
+    %resMulImpl1 = mul i32 %t2, 2
+    %resSubImpl = sub i32 %resMulImpl1, 1
+    %length_addr = getelementptr %array_i32, %array_i32* %t1, i32 0, i32 0
+    %len = load i32, i32* %length_addr
+    %smallerZero = icmp slt i32 %resSubImpl, 0
+    %lenMinusOne = sub i32 %len, 1
+    %greaterEqualLen = icmp slt i32 %lenMinusOne, %resSubImpl
+    %outOfBounds = or i1 %smallerZero, %greaterEqualLen
+    br i1 %outOfBounds, label %outOfBounds1, label %indexInRange
+    
+outOfBounds1:
+    ; ERROR: Index out of bounds error in line 6
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([37 x i8], [37 x i8]* @.print_message_2, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+indexInRange:
+    %indexAddr = getelementptr %array_i32, %array_i32* %t1, i32 0, i32 1, i32 %resSubImpl
+    %t3 = load i32, i32* %b
+    %resMulImpl2 = mul i32 %t3, 3
+    %resAddImpl = add i32 %resMulImpl2, 10
+    store i32 %resAddImpl, i32* %indexAddr
+    ;6 end statement: a1[((b * 2) - 1)] = ((b * 3) + 10);
+    ;7 start statement : printInt(42);
+    call void @print(i32 42)
+    ;7 end statement: printInt(42);
+    ;8 start statement : printInt(a1[(4 + 1)]);
+    %t4 = load %array_i32*, %array_i32** %a1
+    %isNull1 = icmp eq %array_i32* %t4, null
+    br i1 %isNull1, label %whenIsNull1, label %notNull1
+    
+whenIsNull1:
+    ; ERROR: Nullpointer exception in line 8
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_3, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull1:
+    %resAddImpl1 = add i32 4, 1
+    %length_addr1 = getelementptr %array_i32, %array_i32* %t4, i32 0, i32 0
+    %len1 = load i32, i32* %length_addr1
+    %smallerZero1 = icmp slt i32 %resAddImpl1, 0
+    %lenMinusOne1 = sub i32 %len1, 1
+    %greaterEqualLen1 = icmp slt i32 %lenMinusOne1, %resAddImpl1
+    %outOfBounds2 = or i1 %smallerZero1, %greaterEqualLen1
+    br i1 %outOfBounds2, label %outOfBounds3, label %indexInRange1
+    
+outOfBounds3:
+    ; ERROR: Index out of bounds error in line 8
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([37 x i8], [37 x i8]* @.print_message_4, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+indexInRange1:
+    %indexAddr1 = getelementptr %array_i32, %array_i32* %t4, i32 0, i32 1, i32 %resAddImpl1
+    %t5 = load i32, i32* %indexAddr1
+    call void @print(i32 %t5)
+    ;8 end statement: printInt(a1[(4 + 1)]);
+    ;9 start statement : return 0;
+    ret i32 0
+    
+
+}
+
+define %array_i32* @newArray_i32(i32 %size) {
+init:
+    %sizeLessThanZero = icmp slt i32 %size, 0
+    br i1 %sizeLessThanZero, label %negativeSize, label %goodSize
+    
+negativeSize:
+    ; ERROR: Array Size must be positive
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([29 x i8], [29 x i8]* @.print_message_5, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+goodSize:
+    %arraySizeInBytes = mul i32 %size, 4
+    %arraySizeWitLen = add i32 %arraySizeInBytes, 4
+    %mallocRes = call i8* @malloc(i32 %arraySizeWitLen)
+    %newArray = bitcast i8* %mallocRes to %array_i32*
+    %sizeAddr = getelementptr %array_i32, %array_i32* %newArray, i32 0, i32 0
+    store i32 %size, i32* %sizeAddr
+    %iVar = alloca i32
+    store i32 0, i32* %iVar
+    br label %loopStart
+    
+loopStart:
+    %i = load i32, i32* %iVar
+    %smallerSize = icmp slt i32 %i, %size
+    br i1 %smallerSize, label %loopBody, label %loopEnd
+    
+loopBody:
+    %iAddr = getelementptr %array_i32, %array_i32* %newArray, i32 0, i32 1, i32 %i
+    store i32 0, i32* %iAddr
+    %nextI = add i32 %i, 1
+    store i32 %nextI, i32* %iVar
+    br label %loopStart
+    
+loopEnd:
+    ret %array_i32* %newArray
+    
+
+}
+
+
+declare noalias i8* @malloc(i32)
+
+declare i32 @printf(i8*, ...)
+
+declare void @exit(i32)
+
+@.printstr = private unnamed_addr constant [4 x i8] c"%d\0A\00", align 1
+define void @print(i32 %i) {
+    %temp = call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([4 x i8], [4 x i8]* @.printstr, i32 0, i32 0), i32 %i)
+    ret void
+}
@@ -0,0 +1,78 @@
+@.print_message_1 = private unnamed_addr constant [29 x i8] c"Array Size must be positive\0A\00", align 1
+
+
+%array_i32 = type {
+     i32  ; length
+    ,[0 x i32]  ; data
+}
+
+define i32 @main() {
+init:
+    %a1 = alloca %array_i32*
+    ;1 start statement : {
+    ;2 start statement : int[] a1
+    ;2 end statement: int[] a1
+    ;3 start statement : a1 = (new int[(- 1)]);
+    %minus_res = sub i32 0, 1
+    %newArray = call %array_i32* @newArray_i32(i32 %minus_res)
+    store %array_i32* %newArray, %array_i32** %a1
+    ;3 end statement: a1 = (new int[(- 1)]);
+    ;4 start statement : return 0;
+    ret i32 0
+    
+
+}
+
+define %array_i32* @newArray_i32(i32 %size) {
+init:
+    %sizeLessThanZero = icmp slt i32 %size, 0
+    br i1 %sizeLessThanZero, label %negativeSize, label %goodSize
+    
+negativeSize:
+    ; ERROR: Array Size must be positive
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([29 x i8], [29 x i8]* @.print_message_1, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+goodSize:
+    %arraySizeInBytes = mul i32 %size, 4
+    %arraySizeWitLen = add i32 %arraySizeInBytes, 4
+    %mallocRes = call i8* @malloc(i32 %arraySizeWitLen)
+    %newArray = bitcast i8* %mallocRes to %array_i32*
+    %sizeAddr = getelementptr %array_i32, %array_i32* %newArray, i32 0, i32 0
+    store i32 %size, i32* %sizeAddr
+    %iVar = alloca i32
+    store i32 0, i32* %iVar
+    br label %loopStart
+    
+loopStart:
+    %i = load i32, i32* %iVar
+    %smallerSize = icmp slt i32 %i, %size
+    br i1 %smallerSize, label %loopBody, label %loopEnd
+    
+loopBody:
+    %iAddr = getelementptr %array_i32, %array_i32* %newArray, i32 0, i32 1, i32 %i
+    store i32 0, i32* %iAddr
+    %nextI = add i32 %i, 1
+    store i32 %nextI, i32* %iVar
+    br label %loopStart
+    
+loopEnd:
+    ret %array_i32* %newArray
+    
+
+}
+
+
+declare noalias i8* @malloc(i32)
+
+declare i32 @printf(i8*, ...)
+
+declare void @exit(i32)
+
+@.printstr = private unnamed_addr constant [4 x i8] c"%d\0A\00", align 1
+define void @print(i32 %i) {
+    %temp = call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([4 x i8], [4 x i8]* @.printstr, i32 0, i32 0), i32 %i)
+    ret void
+}
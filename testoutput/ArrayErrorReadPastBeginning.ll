@@ -0,0 +1,123 @@
+@.print_message_1 = private unnamed_addr constant [33 x i8] c"Nullpointer exception in line 7\0A\00", align 1
+@.print_message_2 = private unnamed_addr constant [37 x i8] c"Index out of bounds error in line 7\0A\00", align 1
+@.print_message_3 = private unnamed_addr constant [29 x i8] c"Array Size must be positive\0A\00", align 1
+
+
+%array_i32 = type {
+     i32  ; length
+    ,[0 x i32]  ; data
+}
+
+define i32 @main() {
+init:
+    %arr = alloca %array_i32*
+    %x = alloca i32
+    ;1 start statement : {
+    ;2 start statement : int[] arr
+    ;2 end statement: int[] arr
+    ;3 start statement : int x
+    ;3 end statement: int x
+    ;4 start statement : arr = (new int[4]);
+    %newArray = call %array_i32* @newArray_i32(i32 4)
+    store %array_i32* %newArray, %array_i32** %arr
+    ;4 end statement: arr = (new int[4]);
+    ;5 start statement : x = (- 1);
+    %minus_res = sub i32 0, 1
+    store i32 %minus_res, i32* %x
+    ;5 end statement: x = (- 1);
+    ;6 start statement : printInt(1);
+    call void @print(i32 1)
+    ;6 end statement: printInt(1);
+    ;7 start statement : x = arr[x];
+    %t = load %array_i32*, %array_i32** %arr
+    %isNull = icmp eq %array_i32* %t, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 7
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_1, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %t1 = load i32, i32* %x
+    %length_addr = getelementptr %array_i32, %array_i32* %t, i32 0, i32 0
+    %len = load i32, i32* %length_addr
+    %smallerZero = icmp slt i32 %t1, 0
+    %lenMinusOne = sub i32 %len, 1
+    %greaterEqualLen = icmp slt i32 %lenMinusOne, %t1
+    %outOfBounds = or i1 %smallerZero, %greaterEqualLen
+    br i1 %outOfBounds, label %outOfBounds1, label %indexInRange
+    
+outOfBounds1:
+    ; ERROR: Index out of bounds error in line 7
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([37 x i8], [37 x i8]* @.print_message_2, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+indexInRange:
+    %indexAddr = getelementptr %array_i32, %array_i32* %t, i32 0, i32 1, i32 %t1
+    %t2 = load i32, i32* %indexAddr
+    store i32 %t2, i32* %x
+    ;7 end statement: x = arr[x];
+    ;8 start statement : return 0;
+    ret i32 0
+    
+
+}
+
+define %array_i32* @newArray_i32(i32 %size) {
+init:
+    %sizeLessThanZero = icmp slt i32 %size, 0
+    br i1 %sizeLessThanZero, label %negativeSize, label %goodSize
+    
+negativeSize:
+    ; ERROR: Array Size must be positive
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([29 x i8], [29 x i8]* @.print_message_3, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+goodSize:
+    %arraySizeInBytes = mul i32 %size, 4
+    %arraySizeWitLen = add i32 %arraySizeInBytes, 4
+    %mallocRes = call i8* @malloc(i32 %arraySizeWitLen)
+    %newArray = bitcast i8* %mallocRes to %array_i32*
+    %sizeAddr = getelementptr %array_i32, %array_i32* %newArray, i32 0, i32 0
+    store i32 %size, i32* %sizeAddr
+    %iVar = alloca i32
+    store i32 0, i32* %iVar
+    br label %loopStart
+    
+loopStart:
+    %i = load i32, i32* %iVar
+    %smallerSize = icmp slt i32 %i, %size
+    br i1 %smallerSize, label %loopBody, label %loopEnd
+    
+loopBody:
+    %iAddr = getelementptr %array_i32, %array_i32* %newArray, i32 0, i32 1, i32 %i
+    store i32 0, i32* %iAddr
+    %nextI = add i32 %i, 1
+    store i32 %nextI, i32* %iVar
+    br label %loopStart
+    
+loopEnd:
+    ret %array_i32* %newArray
+    
+
+}
+
+
+declare noalias i8* @malloc(i32)
+
+declare i32 @printf(i8*, ...)
+
+declare void @exit(i32)
+
+@.printstr = private unnamed_addr constant [4 x i8] c"%d\0A\00", align 1
+define void @print(i32 %i) {
+    %temp = call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([4 x i8], [4 x i8]* @.printstr, i32 0, i32 0), i32 %i)
+    ret void
+}
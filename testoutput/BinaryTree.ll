@@ -0,0 +1,2581 @@
+@.print_message_1 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 16\0A\00", align 1
+@.print_message_2 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 17\0A\00", align 1
+@.print_message_3 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 19\0A\00", align 1
+@.print_message_4 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 20\0A\00", align 1
+@.print_message_5 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 21\0A\00", align 1
+@.print_message_6 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 22\0A\00", align 1
+@.print_message_7 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 23\0A\00", align 1
+@.print_message_8 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 24\0A\00", align 1
+@.print_message_9 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 25\0A\00", align 1
+@.print_message_10 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 26\0A\00", align 1
+@.print_message_11 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 27\0A\00", align 1
+@.print_message_12 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 29\0A\00", align 1
+@.print_message_13 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 30\0A\00", align 1
+@.print_message_14 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 31\0A\00", align 1
+@.print_message_15 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 32\0A\00", align 1
+@.print_message_16 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 33\0A\00", align 1
+@.print_message_17 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 34\0A\00", align 1
+@.print_message_18 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 35\0A\00", align 1
+@.print_message_19 = private unnamed_addr constant [34 x i8] c"Nullpointer exception in line 36\0A\00", align 1
+@.print_message_20 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 133\0A\00", align 1
+@.print_message_21 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 137\0A\00", align 1
+@.print_message_22 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 139\0A\00", align 1
+@.print_message_23 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 140\0A\00", align 1
+@.print_message_24 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 143\0A\00", align 1
+@.print_message_25 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 144\0A\00", align 1
+@.print_message_26 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 147\0A\00", align 1
+@.print_message_27 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 148\0A\00", align 1
+@.print_message_28 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 151\0A\00", align 1
+@.print_message_29 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 152\0A\00", align 1
+@.print_message_30 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 175\0A\00", align 1
+@.print_message_31 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 177\0A\00", align 1
+@.print_message_32 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 179\0A\00", align 1
+@.print_message_33 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 183\0A\00", align 1
+@.print_message_34 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 185\0A\00", align 1
+@.print_message_35 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 190\0A\00", align 1
+@.print_message_36 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 191\0A\00", align 1
+@.print_message_37 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 194\0A\00", align 1
+@.print_message_38 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 196\0A\00", align 1
+@.print_message_39 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 212\0A\00", align 1
+@.print_message_40 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 213\0A\00", align 1
+@.print_message_41 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 214\0A\00", align 1
+@.print_message_42 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 215\0A\00", align 1
+@.print_message_43 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 217\0A\00", align 1
+@.print_message_44 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 220\0A\00", align 1
+@.print_message_45 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 221\0A\00", align 1
+@.print_message_46 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 222\0A\00", align 1
+@.print_message_47 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 223\0A\00", align 1
+@.print_message_48 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 225\0A\00", align 1
+@.print_message_49 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 226\0A\00", align 1
+@.print_message_50 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 238\0A\00", align 1
+@.print_message_51 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 242\0A\00", align 1
+@.print_message_52 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 244\0A\00", align 1
+@.print_message_53 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 246\0A\00", align 1
+@.print_message_54 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 247\0A\00", align 1
+@.print_message_55 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 257\0A\00", align 1
+@.print_message_56 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 261\0A\00", align 1
+@.print_message_57 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 263\0A\00", align 1
+@.print_message_58 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 265\0A\00", align 1
+@.print_message_59 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 266\0A\00", align 1
+@.print_message_60 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 283\0A\00", align 1
+@.print_message_61 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 285\0A\00", align 1
+@.print_message_62 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 287\0A\00", align 1
+@.print_message_63 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 293\0A\00", align 1
+@.print_message_64 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 295\0A\00", align 1
+@.print_message_65 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 318\0A\00", align 1
+@.print_message_66 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 326\0A\00", align 1
+@.print_message_67 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 329\0A\00", align 1
+@.print_message_68 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 332\0A\00", align 1
+@.print_message_69 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 333\0A\00", align 1
+@.print_message_70 = private unnamed_addr constant [35 x i8] c"Nullpointer exception in line 336\0A\00", align 1
+@.print_message_71 = private unnamed_addr constant [33 x i8] c"Nullpointer exception in line 2\0A\00", align 1
+
+
+%BT_vmt = type {
+     i32(%BT*)*  ; BT_Start
+}
+
+%BT = type {
+     %BT_vmt*  ; vmt
+}
+
+%Tree_vmt = type {
+     i1(%Tree*, i32)*  ; Tree_Init
+    ,i1(%Tree*, %Tree*)*  ; Tree_SetRight
+    ,i1(%Tree*, %Tree*)*  ; Tree_SetLeft
+    ,%Tree*(%Tree*)*  ; Tree_GetRight
+    ,%Tree*(%Tree*)*  ; Tree_GetLeft
+    ,i32(%Tree*)*  ; Tree_GetKey
+    ,i1(%Tree*, i32)*  ; Tree_SetKey
+    ,i1(%Tree*)*  ; Tree_GetHas_Right
+    ,i1(%Tree*)*  ; Tree_GetHas_Left
+    ,i1(%Tree*, i1)*  ; Tree_SetHas_Left
+    ,i1(%Tree*, i1)*  ; Tree_SetHas_Right
+    ,i1(%Tree*, i32, i32)*  ; Tree_Compare
+    ,i1(%Tree*, i32)*  ; Tree_Insert
+    ,i1(%Tree*, i32)*  ; Tree_Delete
+    ,i1(%Tree*, %Tree*, %Tree*)*  ; Tree_Remove
+    ,i1(%Tree*, %Tree*, %Tree*)*  ; Tree_RemoveRight
+    ,i1(%Tree*, %Tree*, %Tree*)*  ; Tree_RemoveLeft
+    ,i32(%Tree*, i32)*  ; Tree_Search
+    ,i1(%Tree*)*  ; Tree_Print
+    ,i1(%Tree*, %Tree*)*  ; Tree_RecPrint
+}
+
+%Tree = type {
+     %Tree_vmt*  ; vmt
+    ,%Tree*  ; Tree_left
+    ,%Tree*  ; Tree_right
+    ,i32  ; Tree_key
+    ,i1  ; Tree_has_left
+    ,i1  ; Tree_has_right
+    ,%Tree*  ; Tree_my_null
+}
+
+@BT_vmt1 = constant %BT_vmt  {
+    i32(%BT*)* @BT_Start
+}
+
+
+@Tree_vmt1 = constant %Tree_vmt  {
+    i1(%Tree*, i32)* @Tree_Init,
+    i1(%Tree*, %Tree*)* @Tree_SetRight,
+    i1(%Tree*, %Tree*)* @Tree_SetLeft,
+    %Tree*(%Tree*)* @Tree_GetRight,
+    %Tree*(%Tree*)* @Tree_GetLeft,
+    i32(%Tree*)* @Tree_GetKey,
+    i1(%Tree*, i32)* @Tree_SetKey,
+    i1(%Tree*)* @Tree_GetHas_Right,
+    i1(%Tree*)* @Tree_GetHas_Left,
+    i1(%Tree*, i1)* @Tree_SetHas_Left,
+    i1(%Tree*, i1)* @Tree_SetHas_Right,
+    i1(%Tree*, i32, i32)* @Tree_Compare,
+    i1(%Tree*, i32)* @Tree_Insert,
+    i1(%Tree*, i32)* @Tree_Delete,
+    i1(%Tree*, %Tree*, %Tree*)* @Tree_Remove,
+    i1(%Tree*, %Tree*, %Tree*)* @Tree_RemoveRight,
+    i1(%Tree*, %Tree*, %Tree*)* @Tree_RemoveLeft,
+    i32(%Tree*, i32)* @Tree_Search,
+    i1(%Tree*)* @Tree_Print,
+    i1(%Tree*, %Tree*)* @Tree_RecPrint
+}
+
+
+define i32 @BT_Start(%BT* %this) {
+init:
+    %root = alloca %Tree*
+    %ntb = alloca i1
+    %nti = alloca i32
+    ;10 start statement : {
+    ;11 start statement : Tree root
+    ;11 end statement: Tree root
+    ;12 start statement : boolean ntb
+    ;12 end statement: boolean ntb
+    ;13 start statement : int nti
+    ;13 end statement: int nti
+    ;15 start statement : root = new Tree();
+    %t = call %Tree* @Tree_constructor()
+    store %Tree* %t, %Tree** %root
+    ;15 end statement: root = new Tree();
+    ;16 start statement : ntb = root.Init(16);
+    %t1 = load %Tree*, %Tree** %root
+    %isNull = icmp eq %Tree* %t1, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 16
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_1, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %vmt_ptr = getelementptr %Tree, %Tree* %t1, i32 0, i32 0
+    %vmt = load %Tree_vmt*, %Tree_vmt** %vmt_ptr
+    %func_ptr = getelementptr %Tree_vmt, %Tree_vmt* %vmt, i32 0, i32 0
+    %func = load i1(%Tree*, i32)*, i1(%Tree*, i32)** %func_ptr
+    %Init_result = call i1 %func(%Tree* %t1, i32 16)
+    store i1 %Init_result, i1* %ntb
+    ;16 end statement: ntb = root.Init(16);
+    ;17 start statement : ntb = root.Print();
+    %t2 = load %Tree*, %Tree** %root
+    %isNull1 = icmp eq %Tree* %t2, null
+    br i1 %isNull1, label %whenIsNull1, label %notNull1
+    
+whenIsNull1:
+    ; ERROR: Nullpointer exception in line 17
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_2, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull1:
+    %vmt_ptr1 = getelementptr %Tree, %Tree* %t2, i32 0, i32 0
+    %vmt1 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr1
+    %func_ptr1 = getelementptr %Tree_vmt, %Tree_vmt* %vmt1, i32 0, i32 18
+    %func1 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr1
+    %Print_result = call i1 %func1(%Tree* %t2)
+    store i1 %Print_result, i1* %ntb
+    ;17 end statement: ntb = root.Print();
+    ;18 start statement : printInt(100000000);
+    call void @print(i32 100000000)
+    ;18 end statement: printInt(100000000);
+    ;19 start statement : ntb = root.Insert(8);
+    %t3 = load %Tree*, %Tree** %root
+    %isNull2 = icmp eq %Tree* %t3, null
+    br i1 %isNull2, label %whenIsNull2, label %notNull2
+    
+whenIsNull2:
+    ; ERROR: Nullpointer exception in line 19
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_3, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull2:
+    %vmt_ptr2 = getelementptr %Tree, %Tree* %t3, i32 0, i32 0
+    %vmt2 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr2
+    %func_ptr2 = getelementptr %Tree_vmt, %Tree_vmt* %vmt2, i32 0, i32 12
+    %func2 = load i1(%Tree*, i32)*, i1(%Tree*, i32)** %func_ptr2
+    %Insert_result = call i1 %func2(%Tree* %t3, i32 8)
+    store i1 %Insert_result, i1* %ntb
+    ;19 end statement: ntb = root.Insert(8);
+    ;20 start statement : ntb = root.Print();
+    %t4 = load %Tree*, %Tree** %root
+    %isNull3 = icmp eq %Tree* %t4, null
+    br i1 %isNull3, label %whenIsNull3, label %notNull3
+    
+whenIsNull3:
+    ; ERROR: Nullpointer exception in line 20
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_4, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull3:
+    %vmt_ptr3 = getelementptr %Tree, %Tree* %t4, i32 0, i32 0
+    %vmt3 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr3
+    %func_ptr3 = getelementptr %Tree_vmt, %Tree_vmt* %vmt3, i32 0, i32 18
+    %func3 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr3
+    %Print_result1 = call i1 %func3(%Tree* %t4)
+    store i1 %Print_result1, i1* %ntb
+    ;20 end statement: ntb = root.Print();
+    ;21 start statement : ntb = root.Insert(24);
+    %t5 = load %Tree*, %Tree** %root
+    %isNull4 = icmp eq %Tree* %t5, null
+    br i1 %isNull4, label %whenIsNull4, label %notNull4
+    
+whenIsNull4:
+    ; ERROR: Nullpointer exception in line 21
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_5, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull4:
+    %vmt_ptr4 = getelementptr %Tree, %Tree* %t5, i32 0, i32 0
+    %vmt4 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr4
+    %func_ptr4 = getelementptr %Tree_vmt, %Tree_vmt* %vmt4, i32 0, i32 12
+    %func4 = load i1(%Tree*, i32)*, i1(%Tree*, i32)** %func_ptr4
+    %Insert_result1 = call i1 %func4(%Tree* %t5, i32 24)
+    store i1 %Insert_result1, i1* %ntb
+    ;21 end statement: ntb = root.Insert(24);
+    ;22 start statement : ntb = root.Insert(4);
+    %t6 = load %Tree*, %Tree** %root
+    %isNull5 = icmp eq %Tree* %t6, null
+    br i1 %isNull5, label %whenIsNull5, label %notNull5
+    
+whenIsNull5:
+    ; ERROR: Nullpointer exception in line 22
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_6, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull5:
+    %vmt_ptr5 = getelementptr %Tree, %Tree* %t6, i32 0, i32 0
+    %vmt5 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr5
+    %func_ptr5 = getelementptr %Tree_vmt, %Tree_vmt* %vmt5, i32 0, i32 12
+    %func5 = load i1(%Tree*, i32)*, i1(%Tree*, i32)** %func_ptr5
+    %Insert_result2 = call i1 %func5(%Tree* %t6, i32 4)
+    store i1 %Insert_result2, i1* %ntb
+    ;22 end statement: ntb = root.Insert(4);
+    ;23 start statement : ntb = root.Insert(12);
+    %t7 = load %Tree*, %Tree** %root
+    %isNull6 = icmp eq %Tree* %t7, null
+    br i1 %isNull6, label %whenIsNull6, label %notNull6
+    
+whenIsNull6:
+    ; ERROR: Nullpointer exception in line 23
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_7, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull6:
+    %vmt_ptr6 = getelementptr %Tree, %Tree* %t7, i32 0, i32 0
+    %vmt6 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr6
+    %func_ptr6 = getelementptr %Tree_vmt, %Tree_vmt* %vmt6, i32 0, i32 12
+    %func6 = load i1(%Tree*, i32)*, i1(%Tree*, i32)** %func_ptr6
+    %Insert_result3 = call i1 %func6(%Tree* %t7, i32 12)
+    store i1 %Insert_result3, i1* %ntb
+    ;23 end statement: ntb = root.Insert(12);
+    ;24 start statement : ntb = root.Insert(20);
+    %t8 = load %Tree*, %Tree** %root
+    %isNull7 = icmp eq %Tree* %t8, null
+    br i1 %isNull7, label %whenIsNull7, label %notNull7
+    
+whenIsNull7:
+    ; ERROR: Nullpointer exception in line 24
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_8, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull7:
+    %vmt_ptr7 = getelementptr %Tree, %Tree* %t8, i32 0, i32 0
+    %vmt7 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr7
+    %func_ptr7 = getelementptr %Tree_vmt, %Tree_vmt* %vmt7, i32 0, i32 12
+    %func7 = load i1(%Tree*, i32)*, i1(%Tree*, i32)** %func_ptr7
+    %Insert_result4 = call i1 %func7(%Tree* %t8, i32 20)
+    store i1 %Insert_result4, i1* %ntb
+    ;24 end statement: ntb = root.Insert(20);
+    ;25 start statement : ntb = root.Insert(28);
+    %t9 = load %Tree*, %Tree** %root
+    %isNull8 = icmp eq %Tree* %t9, null
+    br i1 %isNull8, label %whenIsNull8, label %notNull8
+    
+whenIsNull8:
+    ; ERROR: Nullpointer exception in line 25
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_9, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull8:
+    %vmt_ptr8 = getelementptr %Tree, %Tree* %t9, i32 0, i32 0
+    %vmt8 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr8
+    %func_ptr8 = getelementptr %Tree_vmt, %Tree_vmt* %vmt8, i32 0, i32 12
+    %func8 = load i1(%Tree*, i32)*, i1(%Tree*, i32)** %func_ptr8
+    %Insert_result5 = call i1 %func8(%Tree* %t9, i32 28)
+    store i1 %Insert_result5, i1* %ntb
+    ;25 end statement: ntb = root.Insert(28);
+    ;26 start statement : ntb = root.Insert(14);
+    %t10 = load %Tree*, %Tree** %root
+    %isNull9 = icmp eq %Tree* %t10, null
+    br i1 %isNull9, label %whenIsNull9, label %notNull9
+    
+whenIsNull9:
+    ; ERROR: Nullpointer exception in line 26
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_10, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull9:
+    %vmt_ptr9 = getelementptr %Tree, %Tree* %t10, i32 0, i32 0
+    %vmt9 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr9
+    %func_ptr9 = getelementptr %Tree_vmt, %Tree_vmt* %vmt9, i32 0, i32 12
+    %func9 = load i1(%Tree*, i32)*, i1(%Tree*, i32)** %func_ptr9
+    %Insert_result6 = call i1 %func9(%Tree* %t10, i32 14)
+    store i1 %Insert_result6, i1* %ntb
+    ;26 end statement: ntb = root.Insert(14);
+    ;27 start statement : ntb = root.Print();
+    %t11 = load %Tree*, %Tree** %root
+    %isNull10 = icmp eq %Tree* %t11, null
+    br i1 %isNull10, label %whenIsNull10, label %notNull10
+    
+whenIsNull10:
+    ; ERROR: Nullpointer exception in line 27
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_11, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull10:
+    %vmt_ptr10 = getelementptr %Tree, %Tree* %t11, i32 0, i32 0
+    %vmt10 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr10
+    %func_ptr10 = getelementptr %Tree_vmt, %Tree_vmt* %vmt10, i32 0, i32 18
+    %func10 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr10
+    %Print_result2 = call i1 %func10(%Tree* %t11)
+    store i1 %Print_result2, i1* %ntb
+    ;27 end statement: ntb = root.Print();
+    ;28 start statement : printInt(888888888);
+    call void @print(i32 888888888)
+    ;28 end statement: printInt(888888888);
+    ;29 start statement : printInt(root.Search(24));
+    %t12 = load %Tree*, %Tree** %root
+    %isNull11 = icmp eq %Tree* %t12, null
+    br i1 %isNull11, label %whenIsNull11, label %notNull11
+    
+whenIsNull11:
+    ; ERROR: Nullpointer exception in line 29
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_12, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull11:
+    %vmt_ptr11 = getelementptr %Tree, %Tree* %t12, i32 0, i32 0
+    %vmt11 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr11
+    %func_ptr11 = getelementptr %Tree_vmt, %Tree_vmt* %vmt11, i32 0, i32 17
+    %func11 = load i32(%Tree*, i32)*, i32(%Tree*, i32)** %func_ptr11
+    %Search_result = call i32 %func11(%Tree* %t12, i32 24)
+    call void @print(i32 %Search_result)
+    ;29 end statement: printInt(root.Search(24));
+    ;30 start statement : printInt(root.Search(12));
+    %t13 = load %Tree*, %Tree** %root
+    %isNull12 = icmp eq %Tree* %t13, null
+    br i1 %isNull12, label %whenIsNull12, label %notNull12
+    
+whenIsNull12:
+    ; ERROR: Nullpointer exception in line 30
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_13, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull12:
+    %vmt_ptr12 = getelementptr %Tree, %Tree* %t13, i32 0, i32 0
+    %vmt12 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr12
+    %func_ptr12 = getelementptr %Tree_vmt, %Tree_vmt* %vmt12, i32 0, i32 17
+    %func12 = load i32(%Tree*, i32)*, i32(%Tree*, i32)** %func_ptr12
+    %Search_result1 = call i32 %func12(%Tree* %t13, i32 12)
+    call void @print(i32 %Search_result1)
+    ;30 end statement: printInt(root.Search(12));
+    ;31 start statement : printInt(root.Search(16));
+    %t14 = load %Tree*, %Tree** %root
+    %isNull13 = icmp eq %Tree* %t14, null
+    br i1 %isNull13, label %whenIsNull13, label %notNull13
+    
+whenIsNull13:
+    ; ERROR: Nullpointer exception in line 31
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_14, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull13:
+    %vmt_ptr13 = getelementptr %Tree, %Tree* %t14, i32 0, i32 0
+    %vmt13 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr13
+    %func_ptr13 = getelementptr %Tree_vmt, %Tree_vmt* %vmt13, i32 0, i32 17
+    %func13 = load i32(%Tree*, i32)*, i32(%Tree*, i32)** %func_ptr13
+    %Search_result2 = call i32 %func13(%Tree* %t14, i32 16)
+    call void @print(i32 %Search_result2)
+    ;31 end statement: printInt(root.Search(16));
+    ;32 start statement : printInt(root.Search(50));
+    %t15 = load %Tree*, %Tree** %root
+    %isNull14 = icmp eq %Tree* %t15, null
+    br i1 %isNull14, label %whenIsNull14, label %notNull14
+    
+whenIsNull14:
+    ; ERROR: Nullpointer exception in line 32
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_15, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull14:
+    %vmt_ptr14 = getelementptr %Tree, %Tree* %t15, i32 0, i32 0
+    %vmt14 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr14
+    %func_ptr14 = getelementptr %Tree_vmt, %Tree_vmt* %vmt14, i32 0, i32 17
+    %func14 = load i32(%Tree*, i32)*, i32(%Tree*, i32)** %func_ptr14
+    %Search_result3 = call i32 %func14(%Tree* %t15, i32 50)
+    call void @print(i32 %Search_result3)
+    ;32 end statement: printInt(root.Search(50));
+    ;33 start statement : printInt(root.Search(12));
+    %t16 = load %Tree*, %Tree** %root
+    %isNull15 = icmp eq %Tree* %t16, null
+    br i1 %isNull15, label %whenIsNull15, label %notNull15
+    
+whenIsNull15:
+    ; ERROR: Nullpointer exception in line 33
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_16, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull15:
+    %vmt_ptr15 = getelementptr %Tree, %Tree* %t16, i32 0, i32 0
+    %vmt15 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr15
+    %func_ptr15 = getelementptr %Tree_vmt, %Tree_vmt* %vmt15, i32 0, i32 17
+    %func15 = load i32(%Tree*, i32)*, i32(%Tree*, i32)** %func_ptr15
+    %Search_result4 = call i32 %func15(%Tree* %t16, i32 12)
+    call void @print(i32 %Search_result4)
+    ;33 end statement: printInt(root.Search(12));
+    ;34 start statement : ntb = root.Delete(12);
+    %t17 = load %Tree*, %Tree** %root
+    %isNull16 = icmp eq %Tree* %t17, null
+    br i1 %isNull16, label %whenIsNull16, label %notNull16
+    
+whenIsNull16:
+    ; ERROR: Nullpointer exception in line 34
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_17, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull16:
+    %vmt_ptr16 = getelementptr %Tree, %Tree* %t17, i32 0, i32 0
+    %vmt16 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr16
+    %func_ptr16 = getelementptr %Tree_vmt, %Tree_vmt* %vmt16, i32 0, i32 13
+    %func16 = load i1(%Tree*, i32)*, i1(%Tree*, i32)** %func_ptr16
+    %Delete_result = call i1 %func16(%Tree* %t17, i32 12)
+    store i1 %Delete_result, i1* %ntb
+    ;34 end statement: ntb = root.Delete(12);
+    ;35 start statement : ntb = root.Print();
+    %t18 = load %Tree*, %Tree** %root
+    %isNull17 = icmp eq %Tree* %t18, null
+    br i1 %isNull17, label %whenIsNull17, label %notNull17
+    
+whenIsNull17:
+    ; ERROR: Nullpointer exception in line 35
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_18, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull17:
+    %vmt_ptr17 = getelementptr %Tree, %Tree* %t18, i32 0, i32 0
+    %vmt17 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr17
+    %func_ptr17 = getelementptr %Tree_vmt, %Tree_vmt* %vmt17, i32 0, i32 18
+    %func17 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr17
+    %Print_result3 = call i1 %func17(%Tree* %t18)
+    store i1 %Print_result3, i1* %ntb
+    ;35 end statement: ntb = root.Print();
+    ;36 start statement : printInt(root.Search(12));
+    %t19 = load %Tree*, %Tree** %root
+    %isNull18 = icmp eq %Tree* %t19, null
+    br i1 %isNull18, label %whenIsNull18, label %notNull18
+    
+whenIsNull18:
+    ; ERROR: Nullpointer exception in line 36
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([34 x i8], [34 x i8]* @.print_message_19, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull18:
+    %vmt_ptr18 = getelementptr %Tree, %Tree* %t19, i32 0, i32 0
+    %vmt18 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr18
+    %func_ptr18 = getelementptr %Tree_vmt, %Tree_vmt* %vmt18, i32 0, i32 17
+    %func18 = load i32(%Tree*, i32)*, i32(%Tree*, i32)** %func_ptr18
+    %Search_result5 = call i32 %func18(%Tree* %t19, i32 12)
+    call void @print(i32 %Search_result5)
+    ;36 end statement: printInt(root.Search(12));
+    ;38 start statement : return 0;
+    ret i32 0
+    
+
+}
+
+define %BT* @BT_constructor() {
+init:
+    %address_this = call i8* @malloc(i32 ptrtoint (%BT* getelementptr (%BT, %BT* null, i32 1) to i32))
+    %this = bitcast i8* %address_this to %BT*
+    %ptr = getelementptr %BT, %BT* %this, i32 0, i32 0
+    store %BT_vmt* @BT_vmt1, %BT_vmt** %ptr
+    ret %BT* %this
+    
+
+}
+
+define i1 @Tree_Init(%Tree* %this, i32 %v_key) {
+init:
+    %v_key1 = alloca i32
+    store i32 %v_key, i32* %v_key1
+    ;52 start statement : {
+    ;53 start statement : key = v_key;
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 3
+    %t = load i32, i32* %v_key1
+    store i32 %t, i32* %ptr
+    ;53 end statement: key = v_key;
+    ;54 start statement : has_left = false;
+    %ptr1 = getelementptr %Tree, %Tree* %this, i32 0, i32 4
+    store i1 0, i1* %ptr1
+    ;54 end statement: has_left = false;
+    ;55 start statement : has_right = false;
+    %ptr2 = getelementptr %Tree, %Tree* %this, i32 0, i32 5
+    store i1 0, i1* %ptr2
+    ;55 end statement: has_right = false;
+    ;56 start statement : return true;
+    ret i1 1
+    
+
+}
+
+define i1 @Tree_SetRight(%Tree* %this, %Tree* %rn) {
+init:
+    %rn1 = alloca %Tree*
+    store %Tree* %rn, %Tree** %rn1
+    ;60 start statement : {
+    ;61 start statement : right = rn;
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 2
+    %t = load %Tree*, %Tree** %rn1
+    store %Tree* %t, %Tree** %ptr
+    ;61 end statement: right = rn;
+    ;62 start statement : return true;
+    ret i1 1
+    
+
+}
+
+define i1 @Tree_SetLeft(%Tree* %this, %Tree* %ln) {
+init:
+    %ln1 = alloca %Tree*
+    store %Tree* %ln, %Tree** %ln1
+    ;66 start statement : {
+    ;67 start statement : left = ln;
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 1
+    %t = load %Tree*, %Tree** %ln1
+    store %Tree* %t, %Tree** %ptr
+    ;67 end statement: left = ln;
+    ;68 start statement : return true;
+    ret i1 1
+    
+
+}
+
+define %Tree* @Tree_GetRight(%Tree* %this) {
+init:
+    ;71 start statement : {
+    ;72 start statement : return right;
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 2
+    %t = load %Tree*, %Tree** %ptr
+    ret %Tree* %t
+    
+
+}
+
+define %Tree* @Tree_GetLeft(%Tree* %this) {
+init:
+    ;75 start statement : {
+    ;76 start statement : return left;
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 1
+    %t = load %Tree*, %Tree** %ptr
+    ret %Tree* %t
+    
+
+}
+
+define i32 @Tree_GetKey(%Tree* %this) {
+init:
+    ;79 start statement : {
+    ;80 start statement : return key;
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 3
+    %t = load i32, i32* %ptr
+    ret i32 %t
+    
+
+}
+
+define i1 @Tree_SetKey(%Tree* %this, i32 %v_key) {
+init:
+    %v_key1 = alloca i32
+    store i32 %v_key, i32* %v_key1
+    ;83 start statement : {
+    ;84 start statement : key = v_key;
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 3
+    %t = load i32, i32* %v_key1
+    store i32 %t, i32* %ptr
+    ;84 end statement: key = v_key;
+    ;85 start statement : return true;
+    ret i1 1
+    
+
+}
+
+define i1 @Tree_GetHas_Right(%Tree* %this) {
+init:
+    ;88 start statement : {
+    ;89 start statement : return has_right;
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 5
+    %t = load i1, i1* %ptr
+    ret i1 %t
+    
+
+}
+
+define i1 @Tree_GetHas_Left(%Tree* %this) {
+init:
+    ;92 start statement : {
+    ;93 start statement : return has_left;
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 4
+    %t = load i1, i1* %ptr
+    ret i1 %t
+    
+
+}
+
+define i1 @Tree_SetHas_Left(%Tree* %this, i1 %val) {
+init:
+    %val1 = alloca i1
+    store i1 %val, i1* %val1
+    ;96 start statement : {
+    ;97 start statement : has_left = val;
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 4
+    %t = load i1, i1* %val1
+    store i1 %t, i1* %ptr
+    ;97 end statement: has_left = val;
+    ;98 start statement : return true;
+    ret i1 1
+    
+
+}
+
+define i1 @Tree_SetHas_Right(%Tree* %this, i1 %val) {
+init:
+    %val1 = alloca i1
+    store i1 %val, i1* %val1
+    ;101 start statement : {
+    ;102 start statement : has_right = val;
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 5
+    %t = load i1, i1* %val1
+    store i1 %t, i1* %ptr
+    ;102 end statement: has_right = val;
+    ;103 start statement : return true;
+    ret i1 1
+    
+
+}
+
+define i1 @Tree_Compare(%Tree* %this, i32 %num1, i32 %num2) {
+init:
+    %num11 = alloca i32
+    store i32 %num1, i32* %num11
+    %num21 = alloca i32
+    store i32 %num2, i32* %num21
+    %ntb = alloca i1
+    %nti = alloca i32
+    ;109 start statement : {
+    ;110 start statement : boolean ntb
+    ;110 end statement: boolean ntb
+    ;111 start statement : int nti
+    ;111 end statement: int nti
+    ;113 start statement : ntb = false;
+    store i1 0, i1* %ntb
+    ;113 end statement: ntb = false;
+    ;114 start statement : nti = (num2 + 1);
+    %t = load i32, i32* %num21
+    %resAddImpl = add i32 %t, 1
+    store i32 %resAddImpl, i32* %nti
+    ;114 end statement: nti = (num2 + 1);
+    ;115 start statement : if ((num1 < num2)) ntb = false;
+    %t1 = load i32, i32* %num11
+    %t2 = load i32, i32* %num21
+    %resSltImpl = icmp slt i32 %t1, %t2
+    br i1 %resSltImpl, label %ifTrue, label %ifFalse
+    
+ifTrue:
+    ;116 start statement : ntb = false;
+    store i1 0, i1* %ntb
+    ;116 end statement: ntb = false;
+    br label %endif1
+    
+ifFalse:
+    ;117 start statement : if ((! (num1 < nti))) ntb = false;
+    %t3 = load i32, i32* %num11
+    %t4 = load i32, i32* %nti
+    %resSltImpl1 = icmp slt i32 %t3, %t4
+    %neg_res = icmp eq i1 0, %resSltImpl1
+    br i1 %neg_res, label %ifTrue1, label %ifFalse1
+    
+ifTrue1:
+    ;118 start statement : ntb = false;
+    store i1 0, i1* %ntb
+    ;118 end statement: ntb = false;
+    br label %endif
+    
+ifFalse1:
+    ;120 start statement : ntb = true;
+    store i1 1, i1* %ntb
+    ;120 end statement: ntb = true;
+    br label %endif
+    
+endif:
+    ;117 end statement: if ((! (num1 < nti))) ntb = false;
+    br label %endif1
+    
+endif1:
+    ;115 end statement: if ((num1 < num2)) ntb = false;
+    ;121 start statement : return ntb;
+    %t5 = load i1, i1* %ntb
+    ret i1 %t5
+    
+
+}
+
+define i1 @Tree_Insert(%Tree* %this, i32 %v_key) {
+init:
+    %v_key1 = alloca i32
+    store i32 %v_key, i32* %v_key1
+    %new_node = alloca %Tree*
+    %ntb = alloca i1
+    %cont = alloca i1
+    %key_aux = alloca i32
+    %current_node = alloca %Tree*
+    ;125 start statement : {
+    ;126 start statement : Tree new_node
+    ;126 end statement: Tree new_node
+    ;127 start statement : boolean ntb
+    ;127 end statement: boolean ntb
+    ;128 start statement : boolean cont
+    ;128 end statement: boolean cont
+    ;129 start statement : int key_aux
+    ;129 end statement: int key_aux
+    ;130 start statement : Tree current_node
+    ;130 end statement: Tree current_node
+    ;132 start statement : new_node = new Tree();
+    %t = call %Tree* @Tree_constructor()
+    store %Tree* %t, %Tree** %new_node
+    ;132 end statement: new_node = new Tree();
+    ;133 start statement : ntb = new_node.Init(v_key);
+    %t1 = load %Tree*, %Tree** %new_node
+    %isNull = icmp eq %Tree* %t1, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 133
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_20, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %t2 = load i32, i32* %v_key1
+    %vmt_ptr = getelementptr %Tree, %Tree* %t1, i32 0, i32 0
+    %vmt = load %Tree_vmt*, %Tree_vmt** %vmt_ptr
+    %func_ptr = getelementptr %Tree_vmt, %Tree_vmt* %vmt, i32 0, i32 0
+    %func = load i1(%Tree*, i32)*, i1(%Tree*, i32)** %func_ptr
+    %Init_result = call i1 %func(%Tree* %t1, i32 %t2)
+    store i1 %Init_result, i1* %ntb
+    ;133 end statement: ntb = new_node.Init(v_key);
+    ;134 start statement : current_node = this;
+    store %Tree* %this, %Tree** %current_node
+    ;134 end statement: current_node = this;
+    ;135 start statement : cont = true;
+    store i1 1, i1* %cont
+    ;135 end statement: cont = true;
+    ;136 start statement : while (cont) {
+    br label %whileStart
+    
+whileStart:
+    %t3 = load i1, i1* %cont
+    br i1 %t3, label %loopBodyStart, label %endloop
+    
+loopBodyStart:
+    ;136 start statement : {
+    ;137 start statement : key_aux = current_node.GetKey();
+    %t4 = load %Tree*, %Tree** %current_node
+    %isNull1 = icmp eq %Tree* %t4, null
+    br i1 %isNull1, label %whenIsNull1, label %notNull1
+    
+whenIsNull1:
+    ; ERROR: Nullpointer exception in line 137
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_21, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull1:
+    %vmt_ptr1 = getelementptr %Tree, %Tree* %t4, i32 0, i32 0
+    %vmt1 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr1
+    %func_ptr1 = getelementptr %Tree_vmt, %Tree_vmt* %vmt1, i32 0, i32 5
+    %func1 = load i32(%Tree*)*, i32(%Tree*)** %func_ptr1
+    %GetKey_result = call i32 %func1(%Tree* %t4)
+    store i32 %GetKey_result, i32* %key_aux
+    ;137 end statement: key_aux = current_node.GetKey();
+    ;138 start statement : if ((v_key < key_aux)) {
+    %t5 = load i32, i32* %v_key1
+    %t6 = load i32, i32* %key_aux
+    %resSltImpl = icmp slt i32 %t5, %t6
+    br i1 %resSltImpl, label %ifTrue, label %ifFalse1
+    
+ifTrue:
+    ;138 start statement : {
+    ;139 start statement : if (current_node.GetHas_Left()) current_node = current_node.GetLeft();
+    %t7 = load %Tree*, %Tree** %current_node
+    %isNull2 = icmp eq %Tree* %t7, null
+    br i1 %isNull2, label %whenIsNull2, label %notNull2
+    
+whenIsNull2:
+    ; ERROR: Nullpointer exception in line 139
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_22, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull2:
+    %vmt_ptr2 = getelementptr %Tree, %Tree* %t7, i32 0, i32 0
+    %vmt2 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr2
+    %func_ptr2 = getelementptr %Tree_vmt, %Tree_vmt* %vmt2, i32 0, i32 8
+    %func2 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr2
+    %GetHas_Left_result = call i1 %func2(%Tree* %t7)
+    br i1 %GetHas_Left_result, label %ifTrue1, label %ifFalse
+    
+ifTrue1:
+    ;140 start statement : current_node = current_node.GetLeft();
+    %t8 = load %Tree*, %Tree** %current_node
+    %isNull3 = icmp eq %Tree* %t8, null
+    br i1 %isNull3, label %whenIsNull3, label %notNull3
+    
+whenIsNull3:
+    ; ERROR: Nullpointer exception in line 140
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_23, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull3:
+    %vmt_ptr3 = getelementptr %Tree, %Tree* %t8, i32 0, i32 0
+    %vmt3 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr3
+    %func_ptr3 = getelementptr %Tree_vmt, %Tree_vmt* %vmt3, i32 0, i32 4
+    %func3 = load %Tree*(%Tree*)*, %Tree*(%Tree*)** %func_ptr3
+    %GetLeft_result = call %Tree* %func3(%Tree* %t8)
+    store %Tree* %GetLeft_result, %Tree** %current_node
+    ;140 end statement: current_node = current_node.GetLeft();
+    br label %endif
+    
+ifFalse:
+    ;141 start statement : {
+    ;142 start statement : cont = false;
+    store i1 0, i1* %cont
+    ;142 end statement: cont = false;
+    ;143 start statement : ntb = current_node.SetHas_Left(true);
+    %t9 = load %Tree*, %Tree** %current_node
+    %isNull4 = icmp eq %Tree* %t9, null
+    br i1 %isNull4, label %whenIsNull4, label %notNull4
+    
+whenIsNull4:
+    ; ERROR: Nullpointer exception in line 143
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_24, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull4:
+    %vmt_ptr4 = getelementptr %Tree, %Tree* %t9, i32 0, i32 0
+    %vmt4 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr4
+    %func_ptr4 = getelementptr %Tree_vmt, %Tree_vmt* %vmt4, i32 0, i32 9
+    %func4 = load i1(%Tree*, i1)*, i1(%Tree*, i1)** %func_ptr4
+    %SetHas_Left_result = call i1 %func4(%Tree* %t9, i1 1)
+    store i1 %SetHas_Left_result, i1* %ntb
+    ;143 end statement: ntb = current_node.SetHas_Left(true);
+    ;144 start statement : ntb = current_node.SetLeft(new_node);
+    %t10 = load %Tree*, %Tree** %current_node
+    %isNull5 = icmp eq %Tree* %t10, null
+    br i1 %isNull5, label %whenIsNull5, label %notNull5
+    
+whenIsNull5:
+    ; ERROR: Nullpointer exception in line 144
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_25, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull5:
+    %t11 = load %Tree*, %Tree** %new_node
+    %vmt_ptr5 = getelementptr %Tree, %Tree* %t10, i32 0, i32 0
+    %vmt5 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr5
+    %func_ptr5 = getelementptr %Tree_vmt, %Tree_vmt* %vmt5, i32 0, i32 2
+    %func5 = load i1(%Tree*, %Tree*)*, i1(%Tree*, %Tree*)** %func_ptr5
+    %SetLeft_result = call i1 %func5(%Tree* %t10, %Tree* %t11)
+    store i1 %SetLeft_result, i1* %ntb
+    ;144 end statement: ntb = current_node.SetLeft(new_node);
+    ;141 end statement: {
+    br label %endif
+    
+endif:
+    ;139 end statement: if (current_node.GetHas_Left()) current_node = current_node.GetLeft();
+    ;138 end statement: {
+    br label %endif2
+    
+ifFalse1:
+    ;146 start statement : {
+    ;147 start statement : if (current_node.GetHas_Right()) current_node = current_node.GetRight();
+    %t12 = load %Tree*, %Tree** %current_node
+    %isNull6 = icmp eq %Tree* %t12, null
+    br i1 %isNull6, label %whenIsNull6, label %notNull6
+    
+whenIsNull6:
+    ; ERROR: Nullpointer exception in line 147
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_26, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull6:
+    %vmt_ptr6 = getelementptr %Tree, %Tree* %t12, i32 0, i32 0
+    %vmt6 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr6
+    %func_ptr6 = getelementptr %Tree_vmt, %Tree_vmt* %vmt6, i32 0, i32 7
+    %func6 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr6
+    %GetHas_Right_result = call i1 %func6(%Tree* %t12)
+    br i1 %GetHas_Right_result, label %ifTrue2, label %ifFalse2
+    
+ifTrue2:
+    ;148 start statement : current_node = current_node.GetRight();
+    %t13 = load %Tree*, %Tree** %current_node
+    %isNull7 = icmp eq %Tree* %t13, null
+    br i1 %isNull7, label %whenIsNull7, label %notNull7
+    
+whenIsNull7:
+    ; ERROR: Nullpointer exception in line 148
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_27, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull7:
+    %vmt_ptr7 = getelementptr %Tree, %Tree* %t13, i32 0, i32 0
+    %vmt7 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr7
+    %func_ptr7 = getelementptr %Tree_vmt, %Tree_vmt* %vmt7, i32 0, i32 3
+    %func7 = load %Tree*(%Tree*)*, %Tree*(%Tree*)** %func_ptr7
+    %GetRight_result = call %Tree* %func7(%Tree* %t13)
+    store %Tree* %GetRight_result, %Tree** %current_node
+    ;148 end statement: current_node = current_node.GetRight();
+    br label %endif1
+    
+ifFalse2:
+    ;149 start statement : {
+    ;150 start statement : cont = false;
+    store i1 0, i1* %cont
+    ;150 end statement: cont = false;
+    ;151 start statement : ntb = current_node.SetHas_Right(true);
+    %t14 = load %Tree*, %Tree** %current_node
+    %isNull8 = icmp eq %Tree* %t14, null
+    br i1 %isNull8, label %whenIsNull8, label %notNull8
+    
+whenIsNull8:
+    ; ERROR: Nullpointer exception in line 151
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_28, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull8:
+    %vmt_ptr8 = getelementptr %Tree, %Tree* %t14, i32 0, i32 0
+    %vmt8 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr8
+    %func_ptr8 = getelementptr %Tree_vmt, %Tree_vmt* %vmt8, i32 0, i32 10
+    %func8 = load i1(%Tree*, i1)*, i1(%Tree*, i1)** %func_ptr8
+    %SetHas_Right_result = call i1 %func8(%Tree* %t14, i1 1)
+    store i1 %SetHas_Right_result, i1* %ntb
+    ;151 end statement: ntb = current_node.SetHas_Right(true);
+    ;152 start statement : ntb = current_node.SetRight(new_node);
+    %t15 = load %Tree*, %Tree** %current_node
+    %isNull9 = icmp eq %Tree* %t15, null
+    br i1 %isNull9, label %whenIsNull9, label %notNull9
+    
+whenIsNull9:
+    ; ERROR: Nullpointer exception in line 152
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_29, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull9:
+    %t16 = load %Tree*, %Tree** %new_node
+    %vmt_ptr9 = getelementptr %Tree, %Tree* %t15, i32 0, i32 0
+    %vmt9 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr9
+    %func_ptr9 = getelementptr %Tree_vmt, %Tree_vmt* %vmt9, i32 0, i32 1
+    %func9 = load i1(%Tree*, %Tree*)*, i1(%Tree*, %Tree*)** %func_ptr9
+    %SetRight_result = call i1 %func9(%Tree* %t15, %Tree* %t16)
+    store i1 %SetRight_result, i1* %ntb
+    ;152 end statement: ntb = current_node.SetRight(new_node);
+    ;149 end statement: {
+    br label %endif1
+    
+endif1:
+    ;147 end statement: if (current_node.GetHas_Right()) current_node = current_node.GetRight();
+    ;146 end statement: {
+    br label %endif2
+    
+endif2:
+    ;138 end statement: if ((v_key < key_aux)) {
+    ;136 end statement: {
+    br label %whileStart
+    
+endloop:
+    ;136 end statement: while (cont) {
+    ;156 start statement : return true;
+    ret i1 1
+    
+
+}
+
+define i1 @Tree_Delete(%Tree* %this, i32 %v_key) {
+init:
+    %v_key1 = alloca i32
+    store i32 %v_key, i32* %v_key1
+    %current_node = alloca %Tree*
+    %parent_node = alloca %Tree*
+    %cont = alloca i1
+    %found = alloca i1
+    %is_root = alloca i1
+    %key_aux = alloca i32
+    %ntb = alloca i1
+    ;160 start statement : {
+    ;161 start statement : Tree current_node
+    ;161 end statement: Tree current_node
+    ;162 start statement : Tree parent_node
+    ;162 end statement: Tree parent_node
+    ;163 start statement : boolean cont
+    ;163 end statement: boolean cont
+    ;164 start statement : boolean found
+    ;164 end statement: boolean found
+    ;165 start statement : boolean is_root
+    ;165 end statement: boolean is_root
+    ;166 start statement : int key_aux
+    ;166 end statement: int key_aux
+    ;167 start statement : boolean ntb
+    ;167 end statement: boolean ntb
+    ;169 start statement : current_node = this;
+    store %Tree* %this, %Tree** %current_node
+    ;169 end statement: current_node = this;
+    ;170 start statement : parent_node = this;
+    store %Tree* %this, %Tree** %parent_node
+    ;170 end statement: parent_node = this;
+    ;171 start statement : cont = true;
+    store i1 1, i1* %cont
+    ;171 end statement: cont = true;
+    ;172 start statement : found = false;
+    store i1 0, i1* %found
+    ;172 end statement: found = false;
+    ;173 start statement : is_root = true;
+    store i1 1, i1* %is_root
+    ;173 end statement: is_root = true;
+    ;174 start statement : while (cont) {
+    br label %whileStart
+    
+whileStart:
+    %t = load i1, i1* %cont
+    br i1 %t, label %loopBodyStart, label %endloop
+    
+loopBodyStart:
+    ;174 start statement : {
+    ;175 start statement : key_aux = current_node.GetKey();
+    %t1 = load %Tree*, %Tree** %current_node
+    %isNull = icmp eq %Tree* %t1, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 175
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_30, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %vmt_ptr = getelementptr %Tree, %Tree* %t1, i32 0, i32 0
+    %vmt = load %Tree_vmt*, %Tree_vmt** %vmt_ptr
+    %func_ptr = getelementptr %Tree_vmt, %Tree_vmt* %vmt, i32 0, i32 5
+    %func = load i32(%Tree*)*, i32(%Tree*)** %func_ptr
+    %GetKey_result = call i32 %func(%Tree* %t1)
+    store i32 %GetKey_result, i32* %key_aux
+    ;175 end statement: key_aux = current_node.GetKey();
+    ;176 start statement : if ((v_key < key_aux)) if (current_node.GetHas_Left()) {
+    %t2 = load i32, i32* %v_key1
+    %t3 = load i32, i32* %key_aux
+    %resSltImpl = icmp slt i32 %t2, %t3
+    br i1 %resSltImpl, label %ifTrue, label %ifFalse1
+    
+ifTrue:
+    ;177 start statement : if (current_node.GetHas_Left()) {
+    %t4 = load %Tree*, %Tree** %current_node
+    %isNull1 = icmp eq %Tree* %t4, null
+    br i1 %isNull1, label %whenIsNull1, label %notNull1
+    
+whenIsNull1:
+    ; ERROR: Nullpointer exception in line 177
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_31, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull1:
+    %vmt_ptr1 = getelementptr %Tree, %Tree* %t4, i32 0, i32 0
+    %vmt1 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr1
+    %func_ptr1 = getelementptr %Tree_vmt, %Tree_vmt* %vmt1, i32 0, i32 8
+    %func1 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr1
+    %GetHas_Left_result = call i1 %func1(%Tree* %t4)
+    br i1 %GetHas_Left_result, label %ifTrue1, label %ifFalse
+    
+ifTrue1:
+    ;177 start statement : {
+    ;178 start statement : parent_node = current_node;
+    %t5 = load %Tree*, %Tree** %current_node
+    store %Tree* %t5, %Tree** %parent_node
+    ;178 end statement: parent_node = current_node;
+    ;179 start statement : current_node = current_node.GetLeft();
+    %t6 = load %Tree*, %Tree** %current_node
+    %isNull2 = icmp eq %Tree* %t6, null
+    br i1 %isNull2, label %whenIsNull2, label %notNull2
+    
+whenIsNull2:
+    ; ERROR: Nullpointer exception in line 179
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_32, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull2:
+    %vmt_ptr2 = getelementptr %Tree, %Tree* %t6, i32 0, i32 0
+    %vmt2 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr2
+    %func_ptr2 = getelementptr %Tree_vmt, %Tree_vmt* %vmt2, i32 0, i32 4
+    %func2 = load %Tree*(%Tree*)*, %Tree*(%Tree*)** %func_ptr2
+    %GetLeft_result = call %Tree* %func2(%Tree* %t6)
+    store %Tree* %GetLeft_result, %Tree** %current_node
+    ;179 end statement: current_node = current_node.GetLeft();
+    ;177 end statement: {
+    br label %endif
+    
+ifFalse:
+    ;181 start statement : cont = false;
+    store i1 0, i1* %cont
+    ;181 end statement: cont = false;
+    br label %endif
+    
+endif:
+    ;177 end statement: if (current_node.GetHas_Left()) {
+    br label %endif5
+    
+ifFalse1:
+    ;182 start statement : if ((key_aux < v_key)) if (current_node.GetHas_Right()) {
+    %t7 = load i32, i32* %key_aux
+    %t8 = load i32, i32* %v_key1
+    %resSltImpl1 = icmp slt i32 %t7, %t8
+    br i1 %resSltImpl1, label %ifTrue2, label %ifFalse3
+    
+ifTrue2:
+    ;183 start statement : if (current_node.GetHas_Right()) {
+    %t9 = load %Tree*, %Tree** %current_node
+    %isNull3 = icmp eq %Tree* %t9, null
+    br i1 %isNull3, label %whenIsNull3, label %notNull3
+    
+whenIsNull3:
+    ; ERROR: Nullpointer exception in line 183
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_33, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull3:
+    %vmt_ptr3 = getelementptr %Tree, %Tree* %t9, i32 0, i32 0
+    %vmt3 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr3
+    %func_ptr3 = getelementptr %Tree_vmt, %Tree_vmt* %vmt3, i32 0, i32 7
+    %func3 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr3
+    %GetHas_Right_result = call i1 %func3(%Tree* %t9)
+    br i1 %GetHas_Right_result, label %ifTrue3, label %ifFalse2
+    
+ifTrue3:
+    ;183 start statement : {
+    ;184 start statement : parent_node = current_node;
+    %t10 = load %Tree*, %Tree** %current_node
+    store %Tree* %t10, %Tree** %parent_node
+    ;184 end statement: parent_node = current_node;
+    ;185 start statement : current_node = current_node.GetRight();
+    %t11 = load %Tree*, %Tree** %current_node
+    %isNull4 = icmp eq %Tree* %t11, null
+    br i1 %isNull4, label %whenIsNull4, label %notNull4
+    
+whenIsNull4:
+    ; ERROR: Nullpointer exception in line 185
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_34, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull4:
+    %vmt_ptr4 = getelementptr %Tree, %Tree* %t11, i32 0, i32 0
+    %vmt4 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr4
+    %func_ptr4 = getelementptr %Tree_vmt, %Tree_vmt* %vmt4, i32 0, i32 3
+    %func4 = load %Tree*(%Tree*)*, %Tree*(%Tree*)** %func_ptr4
+    %GetRight_result = call %Tree* %func4(%Tree* %t11)
+    store %Tree* %GetRight_result, %Tree** %current_node
+    ;185 end statement: current_node = current_node.GetRight();
+    ;183 end statement: {
+    br label %endif1
+    
+ifFalse2:
+    ;187 start statement : cont = false;
+    store i1 0, i1* %cont
+    ;187 end statement: cont = false;
+    br label %endif1
+    
+endif1:
+    ;183 end statement: if (current_node.GetHas_Right()) {
+    br label %endif4
+    
+ifFalse3:
+    ;188 start statement : {
+    ;189 start statement : if (is_root) if (((! current_node.GetHas_Right()) && (! current_node.GetHas_Left()))) ntb = true;
+    %t12 = load i1, i1* %is_root
+    br i1 %t12, label %ifTrue4, label %ifFalse5
+    
+ifTrue4:
+    ;190 start statement : if (((! current_node.GetHas_Right()) && (! current_node.GetHas_Left()))) ntb = true;
+    %t13 = load %Tree*, %Tree** %current_node
+    %isNull5 = icmp eq %Tree* %t13, null
+    br i1 %isNull5, label %whenIsNull5, label %notNull5
+    
+whenIsNull5:
+    ; ERROR: Nullpointer exception in line 190
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_35, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull5:
+    %vmt_ptr5 = getelementptr %Tree, %Tree* %t13, i32 0, i32 0
+    %vmt5 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr5
+    %func_ptr5 = getelementptr %Tree_vmt, %Tree_vmt* %vmt5, i32 0, i32 7
+    %func5 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr5
+    %GetHas_Right_result1 = call i1 %func5(%Tree* %t13)
+    %neg_res = icmp eq i1 0, %GetHas_Right_result1
+    %andResVar = alloca i1
+    store i1 %neg_res, i1* %andResVar
+    br i1 %neg_res, label %and_first_true, label %and_end
+    
+and_first_true:
+    %t14 = load %Tree*, %Tree** %current_node
+    %isNull6 = icmp eq %Tree* %t14, null
+    br i1 %isNull6, label %whenIsNull6, label %notNull6
+    
+whenIsNull6:
+    ; ERROR: Nullpointer exception in line 191
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_36, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull6:
+    %vmt_ptr6 = getelementptr %Tree, %Tree* %t14, i32 0, i32 0
+    %vmt6 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr6
+    %func_ptr6 = getelementptr %Tree_vmt, %Tree_vmt* %vmt6, i32 0, i32 8
+    %func6 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr6
+    %GetHas_Left_result1 = call i1 %func6(%Tree* %t14)
+    %neg_res1 = icmp eq i1 0, %GetHas_Left_result1
+    store i1 %neg_res1, i1* %andResVar
+    br label %and_end
+    
+and_end:
+    %andRes = load i1, i1* %andResVar
+    br i1 %andRes, label %ifTrue5, label %ifFalse4
+    
+ifTrue5:
+    ;192 start statement : ntb = true;
+    store i1 1, i1* %ntb
+    ;192 end statement: ntb = true;
+    br label %endif2
+    
+ifFalse4:
+    ;194 start statement : ntb = this.Remove(parent_node, current_node);
+    %isNull7 = icmp eq %Tree* %this, null
+    br i1 %isNull7, label %whenIsNull7, label %notNull7
+    
+whenIsNull7:
+    ; ERROR: Nullpointer exception in line 194
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_37, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull7:
+    %t15 = load %Tree*, %Tree** %parent_node
+    %t16 = load %Tree*, %Tree** %current_node
+    %vmt_ptr7 = getelementptr %Tree, %Tree* %this, i32 0, i32 0
+    %vmt7 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr7
+    %func_ptr7 = getelementptr %Tree_vmt, %Tree_vmt* %vmt7, i32 0, i32 14
+    %func7 = load i1(%Tree*, %Tree*, %Tree*)*, i1(%Tree*, %Tree*, %Tree*)** %func_ptr7
+    %Remove_result = call i1 %func7(%Tree* %this, %Tree* %t15, %Tree* %t16)
+    store i1 %Remove_result, i1* %ntb
+    ;194 end statement: ntb = this.Remove(parent_node, current_node);
+    br label %endif2
+    
+endif2:
+    ;190 end statement: if (((! current_node.GetHas_Right()) && (! current_node.GetHas_Left()))) ntb = true;
+    br label %endif3
+    
+ifFalse5:
+    ;196 start statement : ntb = this.Remove(parent_node, current_node);
+    %isNull8 = icmp eq %Tree* %this, null
+    br i1 %isNull8, label %whenIsNull8, label %notNull8
+    
+whenIsNull8:
+    ; ERROR: Nullpointer exception in line 196
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_38, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull8:
+    %t17 = load %Tree*, %Tree** %parent_node
+    %t18 = load %Tree*, %Tree** %current_node
+    %vmt_ptr8 = getelementptr %Tree, %Tree* %this, i32 0, i32 0
+    %vmt8 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr8
+    %func_ptr8 = getelementptr %Tree_vmt, %Tree_vmt* %vmt8, i32 0, i32 14
+    %func8 = load i1(%Tree*, %Tree*, %Tree*)*, i1(%Tree*, %Tree*, %Tree*)** %func_ptr8
+    %Remove_result1 = call i1 %func8(%Tree* %this, %Tree* %t17, %Tree* %t18)
+    store i1 %Remove_result1, i1* %ntb
+    ;196 end statement: ntb = this.Remove(parent_node, current_node);
+    br label %endif3
+    
+endif3:
+    ;189 end statement: if (is_root) if (((! current_node.GetHas_Right()) && (! current_node.GetHas_Left()))) ntb = true;
+    ;197 start statement : found = true;
+    store i1 1, i1* %found
+    ;197 end statement: found = true;
+    ;198 start statement : cont = false;
+    store i1 0, i1* %cont
+    ;198 end statement: cont = false;
+    ;188 end statement: {
+    br label %endif4
+    
+endif4:
+    ;182 end statement: if ((key_aux < v_key)) if (current_node.GetHas_Right()) {
+    br label %endif5
+    
+endif5:
+    ;176 end statement: if ((v_key < key_aux)) if (current_node.GetHas_Left()) {
+    ;200 start statement : is_root = false;
+    store i1 0, i1* %is_root
+    ;200 end statement: is_root = false;
+    ;174 end statement: {
+    br label %whileStart
+    
+endloop:
+    ;174 end statement: while (cont) {
+    ;202 start statement : return found;
+    %t19 = load i1, i1* %found
+    ret i1 %t19
+    
+
+}
+
+define i1 @Tree_Remove(%Tree* %this, %Tree* %p_node, %Tree* %c_node) {
+init:
+    %p_node1 = alloca %Tree*
+    store %Tree* %p_node, %Tree** %p_node1
+    %c_node1 = alloca %Tree*
+    store %Tree* %c_node, %Tree** %c_node1
+    %ntb = alloca i1
+    %auxkey1 = alloca i32
+    %auxkey2 = alloca i32
+    ;207 start statement : {
+    ;208 start statement : boolean ntb
+    ;208 end statement: boolean ntb
+    ;209 start statement : int auxkey1
+    ;209 end statement: int auxkey1
+    ;210 start statement : int auxkey2
+    ;210 end statement: int auxkey2
+    ;212 start statement : if (c_node.GetHas_Left()) ntb = this.RemoveLeft(p_node, c_node);
+    %t = load %Tree*, %Tree** %c_node1
+    %isNull = icmp eq %Tree* %t, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 212
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_39, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %vmt_ptr = getelementptr %Tree, %Tree* %t, i32 0, i32 0
+    %vmt = load %Tree_vmt*, %Tree_vmt** %vmt_ptr
+    %func_ptr = getelementptr %Tree_vmt, %Tree_vmt* %vmt, i32 0, i32 8
+    %func = load i1(%Tree*)*, i1(%Tree*)** %func_ptr
+    %GetHas_Left_result = call i1 %func(%Tree* %t)
+    br i1 %GetHas_Left_result, label %ifTrue, label %ifFalse
+    
+ifTrue:
+    ;213 start statement : ntb = this.RemoveLeft(p_node, c_node);
+    %isNull1 = icmp eq %Tree* %this, null
+    br i1 %isNull1, label %whenIsNull1, label %notNull1
+    
+whenIsNull1:
+    ; ERROR: Nullpointer exception in line 213
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_40, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull1:
+    %t1 = load %Tree*, %Tree** %p_node1
+    %t2 = load %Tree*, %Tree** %c_node1
+    %vmt_ptr1 = getelementptr %Tree, %Tree* %this, i32 0, i32 0
+    %vmt1 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr1
+    %func_ptr1 = getelementptr %Tree_vmt, %Tree_vmt* %vmt1, i32 0, i32 16
+    %func1 = load i1(%Tree*, %Tree*, %Tree*)*, i1(%Tree*, %Tree*, %Tree*)** %func_ptr1
+    %RemoveLeft_result = call i1 %func1(%Tree* %this, %Tree* %t1, %Tree* %t2)
+    store i1 %RemoveLeft_result, i1* %ntb
+    ;213 end statement: ntb = this.RemoveLeft(p_node, c_node);
+    br label %endif2
+    
+ifFalse:
+    ;214 start statement : if (c_node.GetHas_Right()) ntb = this.RemoveRight(p_node, c_node);
+    %t3 = load %Tree*, %Tree** %c_node1
+    %isNull2 = icmp eq %Tree* %t3, null
+    br i1 %isNull2, label %whenIsNull2, label %notNull2
+    
+whenIsNull2:
+    ; ERROR: Nullpointer exception in line 214
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_41, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull2:
+    %vmt_ptr2 = getelementptr %Tree, %Tree* %t3, i32 0, i32 0
+    %vmt2 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr2
+    %func_ptr2 = getelementptr %Tree_vmt, %Tree_vmt* %vmt2, i32 0, i32 7
+    %func2 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr2
+    %GetHas_Right_result = call i1 %func2(%Tree* %t3)
+    br i1 %GetHas_Right_result, label %ifTrue1, label %ifFalse1
+    
+ifTrue1:
+    ;215 start statement : ntb = this.RemoveRight(p_node, c_node);
+    %isNull3 = icmp eq %Tree* %this, null
+    br i1 %isNull3, label %whenIsNull3, label %notNull3
+    
+whenIsNull3:
+    ; ERROR: Nullpointer exception in line 215
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_42, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull3:
+    %t4 = load %Tree*, %Tree** %p_node1
+    %t5 = load %Tree*, %Tree** %c_node1
+    %vmt_ptr3 = getelementptr %Tree, %Tree* %this, i32 0, i32 0
+    %vmt3 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr3
+    %func_ptr3 = getelementptr %Tree_vmt, %Tree_vmt* %vmt3, i32 0, i32 15
+    %func3 = load i1(%Tree*, %Tree*, %Tree*)*, i1(%Tree*, %Tree*, %Tree*)** %func_ptr3
+    %RemoveRight_result = call i1 %func3(%Tree* %this, %Tree* %t4, %Tree* %t5)
+    store i1 %RemoveRight_result, i1* %ntb
+    ;215 end statement: ntb = this.RemoveRight(p_node, c_node);
+    br label %endif1
+    
+ifFalse1:
+    ;216 start statement : {
+    ;217 start statement : auxkey1 = c_node.GetKey();
+    %t6 = load %Tree*, %Tree** %c_node1
+    %isNull4 = icmp eq %Tree* %t6, null
+    br i1 %isNull4, label %whenIsNull4, label %notNull4
+    
+whenIsNull4:
+    ; ERROR: Nullpointer exception in line 217
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_43, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull4:
+    %vmt_ptr4 = getelementptr %Tree, %Tree* %t6, i32 0, i32 0
+    %vmt4 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr4
+    %func_ptr4 = getelementptr %Tree_vmt, %Tree_vmt* %vmt4, i32 0, i32 5
+    %func4 = load i32(%Tree*)*, i32(%Tree*)** %func_ptr4
+    %GetKey_result = call i32 %func4(%Tree* %t6)
+    store i32 %GetKey_result, i32* %auxkey1
+    ;217 end statement: auxkey1 = c_node.GetKey();
+    ;220 start statement : auxkey2 = p_node.GetLeft().GetKey();
+    %t7 = load %Tree*, %Tree** %p_node1
+    %isNull5 = icmp eq %Tree* %t7, null
+    br i1 %isNull5, label %whenIsNull5, label %notNull5
+    
+whenIsNull5:
+    ; ERROR: Nullpointer exception in line 220
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_44, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull5:
+    %vmt_ptr5 = getelementptr %Tree, %Tree* %t7, i32 0, i32 0
+    %vmt5 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr5
+    %func_ptr5 = getelementptr %Tree_vmt, %Tree_vmt* %vmt5, i32 0, i32 4
+    %func5 = load %Tree*(%Tree*)*, %Tree*(%Tree*)** %func_ptr5
+    %GetLeft_result = call %Tree* %func5(%Tree* %t7)
+    %isNull6 = icmp eq %Tree* %GetLeft_result, null
+    br i1 %isNull6, label %whenIsNull6, label %notNull6
+    
+whenIsNull6:
+    ; ERROR: Nullpointer exception in line 220
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_44, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull6:
+    %vmt_ptr6 = getelementptr %Tree, %Tree* %GetLeft_result, i32 0, i32 0
+    %vmt6 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr6
+    %func_ptr6 = getelementptr %Tree_vmt, %Tree_vmt* %vmt6, i32 0, i32 5
+    %func6 = load i32(%Tree*)*, i32(%Tree*)** %func_ptr6
+    %GetKey_result1 = call i32 %func6(%Tree* %GetLeft_result)
+    store i32 %GetKey_result1, i32* %auxkey2
+    ;220 end statement: auxkey2 = p_node.GetLeft().GetKey();
+    ;221 start statement : if (this.Compare(auxkey1, auxkey2)) {
+    %isNull7 = icmp eq %Tree* %this, null
+    br i1 %isNull7, label %whenIsNull7, label %notNull7
+    
+whenIsNull7:
+    ; ERROR: Nullpointer exception in line 221
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_45, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull7:
+    %t8 = load i32, i32* %auxkey1
+    %t9 = load i32, i32* %auxkey2
+    %vmt_ptr7 = getelementptr %Tree, %Tree* %this, i32 0, i32 0
+    %vmt7 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr7
+    %func_ptr7 = getelementptr %Tree_vmt, %Tree_vmt* %vmt7, i32 0, i32 11
+    %func7 = load i1(%Tree*, i32, i32)*, i1(%Tree*, i32, i32)** %func_ptr7
+    %Compare_result = call i1 %func7(%Tree* %this, i32 %t8, i32 %t9)
+    br i1 %Compare_result, label %ifTrue2, label %ifFalse2
+    
+ifTrue2:
+    ;221 start statement : {
+    ;222 start statement : ntb = p_node.SetLeft(my_null);
+    %t10 = load %Tree*, %Tree** %p_node1
+    %isNull8 = icmp eq %Tree* %t10, null
+    br i1 %isNull8, label %whenIsNull8, label %notNull8
+    
+whenIsNull8:
+    ; ERROR: Nullpointer exception in line 222
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_46, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull8:
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 6
+    %t11 = load %Tree*, %Tree** %ptr
+    %vmt_ptr8 = getelementptr %Tree, %Tree* %t10, i32 0, i32 0
+    %vmt8 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr8
+    %func_ptr8 = getelementptr %Tree_vmt, %Tree_vmt* %vmt8, i32 0, i32 2
+    %func8 = load i1(%Tree*, %Tree*)*, i1(%Tree*, %Tree*)** %func_ptr8
+    %SetLeft_result = call i1 %func8(%Tree* %t10, %Tree* %t11)
+    store i1 %SetLeft_result, i1* %ntb
+    ;222 end statement: ntb = p_node.SetLeft(my_null);
+    ;223 start statement : ntb = p_node.SetHas_Left(false);
+    %t12 = load %Tree*, %Tree** %p_node1
+    %isNull9 = icmp eq %Tree* %t12, null
+    br i1 %isNull9, label %whenIsNull9, label %notNull9
+    
+whenIsNull9:
+    ; ERROR: Nullpointer exception in line 223
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_47, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull9:
+    %vmt_ptr9 = getelementptr %Tree, %Tree* %t12, i32 0, i32 0
+    %vmt9 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr9
+    %func_ptr9 = getelementptr %Tree_vmt, %Tree_vmt* %vmt9, i32 0, i32 9
+    %func9 = load i1(%Tree*, i1)*, i1(%Tree*, i1)** %func_ptr9
+    %SetHas_Left_result = call i1 %func9(%Tree* %t12, i1 0)
+    store i1 %SetHas_Left_result, i1* %ntb
+    ;223 end statement: ntb = p_node.SetHas_Left(false);
+    ;221 end statement: {
+    br label %endif
+    
+ifFalse2:
+    ;224 start statement : {
+    ;225 start statement : ntb = p_node.SetRight(my_null);
+    %t13 = load %Tree*, %Tree** %p_node1
+    %isNull10 = icmp eq %Tree* %t13, null
+    br i1 %isNull10, label %whenIsNull10, label %notNull10
+    
+whenIsNull10:
+    ; ERROR: Nullpointer exception in line 225
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_48, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull10:
+    %ptr1 = getelementptr %Tree, %Tree* %this, i32 0, i32 6
+    %t14 = load %Tree*, %Tree** %ptr1
+    %vmt_ptr10 = getelementptr %Tree, %Tree* %t13, i32 0, i32 0
+    %vmt10 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr10
+    %func_ptr10 = getelementptr %Tree_vmt, %Tree_vmt* %vmt10, i32 0, i32 1
+    %func10 = load i1(%Tree*, %Tree*)*, i1(%Tree*, %Tree*)** %func_ptr10
+    %SetRight_result = call i1 %func10(%Tree* %t13, %Tree* %t14)
+    store i1 %SetRight_result, i1* %ntb
+    ;225 end statement: ntb = p_node.SetRight(my_null);
+    ;226 start statement : ntb = p_node.SetHas_Right(false);
+    %t15 = load %Tree*, %Tree** %p_node1
+    %isNull11 = icmp eq %Tree* %t15, null
+    br i1 %isNull11, label %whenIsNull11, label %notNull11
+    
+whenIsNull11:
+    ; ERROR: Nullpointer exception in line 226
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_49, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull11:
+    %vmt_ptr11 = getelementptr %Tree, %Tree* %t15, i32 0, i32 0
+    %vmt11 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr11
+    %func_ptr11 = getelementptr %Tree_vmt, %Tree_vmt* %vmt11, i32 0, i32 10
+    %func11 = load i1(%Tree*, i1)*, i1(%Tree*, i1)** %func_ptr11
+    %SetHas_Right_result = call i1 %func11(%Tree* %t15, i1 0)
+    store i1 %SetHas_Right_result, i1* %ntb
+    ;226 end statement: ntb = p_node.SetHas_Right(false);
+    ;224 end statement: {
+    br label %endif
+    
+endif:
+    ;221 end statement: if (this.Compare(auxkey1, auxkey2)) {
+    ;216 end statement: {
+    br label %endif1
+    
+endif1:
+    ;214 end statement: if (c_node.GetHas_Right()) ntb = this.RemoveRight(p_node, c_node);
+    br label %endif2
+    
+endif2:
+    ;212 end statement: if (c_node.GetHas_Left()) ntb = this.RemoveLeft(p_node, c_node);
+    ;229 start statement : return true;
+    ret i1 1
+    
+
+}
+
+define i1 @Tree_RemoveRight(%Tree* %this, %Tree* %p_node, %Tree* %c_node) {
+init:
+    %p_node1 = alloca %Tree*
+    store %Tree* %p_node, %Tree** %p_node1
+    %c_node1 = alloca %Tree*
+    store %Tree* %c_node, %Tree** %c_node1
+    %ntb = alloca i1
+    ;235 start statement : {
+    ;236 start statement : boolean ntb
+    ;236 end statement: boolean ntb
+    ;238 start statement : while (c_node.GetHas_Right()) {
+    br label %whileStart
+    
+whileStart:
+    %t = load %Tree*, %Tree** %c_node1
+    %isNull = icmp eq %Tree* %t, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 238
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_50, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %vmt_ptr = getelementptr %Tree, %Tree* %t, i32 0, i32 0
+    %vmt = load %Tree_vmt*, %Tree_vmt** %vmt_ptr
+    %func_ptr = getelementptr %Tree_vmt, %Tree_vmt* %vmt, i32 0, i32 7
+    %func = load i1(%Tree*)*, i1(%Tree*)** %func_ptr
+    %GetHas_Right_result = call i1 %func(%Tree* %t)
+    br i1 %GetHas_Right_result, label %loopBodyStart, label %endloop
+    
+loopBodyStart:
+    ;238 start statement : {
+    ;242 start statement : ntb = c_node.SetKey(c_node.GetRight().GetKey());
+    %t1 = load %Tree*, %Tree** %c_node1
+    %isNull1 = icmp eq %Tree* %t1, null
+    br i1 %isNull1, label %whenIsNull1, label %notNull1
+    
+whenIsNull1:
+    ; ERROR: Nullpointer exception in line 242
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_51, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull1:
+    %t2 = load %Tree*, %Tree** %c_node1
+    %isNull2 = icmp eq %Tree* %t2, null
+    br i1 %isNull2, label %whenIsNull2, label %notNull2
+    
+whenIsNull2:
+    ; ERROR: Nullpointer exception in line 242
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_51, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull2:
+    %vmt_ptr1 = getelementptr %Tree, %Tree* %t2, i32 0, i32 0
+    %vmt1 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr1
+    %func_ptr1 = getelementptr %Tree_vmt, %Tree_vmt* %vmt1, i32 0, i32 3
+    %func1 = load %Tree*(%Tree*)*, %Tree*(%Tree*)** %func_ptr1
+    %GetRight_result = call %Tree* %func1(%Tree* %t2)
+    %isNull3 = icmp eq %Tree* %GetRight_result, null
+    br i1 %isNull3, label %whenIsNull3, label %notNull3
+    
+whenIsNull3:
+    ; ERROR: Nullpointer exception in line 242
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_51, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull3:
+    %vmt_ptr2 = getelementptr %Tree, %Tree* %GetRight_result, i32 0, i32 0
+    %vmt2 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr2
+    %func_ptr2 = getelementptr %Tree_vmt, %Tree_vmt* %vmt2, i32 0, i32 5
+    %func2 = load i32(%Tree*)*, i32(%Tree*)** %func_ptr2
+    %GetKey_result = call i32 %func2(%Tree* %GetRight_result)
+    %vmt_ptr3 = getelementptr %Tree, %Tree* %t1, i32 0, i32 0
+    %vmt3 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr3
+    %func_ptr3 = getelementptr %Tree_vmt, %Tree_vmt* %vmt3, i32 0, i32 6
+    %func3 = load i1(%Tree*, i32)*, i1(%Tree*, i32)** %func_ptr3
+    %SetKey_result = call i1 %func3(%Tree* %t1, i32 %GetKey_result)
+    store i1 %SetKey_result, i1* %ntb
+    ;242 end statement: ntb = c_node.SetKey(c_node.GetRight().GetKey());
+    ;243 start statement : p_node = c_node;
+    %t3 = load %Tree*, %Tree** %c_node1
+    store %Tree* %t3, %Tree** %p_node1
+    ;243 end statement: p_node = c_node;
+    ;244 start statement : c_node = c_node.GetRight();
+    %t4 = load %Tree*, %Tree** %c_node1
+    %isNull4 = icmp eq %Tree* %t4, null
+    br i1 %isNull4, label %whenIsNull4, label %notNull4
+    
+whenIsNull4:
+    ; ERROR: Nullpointer exception in line 244
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_52, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull4:
+    %vmt_ptr4 = getelementptr %Tree, %Tree* %t4, i32 0, i32 0
+    %vmt4 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr4
+    %func_ptr4 = getelementptr %Tree_vmt, %Tree_vmt* %vmt4, i32 0, i32 3
+    %func4 = load %Tree*(%Tree*)*, %Tree*(%Tree*)** %func_ptr4
+    %GetRight_result1 = call %Tree* %func4(%Tree* %t4)
+    store %Tree* %GetRight_result1, %Tree** %c_node1
+    ;244 end statement: c_node = c_node.GetRight();
+    ;238 end statement: {
+    br label %whileStart
+    
+endloop:
+    ;238 end statement: while (c_node.GetHas_Right()) {
+    ;246 start statement : ntb = p_node.SetRight(my_null);
+    %t5 = load %Tree*, %Tree** %p_node1
+    %isNull5 = icmp eq %Tree* %t5, null
+    br i1 %isNull5, label %whenIsNull5, label %notNull5
+    
+whenIsNull5:
+    ; ERROR: Nullpointer exception in line 246
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_53, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull5:
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 6
+    %t6 = load %Tree*, %Tree** %ptr
+    %vmt_ptr5 = getelementptr %Tree, %Tree* %t5, i32 0, i32 0
+    %vmt5 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr5
+    %func_ptr5 = getelementptr %Tree_vmt, %Tree_vmt* %vmt5, i32 0, i32 1
+    %func5 = load i1(%Tree*, %Tree*)*, i1(%Tree*, %Tree*)** %func_ptr5
+    %SetRight_result = call i1 %func5(%Tree* %t5, %Tree* %t6)
+    store i1 %SetRight_result, i1* %ntb
+    ;246 end statement: ntb = p_node.SetRight(my_null);
+    ;247 start statement : ntb = p_node.SetHas_Right(false);
+    %t7 = load %Tree*, %Tree** %p_node1
+    %isNull6 = icmp eq %Tree* %t7, null
+    br i1 %isNull6, label %whenIsNull6, label %notNull6
+    
+whenIsNull6:
+    ; ERROR: Nullpointer exception in line 247
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_54, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull6:
+    %vmt_ptr6 = getelementptr %Tree, %Tree* %t7, i32 0, i32 0
+    %vmt6 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr6
+    %func_ptr6 = getelementptr %Tree_vmt, %Tree_vmt* %vmt6, i32 0, i32 10
+    %func6 = load i1(%Tree*, i1)*, i1(%Tree*, i1)** %func_ptr6
+    %SetHas_Right_result = call i1 %func6(%Tree* %t7, i1 0)
+    store i1 %SetHas_Right_result, i1* %ntb
+    ;247 end statement: ntb = p_node.SetHas_Right(false);
+    ;248 start statement : return true;
+    ret i1 1
+    
+
+}
+
+define i1 @Tree_RemoveLeft(%Tree* %this, %Tree* %p_node, %Tree* %c_node) {
+init:
+    %p_node1 = alloca %Tree*
+    store %Tree* %p_node, %Tree** %p_node1
+    %c_node1 = alloca %Tree*
+    store %Tree* %c_node, %Tree** %c_node1
+    %ntb = alloca i1
+    ;254 start statement : {
+    ;255 start statement : boolean ntb
+    ;255 end statement: boolean ntb
+    ;257 start statement : while (c_node.GetHas_Left()) {
+    br label %whileStart
+    
+whileStart:
+    %t = load %Tree*, %Tree** %c_node1
+    %isNull = icmp eq %Tree* %t, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 257
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_55, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %vmt_ptr = getelementptr %Tree, %Tree* %t, i32 0, i32 0
+    %vmt = load %Tree_vmt*, %Tree_vmt** %vmt_ptr
+    %func_ptr = getelementptr %Tree_vmt, %Tree_vmt* %vmt, i32 0, i32 8
+    %func = load i1(%Tree*)*, i1(%Tree*)** %func_ptr
+    %GetHas_Left_result = call i1 %func(%Tree* %t)
+    br i1 %GetHas_Left_result, label %loopBodyStart, label %endloop
+    
+loopBodyStart:
+    ;257 start statement : {
+    ;261 start statement : ntb = c_node.SetKey(c_node.GetLeft().GetKey());
+    %t1 = load %Tree*, %Tree** %c_node1
+    %isNull1 = icmp eq %Tree* %t1, null
+    br i1 %isNull1, label %whenIsNull1, label %notNull1
+    
+whenIsNull1:
+    ; ERROR: Nullpointer exception in line 261
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_56, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull1:
+    %t2 = load %Tree*, %Tree** %c_node1
+    %isNull2 = icmp eq %Tree* %t2, null
+    br i1 %isNull2, label %whenIsNull2, label %notNull2
+    
+whenIsNull2:
+    ; ERROR: Nullpointer exception in line 261
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_56, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull2:
+    %vmt_ptr1 = getelementptr %Tree, %Tree* %t2, i32 0, i32 0
+    %vmt1 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr1
+    %func_ptr1 = getelementptr %Tree_vmt, %Tree_vmt* %vmt1, i32 0, i32 4
+    %func1 = load %Tree*(%Tree*)*, %Tree*(%Tree*)** %func_ptr1
+    %GetLeft_result = call %Tree* %func1(%Tree* %t2)
+    %isNull3 = icmp eq %Tree* %GetLeft_result, null
+    br i1 %isNull3, label %whenIsNull3, label %notNull3
+    
+whenIsNull3:
+    ; ERROR: Nullpointer exception in line 261
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_56, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull3:
+    %vmt_ptr2 = getelementptr %Tree, %Tree* %GetLeft_result, i32 0, i32 0
+    %vmt2 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr2
+    %func_ptr2 = getelementptr %Tree_vmt, %Tree_vmt* %vmt2, i32 0, i32 5
+    %func2 = load i32(%Tree*)*, i32(%Tree*)** %func_ptr2
+    %GetKey_result = call i32 %func2(%Tree* %GetLeft_result)
+    %vmt_ptr3 = getelementptr %Tree, %Tree* %t1, i32 0, i32 0
+    %vmt3 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr3
+    %func_ptr3 = getelementptr %Tree_vmt, %Tree_vmt* %vmt3, i32 0, i32 6
+    %func3 = load i1(%Tree*, i32)*, i1(%Tree*, i32)** %func_ptr3
+    %SetKey_result = call i1 %func3(%Tree* %t1, i32 %GetKey_result)
+    store i1 %SetKey_result, i1* %ntb
+    ;261 end statement: ntb = c_node.SetKey(c_node.GetLeft().GetKey());
+    ;262 start statement : p_node = c_node;
+    %t3 = load %Tree*, %Tree** %c_node1
+    store %Tree* %t3, %Tree** %p_node1
+    ;262 end statement: p_node = c_node;
+    ;263 start statement : c_node = c_node.GetLeft();
+    %t4 = load %Tree*, %Tree** %c_node1
+    %isNull4 = icmp eq %Tree* %t4, null
+    br i1 %isNull4, label %whenIsNull4, label %notNull4
+    
+whenIsNull4:
+    ; ERROR: Nullpointer exception in line 263
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_57, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull4:
+    %vmt_ptr4 = getelementptr %Tree, %Tree* %t4, i32 0, i32 0
+    %vmt4 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr4
+    %func_ptr4 = getelementptr %Tree_vmt, %Tree_vmt* %vmt4, i32 0, i32 4
+    %func4 = load %Tree*(%Tree*)*, %Tree*(%Tree*)** %func_ptr4
+    %GetLeft_result1 = call %Tree* %func4(%Tree* %t4)
+    store %Tree* %GetLeft_result1, %Tree** %c_node1
+    ;263 end statement: c_node = c_node.GetLeft();
+    ;257 end statement: {
+    br label %whileStart
+    
+endloop:
+    ;257 end statement: while (c_node.GetHas_Left()) {
+    ;265 start statement : ntb = p_node.SetLeft(my_null);
+    %t5 = load %Tree*, %Tree** %p_node1
+    %isNull5 = icmp eq %Tree* %t5, null
+    br i1 %isNull5, label %whenIsNull5, label %notNull5
+    
+whenIsNull5:
+    ; ERROR: Nullpointer exception in line 265
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_58, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull5:
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 6
+    %t6 = load %Tree*, %Tree** %ptr
+    %vmt_ptr5 = getelementptr %Tree, %Tree* %t5, i32 0, i32 0
+    %vmt5 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr5
+    %func_ptr5 = getelementptr %Tree_vmt, %Tree_vmt* %vmt5, i32 0, i32 2
+    %func5 = load i1(%Tree*, %Tree*)*, i1(%Tree*, %Tree*)** %func_ptr5
+    %SetLeft_result = call i1 %func5(%Tree* %t5, %Tree* %t6)
+    store i1 %SetLeft_result, i1* %ntb
+    ;265 end statement: ntb = p_node.SetLeft(my_null);
+    ;266 start statement : ntb = p_node.SetHas_Left(false);
+    %t7 = load %Tree*, %Tree** %p_node1
+    %isNull6 = icmp eq %Tree* %t7, null
+    br i1 %isNull6, label %whenIsNull6, label %notNull6
+    
+whenIsNull6:
+    ; ERROR: Nullpointer exception in line 266
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_59, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull6:
+    %vmt_ptr6 = getelementptr %Tree, %Tree* %t7, i32 0, i32 0
+    %vmt6 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr6
+    %func_ptr6 = getelementptr %Tree_vmt, %Tree_vmt* %vmt6, i32 0, i32 9
+    %func6 = load i1(%Tree*, i1)*, i1(%Tree*, i1)** %func_ptr6
+    %SetHas_Left_result = call i1 %func6(%Tree* %t7, i1 0)
+    store i1 %SetHas_Left_result, i1* %ntb
+    ;266 end statement: ntb = p_node.SetHas_Left(false);
+    ;267 start statement : return true;
+    ret i1 1
+    
+
+}
+
+define i32 @Tree_Search(%Tree* %this, i32 %v_key) {
+init:
+    %v_key1 = alloca i32
+    store i32 %v_key, i32* %v_key1
+    %cont = alloca i1
+    %ifound = alloca i32
+    %current_node = alloca %Tree*
+    %key_aux = alloca i32
+    ;271 start statement : {
+    ;272 start statement : boolean cont
+    ;272 end statement: boolean cont
+    ;273 start statement : int ifound
+    ;273 end statement: int ifound
+    ;274 start statement : Tree current_node
+    ;274 end statement: Tree current_node
+    ;275 start statement : int key_aux
+    ;275 end statement: int key_aux
+    ;277 start statement : printInt(500001);
+    call void @print(i32 500001)
+    ;277 end statement: printInt(500001);
+    ;278 start statement : current_node = this;
+    store %Tree* %this, %Tree** %current_node
+    ;278 end statement: current_node = this;
+    ;279 start statement : cont = true;
+    store i1 1, i1* %cont
+    ;279 end statement: cont = true;
+    ;280 start statement : ifound = 0;
+    store i32 0, i32* %ifound
+    ;280 end statement: ifound = 0;
+    ;281 start statement : printInt(500002);
+    call void @print(i32 500002)
+    ;281 end statement: printInt(500002);
+    ;282 start statement : while (cont) {
+    br label %whileStart
+    
+whileStart:
+    %t = load i1, i1* %cont
+    br i1 %t, label %loopBodyStart, label %endloop
+    
+loopBodyStart:
+    ;282 start statement : {
+    ;283 start statement : key_aux = current_node.GetKey();
+    %t1 = load %Tree*, %Tree** %current_node
+    %isNull = icmp eq %Tree* %t1, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 283
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_60, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %vmt_ptr = getelementptr %Tree, %Tree* %t1, i32 0, i32 0
+    %vmt = load %Tree_vmt*, %Tree_vmt** %vmt_ptr
+    %func_ptr = getelementptr %Tree_vmt, %Tree_vmt* %vmt, i32 0, i32 5
+    %func = load i32(%Tree*)*, i32(%Tree*)** %func_ptr
+    %GetKey_result = call i32 %func(%Tree* %t1)
+    store i32 %GetKey_result, i32* %key_aux
+    ;283 end statement: key_aux = current_node.GetKey();
+    ;284 start statement : if ((v_key < key_aux)) {
+    %t2 = load i32, i32* %v_key1
+    %t3 = load i32, i32* %key_aux
+    %resSltImpl = icmp slt i32 %t2, %t3
+    br i1 %resSltImpl, label %ifTrue, label %ifFalse1
+    
+ifTrue:
+    ;284 start statement : {
+    ;285 start statement : if (current_node.GetHas_Left()) {
+    %t4 = load %Tree*, %Tree** %current_node
+    %isNull1 = icmp eq %Tree* %t4, null
+    br i1 %isNull1, label %whenIsNull1, label %notNull1
+    
+whenIsNull1:
+    ; ERROR: Nullpointer exception in line 285
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_61, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull1:
+    %vmt_ptr1 = getelementptr %Tree, %Tree* %t4, i32 0, i32 0
+    %vmt1 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr1
+    %func_ptr1 = getelementptr %Tree_vmt, %Tree_vmt* %vmt1, i32 0, i32 8
+    %func1 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr1
+    %GetHas_Left_result = call i1 %func1(%Tree* %t4)
+    br i1 %GetHas_Left_result, label %ifTrue1, label %ifFalse
+    
+ifTrue1:
+    ;285 start statement : {
+    ;286 start statement : printInt(55511);
+    call void @print(i32 55511)
+    ;286 end statement: printInt(55511);
+    ;287 start statement : current_node = current_node.GetLeft();
+    %t5 = load %Tree*, %Tree** %current_node
+    %isNull2 = icmp eq %Tree* %t5, null
+    br i1 %isNull2, label %whenIsNull2, label %notNull2
+    
+whenIsNull2:
+    ; ERROR: Nullpointer exception in line 287
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_62, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull2:
+    %vmt_ptr2 = getelementptr %Tree, %Tree* %t5, i32 0, i32 0
+    %vmt2 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr2
+    %func_ptr2 = getelementptr %Tree_vmt, %Tree_vmt* %vmt2, i32 0, i32 4
+    %func2 = load %Tree*(%Tree*)*, %Tree*(%Tree*)** %func_ptr2
+    %GetLeft_result = call %Tree* %func2(%Tree* %t5)
+    store %Tree* %GetLeft_result, %Tree** %current_node
+    ;287 end statement: current_node = current_node.GetLeft();
+    ;285 end statement: {
+    br label %endif
+    
+ifFalse:
+    ;288 start statement : {
+    ;289 start statement : printInt(55510);
+    call void @print(i32 55510)
+    ;289 end statement: printInt(55510);
+    ;290 start statement : cont = false;
+    store i1 0, i1* %cont
+    ;290 end statement: cont = false;
+    ;288 end statement: {
+    br label %endif
+    
+endif:
+    ;285 end statement: if (current_node.GetHas_Left()) {
+    ;284 end statement: {
+    br label %endif3
+    
+ifFalse1:
+    ;292 start statement : if ((key_aux < v_key)) {
+    %t6 = load i32, i32* %key_aux
+    %t7 = load i32, i32* %v_key1
+    %resSltImpl1 = icmp slt i32 %t6, %t7
+    br i1 %resSltImpl1, label %ifTrue2, label %ifFalse3
+    
+ifTrue2:
+    ;292 start statement : {
+    ;293 start statement : if (current_node.GetHas_Right()) {
+    %t8 = load %Tree*, %Tree** %current_node
+    %isNull3 = icmp eq %Tree* %t8, null
+    br i1 %isNull3, label %whenIsNull3, label %notNull3
+    
+whenIsNull3:
+    ; ERROR: Nullpointer exception in line 293
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_63, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull3:
+    %vmt_ptr3 = getelementptr %Tree, %Tree* %t8, i32 0, i32 0
+    %vmt3 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr3
+    %func_ptr3 = getelementptr %Tree_vmt, %Tree_vmt* %vmt3, i32 0, i32 7
+    %func3 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr3
+    %GetHas_Right_result = call i1 %func3(%Tree* %t8)
+    br i1 %GetHas_Right_result, label %ifTrue3, label %ifFalse2
+    
+ifTrue3:
+    ;293 start statement : {
+    ;294 start statement : printInt(55011);
+    call void @print(i32 55011)
+    ;294 end statement: printInt(55011);
+    ;295 start statement : current_node = current_node.GetRight();
+    %t9 = load %Tree*, %Tree** %current_node
+    %isNull4 = icmp eq %Tree* %t9, null
+    br i1 %isNull4, label %whenIsNull4, label %notNull4
+    
+whenIsNull4:
+    ; ERROR: Nullpointer exception in line 295
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_64, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull4:
+    %vmt_ptr4 = getelementptr %Tree, %Tree* %t9, i32 0, i32 0
+    %vmt4 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr4
+    %func_ptr4 = getelementptr %Tree_vmt, %Tree_vmt* %vmt4, i32 0, i32 3
+    %func4 = load %Tree*(%Tree*)*, %Tree*(%Tree*)** %func_ptr4
+    %GetRight_result = call %Tree* %func4(%Tree* %t9)
+    store %Tree* %GetRight_result, %Tree** %current_node
+    ;295 end statement: current_node = current_node.GetRight();
+    ;293 end statement: {
+    br label %endif1
+    
+ifFalse2:
+    ;296 start statement : {
+    ;297 start statement : printInt(555010);
+    call void @print(i32 555010)
+    ;297 end statement: printInt(555010);
+    ;298 start statement : cont = false;
+    store i1 0, i1* %cont
+    ;298 end statement: cont = false;
+    ;296 end statement: {
+    br label %endif1
+    
+endif1:
+    ;293 end statement: if (current_node.GetHas_Right()) {
+    ;292 end statement: {
+    br label %endif2
+    
+ifFalse3:
+    ;300 start statement : {
+    ;301 start statement : printInt(555500);
+    call void @print(i32 555500)
+    ;301 end statement: printInt(555500);
+    ;302 start statement : ifound = 1;
+    store i32 1, i32* %ifound
+    ;302 end statement: ifound = 1;
+    ;303 start statement : cont = false;
+    store i1 0, i1* %cont
+    ;303 end statement: cont = false;
+    ;300 end statement: {
+    br label %endif2
+    
+endif2:
+    ;292 end statement: if ((key_aux < v_key)) {
+    br label %endif3
+    
+endif3:
+    ;284 end statement: if ((v_key < key_aux)) {
+    ;305 start statement : printInt(ifound);
+    %t10 = load i32, i32* %ifound
+    call void @print(i32 %t10)
+    ;305 end statement: printInt(ifound);
+    ;282 end statement: {
+    br label %whileStart
+    
+endloop:
+    ;282 end statement: while (cont) {
+    ;307 start statement : printInt(ifound);
+    %t11 = load i32, i32* %ifound
+    call void @print(i32 %t11)
+    ;307 end statement: printInt(ifound);
+    ;308 start statement : printInt(500004);
+    call void @print(i32 500004)
+    ;308 end statement: printInt(500004);
+    ;309 start statement : return ifound;
+    %t12 = load i32, i32* %ifound
+    ret i32 %t12
+    
+
+}
+
+define i1 @Tree_Print(%Tree* %this) {
+init:
+    %current_node = alloca %Tree*
+    %ntb = alloca i1
+    ;313 start statement : {
+    ;314 start statement : Tree current_node
+    ;314 end statement: Tree current_node
+    ;315 start statement : boolean ntb
+    ;315 end statement: boolean ntb
+    ;317 start statement : current_node = this;
+    store %Tree* %this, %Tree** %current_node
+    ;317 end statement: current_node = this;
+    ;318 start statement : ntb = this.RecPrint(current_node);
+    %isNull = icmp eq %Tree* %this, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 318
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_65, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %t = load %Tree*, %Tree** %current_node
+    %vmt_ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 0
+    %vmt = load %Tree_vmt*, %Tree_vmt** %vmt_ptr
+    %func_ptr = getelementptr %Tree_vmt, %Tree_vmt* %vmt, i32 0, i32 19
+    %func = load i1(%Tree*, %Tree*)*, i1(%Tree*, %Tree*)** %func_ptr
+    %RecPrint_result = call i1 %func(%Tree* %this, %Tree* %t)
+    store i1 %RecPrint_result, i1* %ntb
+    ;318 end statement: ntb = this.RecPrint(current_node);
+    ;319 start statement : return true;
+    ret i1 1
+    
+
+}
+
+define i1 @Tree_RecPrint(%Tree* %this, %Tree* %node) {
+init:
+    %node1 = alloca %Tree*
+    store %Tree* %node, %Tree** %node1
+    %ntb = alloca i1
+    ;323 start statement : {
+    ;324 start statement : boolean ntb
+    ;324 end statement: boolean ntb
+    ;326 start statement : if (node.GetHas_Left()) {
+    %t = load %Tree*, %Tree** %node1
+    %isNull = icmp eq %Tree* %t, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 326
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_66, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %vmt_ptr = getelementptr %Tree, %Tree* %t, i32 0, i32 0
+    %vmt = load %Tree_vmt*, %Tree_vmt** %vmt_ptr
+    %func_ptr = getelementptr %Tree_vmt, %Tree_vmt* %vmt, i32 0, i32 8
+    %func = load i1(%Tree*)*, i1(%Tree*)** %func_ptr
+    %GetHas_Left_result = call i1 %func(%Tree* %t)
+    br i1 %GetHas_Left_result, label %ifTrue, label %ifFalse
+    
+ifTrue:
+    ;326 start statement : {
+    ;329 start statement : ntb = this.RecPrint(node.GetLeft());
+    %isNull1 = icmp eq %Tree* %this, null
+    br i1 %isNull1, label %whenIsNull1, label %notNull1
+    
+whenIsNull1:
+    ; ERROR: Nullpointer exception in line 329
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_67, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull1:
+    %t1 = load %Tree*, %Tree** %node1
+    %isNull2 = icmp eq %Tree* %t1, null
+    br i1 %isNull2, label %whenIsNull2, label %notNull2
+    
+whenIsNull2:
+    ; ERROR: Nullpointer exception in line 329
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_67, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull2:
+    %vmt_ptr1 = getelementptr %Tree, %Tree* %t1, i32 0, i32 0
+    %vmt1 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr1
+    %func_ptr1 = getelementptr %Tree_vmt, %Tree_vmt* %vmt1, i32 0, i32 4
+    %func1 = load %Tree*(%Tree*)*, %Tree*(%Tree*)** %func_ptr1
+    %GetLeft_result = call %Tree* %func1(%Tree* %t1)
+    %vmt_ptr2 = getelementptr %Tree, %Tree* %this, i32 0, i32 0
+    %vmt2 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr2
+    %func_ptr2 = getelementptr %Tree_vmt, %Tree_vmt* %vmt2, i32 0, i32 19
+    %func2 = load i1(%Tree*, %Tree*)*, i1(%Tree*, %Tree*)** %func_ptr2
+    %RecPrint_result = call i1 %func2(%Tree* %this, %Tree* %GetLeft_result)
+    store i1 %RecPrint_result, i1* %ntb
+    ;329 end statement: ntb = this.RecPrint(node.GetLeft());
+    ;326 end statement: {
+    br label %endif
+    
+ifFalse:
+    ;331 start statement : ntb = true;
+    store i1 1, i1* %ntb
+    ;331 end statement: ntb = true;
+    br label %endif
+    
+endif:
+    ;326 end statement: if (node.GetHas_Left()) {
+    ;332 start statement : printInt(node.GetKey());
+    %t2 = load %Tree*, %Tree** %node1
+    %isNull3 = icmp eq %Tree* %t2, null
+    br i1 %isNull3, label %whenIsNull3, label %notNull3
+    
+whenIsNull3:
+    ; ERROR: Nullpointer exception in line 332
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_68, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull3:
+    %vmt_ptr3 = getelementptr %Tree, %Tree* %t2, i32 0, i32 0
+    %vmt3 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr3
+    %func_ptr3 = getelementptr %Tree_vmt, %Tree_vmt* %vmt3, i32 0, i32 5
+    %func3 = load i32(%Tree*)*, i32(%Tree*)** %func_ptr3
+    %GetKey_result = call i32 %func3(%Tree* %t2)
+    call void @print(i32 %GetKey_result)
+    ;332 end statement: printInt(node.GetKey());
+    ;333 start statement : if (node.GetHas_Right()) {
+    %t3 = load %Tree*, %Tree** %node1
+    %isNull4 = icmp eq %Tree* %t3, null
+    br i1 %isNull4, label %whenIsNull4, label %notNull4
+    
+whenIsNull4:
+    ; ERROR: Nullpointer exception in line 333
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_69, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull4:
+    %vmt_ptr4 = getelementptr %Tree, %Tree* %t3, i32 0, i32 0
+    %vmt4 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr4
+    %func_ptr4 = getelementptr %Tree_vmt, %Tree_vmt* %vmt4, i32 0, i32 7
+    %func4 = load i1(%Tree*)*, i1(%Tree*)** %func_ptr4
+    %GetHas_Right_result = call i1 %func4(%Tree* %t3)
+    br i1 %GetHas_Right_result, label %ifTrue1, label %ifFalse1
+    
+ifTrue1:
+    ;333 start statement : {
+    ;336 start statement : ntb = this.RecPrint(node.GetRight());
+    %isNull5 = icmp eq %Tree* %this, null
+    br i1 %isNull5, label %whenIsNull5, label %notNull5
+    
+whenIsNull5:
+    ; ERROR: Nullpointer exception in line 336
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_70, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull5:
+    %t4 = load %Tree*, %Tree** %node1
+    %isNull6 = icmp eq %Tree* %t4, null
+    br i1 %isNull6, label %whenIsNull6, label %notNull6
+    
+whenIsNull6:
+    ; ERROR: Nullpointer exception in line 336
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([35 x i8], [35 x i8]* @.print_message_70, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull6:
+    %vmt_ptr5 = getelementptr %Tree, %Tree* %t4, i32 0, i32 0
+    %vmt5 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr5
+    %func_ptr5 = getelementptr %Tree_vmt, %Tree_vmt* %vmt5, i32 0, i32 3
+    %func5 = load %Tree*(%Tree*)*, %Tree*(%Tree*)** %func_ptr5
+    %GetRight_result = call %Tree* %func5(%Tree* %t4)
+    %vmt_ptr6 = getelementptr %Tree, %Tree* %this, i32 0, i32 0
+    %vmt6 = load %Tree_vmt*, %Tree_vmt** %vmt_ptr6
+    %func_ptr6 = getelementptr %Tree_vmt, %Tree_vmt* %vmt6, i32 0, i32 19
+    %func6 = load i1(%Tree*, %Tree*)*, i1(%Tree*, %Tree*)** %func_ptr6
+    %RecPrint_result1 = call i1 %func6(%Tree* %this, %Tree* %GetRight_result)
+    store i1 %RecPrint_result1, i1* %ntb
+    ;336 end statement: ntb = this.RecPrint(node.GetRight());
+    ;333 end statement: {
+    br label %endif1
+    
+ifFalse1:
+    ;338 start statement : ntb = true;
+    store i1 1, i1* %ntb
+    ;338 end statement: ntb = true;
+    br label %endif1
+    
+endif1:
+    ;333 end statement: if (node.GetHas_Right()) {
+    ;339 start statement : return true;
+    ret i1 1
+    
+
+}
+
+define %Tree* @Tree_constructor() {
+init:
+    %address_this = call i8* @malloc(i32 ptrtoint (%Tree* getelementptr (%Tree, %Tree* null, i32 1) to i32))
+    %this = bitcast i8* %address_this to %Tree*
+    %ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 0
+    store %Tree_vmt* @Tree_vmt1, %Tree_vmt** %ptr
+    %field_ptr = getelementptr %Tree, %Tree* %this, i32 0, i32 1
+    store %Tree* null, %Tree** %field_ptr
+    %field_ptr1 = getelementptr %Tree, %Tree* %this, i32 0, i32 2
+    store %Tree* null, %Tree** %field_ptr1
+    %field_ptr2 = getelementptr %Tree, %Tree* %this, i32 0, i32 3
+    store i32 0, i32* %field_ptr2
+    %field_ptr3 = getelementptr %Tree, %Tree* %this, i32 0, i32 4
+    store i1 0, i1* %field_ptr3
+    %field_ptr4 = getelementptr %Tree, %Tree* %this, i32 0, i32 5
+    store i1 0, i1* %field_ptr4
+    %field_ptr5 = getelementptr %Tree, %Tree* %this, i32 0, i32 6
+    store %Tree* null, %Tree** %field_ptr5
+    ret %Tree* %this
+    
+
+}
+
+define i32 @main() {
+init:
+    ;1 start statement : {
+    ;2 start statement : printInt(new BT().Start());
+    %t = call %BT* @BT_constructor()
+    %isNull = icmp eq %BT* %t, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 2
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_71, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %vmt_ptr = getelementptr %BT, %BT* %t, i32 0, i32 0
+    %vmt = load %BT_vmt*, %BT_vmt** %vmt_ptr
+    %func_ptr = getelementptr %BT_vmt, %BT_vmt* %vmt, i32 0, i32 0
+    %func = load i32(%BT*)*, i32(%BT*)** %func_ptr
+    %Start_result = call i32 %func(%BT* %t)
+    call void @print(i32 %Start_result)
+    ;2 end statement: printInt(new BT().Start());
+    ;3 start statement : return 0;
+    ret i32 0
+    
+
+}
+
+
+declare noalias i8* @malloc(i32)
+
+declare i32 @printf(i8*, ...)
+
+declare void @exit(i32)
+
+@.printstr = private unnamed_addr constant [4 x i8] c"%d\0A\00", align 1
+define void @print(i32 %i) {
+    %temp = call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([4 x i8], [4 x i8]* @.printstr, i32 0, i32 0), i32 %i)
+    ret void
+}
@@ -0,0 +1,186 @@
+@.print_message_1 = private unnamed_addr constant [33 x i8] c"Nullpointer exception in line 4\0A\00", align 1
+@.print_message_2 = private unnamed_addr constant [33 x i8] c"Nullpointer exception in line 5\0A\00", align 1
+@.print_message_3 = private unnamed_addr constant [33 x i8] c"Nullpointer exception in line 6\0A\00", align 1
+@.print_message_4 = private unnamed_addr constant [33 x i8] c"Nullpointer exception in line 7\0A\00", align 1
+
+
+%A_vmt = type {
+     i32(%B*)*  ; B_pop
+    ,i32(%A*)*  ; A_print
+}
+
+%A = type {
+     %A_vmt*  ; vmt
+    ,i32  ; B_b
+    ,i32  ; A_a
+}
+
+%B_vmt = type {
+     i32(%B*)*  ; B_pop
+}
+
+%B = type {
+     %B_vmt*  ; vmt
+    ,i32  ; B_b
+}
+
+@A_vmt1 = constant %A_vmt  {
+    i32(%B*)* @B_pop,
+    i32(%A*)* @A_print
+}
+
+
+@B_vmt1 = constant %B_vmt  {
+    i32(%B*)* @B_pop
+}
+
+
+define i32 @B_pop(%B* %this) {
+init:
+    ;21 start statement : {
+    ;22 start statement : return 0;
+    ret i32 0
+    
+
+}
+
+define %B* @B_constructor() {
+init:
+    %address_this = call i8* @malloc(i32 ptrtoint (%B* getelementptr (%B, %B* null, i32 1) to i32))
+    %this = bitcast i8* %address_this to %B*
+    %ptr = getelementptr %B, %B* %this, i32 0, i32 0
+    store %B_vmt* @B_vmt1, %B_vmt** %ptr
+    %field_ptr = getelementptr %B, %B* %this, i32 0, i32 1
+    store i32 0, i32* %field_ptr
+    ret %B* %this
+    
+
+}
+
+define i32 @A_print(%A* %this) {
+init:
+    ;13 start statement : {
+    ;14 start statement : return 1;
+    ret i32 1
+    
+
+}
+
+define %A* @A_constructor() {
+init:
+    %address_this = call i8* @malloc(i32 ptrtoint (%A* getelementptr (%A, %A* null, i32 1) to i32))
+    %this = bitcast i8* %address_this to %A*
+    %ptr = getelementptr %A, %A* %this, i32 0, i32 0
+    store %A_vmt* @A_vmt1, %A_vmt** %ptr
+    %field_ptr = getelementptr %A, %A* %this, i32 0, i32 1
+    store i32 0, i32* %field_ptr
+    %field_ptr1 = getelementptr %A, %A* %this, i32 0, i32 2
+    store i32 0, i32* %field_ptr1
+    ret %A* %this
+    
+
+}
+
+define i32 @main() {
+init:
+    %a = alloca %A*
+    ;1 start statement : {
+    ;2 start statement : A a
+    ;2 end statement: A a
+    ;3 start statement : a = new A();
+    %t = call %A* @A_constructor()
+    store %A* %t, %A** %a
+    ;3 end statement: a = new A();
+    ;4 start statement : printInt(a.a);
+    %t1 = load %A*, %A** %a
+    %isNull = icmp eq %A* %t1, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 4
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_1, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %ptr = getelementptr %A, %A* %t1, i32 0, i32 2
+    %t2 = load i32, i32* %ptr
+    call void @print(i32 %t2)
+    ;4 end statement: printInt(a.a);
+    ;5 start statement : printInt(a.b);
+    %t3 = load %A*, %A** %a
+    %isNull1 = icmp eq %A* %t3, null
+    br i1 %isNull1, label %whenIsNull1, label %notNull1
+    
+whenIsNull1:
+    ; ERROR: Nullpointer exception in line 5
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_2, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull1:
+    %ptr1 = getelementptr %A, %A* %t3, i32 0, i32 1
+    %t4 = load i32, i32* %ptr1
+    call void @print(i32 %t4)
+    ;5 end statement: printInt(a.b);
+    ;6 start statement : printInt(a.print());
+    %t5 = load %A*, %A** %a
+    %isNull2 = icmp eq %A* %t5, null
+    br i1 %isNull2, label %whenIsNull2, label %notNull2
+    
+whenIsNull2:
+    ; ERROR: Nullpointer exception in line 6
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_3, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull2:
+    %vmt_ptr = getelementptr %A, %A* %t5, i32 0, i32 0
+    %vmt = load %A_vmt*, %A_vmt** %vmt_ptr
+    %func_ptr = getelementptr %A_vmt, %A_vmt* %vmt, i32 0, i32 1
+    %func = load i32(%A*)*, i32(%A*)** %func_ptr
+    %print_result = call i32 %func(%A* %t5)
+    call void @print(i32 %print_result)
+    ;6 end statement: printInt(a.print());
+    ;7 start statement : printInt(a.pop());
+    %t6 = load %A*, %A** %a
+    %isNull3 = icmp eq %A* %t6, null
+    br i1 %isNull3, label %whenIsNull3, label %notNull3
+    
+whenIsNull3:
+    ; ERROR: Nullpointer exception in line 7
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_4, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull3:
+    %castValue = bitcast %A* %t6 to %B*
+    %vmt_ptr1 = getelementptr %A, %A* %t6, i32 0, i32 0
+    %vmt1 = load %A_vmt*, %A_vmt** %vmt_ptr1
+    %func_ptr1 = getelementptr %A_vmt, %A_vmt* %vmt1, i32 0, i32 0
+    %func1 = load i32(%B*)*, i32(%B*)** %func_ptr1
+    %pop_result = call i32 %func1(%B* %castValue)
+    call void @print(i32 %pop_result)
+    ;7 end statement: printInt(a.pop());
+    ;8 start statement : return 0;
+    ret i32 0
+    
+
+}
+
+
+declare noalias i8* @malloc(i32)
+
+declare i32 @printf(i8*, ...)
+
+declare void @exit(i32)
+
+@.printstr = private unnamed_addr constant [4 x i8] c"%d\0A\00", align 1
+define void @print(i32 %i) {
+    %temp = call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([4 x i8], [4 x i8]* @.printstr, i32 0, i32 0), i32 %i)
+    ret void
+}
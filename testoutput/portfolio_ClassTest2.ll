@@ -0,0 +1,117 @@
+@.print_message_1 = private unnamed_addr constant [33 x i8] c"Nullpointer exception in line 4\0A\00", align 1
+
+
+%A_vmt = type {
+     %A*(%A*)*  ; A_print
+}
+
+%A = type {
+     %A_vmt*  ; vmt
+}
+
+%B_vmt = type {
+     %B*(%B*)*  ; B_print
+}
+
+%B = type {
+     %B_vmt*  ; vmt
+}
+
+@A_vmt1 = constant %A_vmt  {
+    %A*(%A*)* @A_print
+}
+
+
+@B_vmt1 = constant %B_vmt  {
+    %B*(%B*)* @B_print
+}
+
+
+define %B* @B_print(%B* %this) {
+init:
+    ;16 start statement : {
+    ;17 start statement : return this;
+    ret %B* %this
+    
+
+}
+
+define %B* @B_constructor() {
+init:
+    %address_this = call i8* @malloc(i32 ptrtoint (%B* getelementptr (%B, %B* null, i32 1) to i32))
+    %this = bitcast i8* %address_this to %B*
+    %ptr = getelementptr %B, %B* %this, i32 0, i32 0
+    store %B_vmt* @B_vmt1, %B_vmt** %ptr
+    ret %B* %this
+    
+
+}
+
+define %A* @A_print(%A* %this) {
+init:
+    ;9 start statement : {
+    ;10 start statement : return this;
+    ret %A* %this
+    
+
+}
+
+define %A* @A_constructor() {
+init:
+    %address_this = call i8* @malloc(i32 ptrtoint (%A* getelementptr (%A, %A* null, i32 1) to i32))
+    %this = bitcast i8* %address_this to %A*
+    %ptr = getelementptr %A, %A* %this, i32 0, i32 0
+    store %A_vmt* @A_vmt1, %A_vmt** %ptr
+    ret %A* %this
+    
+
+}
+
+define i32 @main() {
+init:
+    %a = alloca %A*
+    ;1 start statement : {
+    ;2 start statement : A a
+    ;2 end statement: A a
+    ;3 start statement : a = new A();
+    %t = call %A* @A_constructor()
+    store %A* %t, %A** %a
+    ;3 end statement: a = new A();
+    ;4 start statement : a = a.print();
+    %t1 = load %A*, %A** %a
+    %isNull = icmp eq %A* %t1, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 4
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_1, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %vmt_ptr = getelementptr %A, %A* %t1, i32 0, i32 0
+    %vmt = load %A_vmt*, %A_vmt** %vmt_ptr
+    %func_ptr = getelementptr %A_vmt, %A_vmt* %vmt, i32 0, i32 0
+    %func = load %A*(%A*)*, %A*(%A*)** %func_ptr
+    %print_result = call %A* %func(%A* %t1)
+    store %A* %print_result, %A** %a
+    ;4 end statement: a = a.print();
+    ;5 start statement : return 0;
+    ret i32 0
+    
+
+}
+
+
+declare noalias i8* @malloc(i32)
+
+declare i32 @printf(i8*, ...)
+
+declare void @exit(i32)
+
+@.printstr = private unnamed_addr constant [4 x i8] c"%d\0A\00", align 1
+define void @print(i32 %i) {
+    %temp = call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([4 x i8], [4 x i8]* @.printstr, i32 0, i32 0), i32 %i)
+    ret void
+}
@@ -0,0 +1,146 @@
+@.print_message_1 = private unnamed_addr constant [33 x i8] c"Nullpointer exception in line 4\0A\00", align 1
+@.print_message_2 = private unnamed_addr constant [33 x i8] c"Nullpointer exception in line 5\0A\00", align 1
+@.print_message_3 = private unnamed_addr constant [33 x i8] c"Nullpointer exception in line 8\0A\00", align 1
+
+
+%A_vmt = type {
+}
+
+%A = type {
+     %A_vmt*  ; vmt
+    ,i32  ; B_a
+    ,i32  ; A_a
+}
+
+%B_vmt = type {
+}
+
+%B = type {
+     %B_vmt*  ; vmt
+    ,i32  ; B_a
+}
+
+@A_vmt1 = constant %A_vmt  {
+    
+}
+
+
+@B_vmt1 = constant %B_vmt  {
+    
+}
+
+
+define %B* @B_constructor() {
+init:
+    %address_this = call i8* @malloc(i32 ptrtoint (%B* getelementptr (%B, %B* null, i32 1) to i32))
+    %this = bitcast i8* %address_this to %B*
+    %ptr = getelementptr %B, %B* %this, i32 0, i32 0
+    store %B_vmt* @B_vmt1, %B_vmt** %ptr
+    %field_ptr = getelementptr %B, %B* %this, i32 0, i32 1
+    store i32 0, i32* %field_ptr
+    ret %B* %this
+    
+
+}
+
+define %A* @A_constructor() {
+init:
+    %address_this = call i8* @malloc(i32 ptrtoint (%A* getelementptr (%A, %A* null, i32 1) to i32))
+    %this = bitcast i8* %address_this to %A*
+    %ptr = getelementptr %A, %A* %this, i32 0, i32 0
+    store %A_vmt* @A_vmt1, %A_vmt** %ptr
+    %field_ptr = getelementptr %A, %A* %this, i32 0, i32 1
+    store i32 0, i32* %field_ptr
+    %field_ptr1 = getelementptr %A, %A* %this, i32 0, i32 2
+    store i32 0, i32* %field_ptr1
+    ret %A* %this
+    
+
+}
+
+define i32 @main() {
+init:
+    %a = alloca %A*
+    %b = alloca %B*
+    ;1 start statement : {
+    ;2 start statement : A a
+    ;2 end statement: A a
+    ;3 start statement : a = new A();
+    %t = call %A* @A_constructor()
+    store %A* %t, %A** %a
+    ;3 end statement: a = new A();
+    ;4 start statement : a.a = 1;
+    %t1 = load %A*, %A** %a
+    %isNull = icmp eq %A* %t1, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 4
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_1, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %ptr = getelementptr %A, %A* %t1, i32 0, i32 2
+    store i32 1, i32* %ptr
+    ;4 end statement: a.a = 1;
+    ;5 start statement : printInt(a.a);
+    %t2 = load %A*, %A** %a
+    %isNull1 = icmp eq %A* %t2, null
+    br i1 %isNull1, label %whenIsNull1, label %notNull1
+    
+whenIsNull1:
+    ; ERROR: Nullpointer exception in line 5
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_2, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull1:
+    %ptr1 = getelementptr %A, %A* %t2, i32 0, i32 2
+    %t3 = load i32, i32* %ptr1
+    call void @print(i32 %t3)
+    ;5 end statement: printInt(a.a);
+    ;6 start statement : B b
+    ;6 end statement: B b
+    ;7 start statement : b = a;
+    %t4 = load %A*, %A** %a
+    %castValue = bitcast %A* %t4 to %B*
+    store %B* %castValue, %B** %b
+    ;7 end statement: b = a;
+    ;8 start statement : printInt(b.a);
+    %t5 = load %B*, %B** %b
+    %isNull2 = icmp eq %B* %t5, null
+    br i1 %isNull2, label %whenIsNull2, label %notNull2
+    
+whenIsNull2:
+    ; ERROR: Nullpointer exception in line 8
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_3, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull2:
+    %ptr2 = getelementptr %B, %B* %t5, i32 0, i32 1
+    %t6 = load i32, i32* %ptr2
+    call void @print(i32 %t6)
+    ;8 end statement: printInt(b.a);
+    ;9 start statement : return 0;
+    ret i32 0
+    
+
+}
+
+
+declare noalias i8* @malloc(i32)
+
+declare i32 @printf(i8*, ...)
+
+declare void @exit(i32)
+
+@.printstr = private unnamed_addr constant [4 x i8] c"%d\0A\00", align 1
+define void @print(i32 %i) {
+    %temp = call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([4 x i8], [4 x i8]* @.printstr, i32 0, i32 0), i32 %i)
+    ret void
+}
@@ -0,0 +1,167 @@
+@.print_message_1 = private unnamed_addr constant [33 x i8] c"Nullpointer exception in line 4\0A\00", align 1
+@.print_message_2 = private unnamed_addr constant [37 x i8] c"Index out of bounds error in line 4\0A\00", align 1
+@.print_message_3 = private unnamed_addr constant [29 x i8] c"Array Size must be positive\0A\00", align 1
+
+
+%A_vmt = type {
+     i32(%A*)*  ; A_says
+}
+
+%A = type {
+     %A_vmt*  ; vmt
+    ,i1  ; A_is
+    ,%"array_%A*"*  ; A_as
+}
+
+%"array_%A*" = type {
+     i32  ; length
+    ,[0 x %A*]  ; data
+}
+
+@A_vmt1 = constant %A_vmt  {
+    i32(%A*)* @A_says
+}
+
+
+define i32 @A_says(%A* %this) {
+init:
+    ;12 start statement : {
+    ;13 start statement : return 1;
+    ret i32 1
+    
+
+}
+
+define %A* @A_constructor() {
+init:
+    %address_this = call i8* @malloc(i32 ptrtoint (%A* getelementptr (%A, %A* null, i32 1) to i32))
+    %this = bitcast i8* %address_this to %A*
+    %ptr = getelementptr %A, %A* %this, i32 0, i32 0
+    store %A_vmt* @A_vmt1, %A_vmt** %ptr
+    %field_ptr = getelementptr %A, %A* %this, i32 0, i32 1
+    store i1 0, i1* %field_ptr
+    %field_ptr1 = getelementptr %A, %A* %this, i32 0, i32 2
+    store %"array_%A*"* null, %"array_%A*"** %field_ptr1
+    ret %A* %this
+    
+
+}
+
+define i32 @main() {
+init:
+    %as = alloca %"array_%A*"*
+    ;1 start statement : {
+    ;2 start statement : A[] as
+    ;2 end statement: A[] as
+    ;3 start statement : as = (new A[10]);
+    %newArray = call %"array_%A*"* @newArray_A_ptr(i32 10)
+    store %"array_%A*"* %newArray, %"array_%A*"** %as
+    ;3 end statement: as = (new A[10]);
+    ;4 start statement : printInt(as[0].says());
+    %t = load %"array_%A*"*, %"array_%A*"** %as
+    %isNull = icmp eq %"array_%A*"* %t, null
+    br i1 %isNull, label %whenIsNull, label %notNull
+    
+whenIsNull:
+    ; ERROR: Nullpointer exception in line 4
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_1, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull:
+    %length_addr = getelementptr %"array_%A*", %"array_%A*"* %t, i32 0, i32 0
+    %len = load i32, i32* %length_addr
+    %smallerZero = icmp slt i32 0, 0
+    %lenMinusOne = sub i32 %len, 1
+    %greaterEqualLen = icmp slt i32 %lenMinusOne, 0
+    %outOfBounds = or i1 %smallerZero, %greaterEqualLen
+    br i1 %outOfBounds, label %outOfBounds1, label %indexInRange
+    
+outOfBounds1:
+    ; ERROR: Index out of bounds error in line 4
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([37 x i8], [37 x i8]* @.print_message_2, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+indexInRange:
+    %indexAddr = getelementptr %"array_%A*", %"array_%A*"* %t, i32 0, i32 1, i32 0
+    %t1 = load %A*, %A** %indexAddr
+    %isNull1 = icmp eq %A* %t1, null
+    br i1 %isNull1, label %whenIsNull1, label %notNull1
+    
+whenIsNull1:
+    ; ERROR: Nullpointer exception in line 4
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([33 x i8], [33 x i8]* @.print_message_1, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+notNull1:
+    %vmt_ptr = getelementptr %A, %A* %t1, i32 0, i32 0
+    %vmt = load %A_vmt*, %A_vmt** %vmt_ptr
+    %func_ptr = getelementptr %A_vmt, %A_vmt* %vmt, i32 0, i32 0
+    %func = load i32(%A*)*, i32(%A*)** %func_ptr
+    %says_result = call i32 %func(%A* %t1)
+    call void @print(i32 %says_result)
+    ;4 end statement: printInt(as[0].says());
+    ;5 start statement : return 0;
+    ret i32 0
+    
+
+}
+
+define %"array_%A*"* @newArray_A_ptr(i32 %size) {
+init:
+    %sizeLessThanZero = icmp slt i32 %size, 0
+    br i1 %sizeLessThanZero, label %negativeSize, label %goodSize
+    
+negativeSize:
+    ; ERROR: Array Size must be positive
+    call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([29 x i8], [29 x i8]* @.print_message_3, i32 0, i32 0))
+    call void @exit(i32 222)
+    unreachable
+
+    
+goodSize:
+    %arraySizeInBytes = mul i32 %size, 8
+    %arraySizeWitLen = add i32 %arraySizeInBytes, 4
+    %mallocRes = call i8* @malloc(i32 %arraySizeWitLen)
+    %newArray = bitcast i8* %mallocRes to %"array_%A*"*
+    %sizeAddr = getelementptr %"array_%A*", %"array_%A*"* %newArray, i32 0, i32 0
+    store i32 %size, i32* %sizeAddr
+    %iVar = alloca i32
+    store i32 0, i32* %iVar
+    br label %loopStart
+    
+loopStart:
+    %i = load i32, i32* %iVar
+    %smallerSize = icmp slt i32 %i, %size
+    br i1 %smallerSize, label %loopBody, label %loopEnd
+    
+loopBody:
+    %iAddr = getelementptr %"array_%A*", %"array_%A*"* %newArray, i32 0, i32 1, i32 %i
+    store %A* null, %A** %iAddr
+    %nextI = add i32 %i, 1
+    store i32 %nextI, i32* %iVar
+    br label %loopStart
+    
+loopEnd:
+    ret %"array_%A*"* %newArray
+    
+
+}
+
+
+declare noalias i8* @malloc(i32)
+
+declare i32 @printf(i8*, ...)
+
+declare void @exit(i32)
+
+@.printstr = private unnamed_addr constant [4 x i8] c"%d\0A\00", align 1
+define void @print(i32 %i) {
+    %temp = call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([4 x i8], [4 x i8]* @.printstr, i32 0, i32 0), i32 %i)
+    ret void
+}